@@ -0,0 +1,113 @@
+package melerospaw.memoryutil;
+
+import android.app.Application;
+import android.test.ApplicationTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import org.junit.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Tests that {@link Serializers#COMPACT} reads back what it writes and rejects what it can't.
+ */
+public class CompactSerializerTest extends ApplicationTestCase<Application> {
+
+    public CompactSerializerTest() {
+        super(Application.class);
+    }
+
+    @SmallTest
+    public void testScalars() throws Exception {
+        Object[] values = {true, false, (byte) -7, Short.MIN_VALUE, 'ñ', Integer.MIN_VALUE, -1,
+                Long.MAX_VALUE, 1.5f, Double.NaN, "", "Ñandú, camión, €"};
+        for (Object value : values) {
+            assertRoundTrip(value);
+        }
+    }
+
+    @SmallTest
+    public void testByteArray() throws Exception {
+        byte[] bytes = new byte[20 * 1024];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        Assert.assertTrue(Arrays.equals(bytes, (byte[]) roundTrip(bytes)));
+    }
+
+    @SmallTest
+    public void testCollections() throws Exception {
+
+        List<Object> list = new ArrayList<>();
+        list.add(null);
+        list.add(42L);
+        list.add(new LinkedList<>(Arrays.asList("a", "b")));
+        list.add(new TreeSet<>(Arrays.asList(3, 1, 2)));
+        list.add(new LinkedHashSet<>(Arrays.asList("z", "y")));
+        list.add(new HashSet<>());
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("list", list);
+        map.put("tree", new TreeMap<>(Collections.singletonMap("key", "value")));
+        map.put("hash", new HashMap<String, Object>());
+
+        assertRoundTrip(map);
+    }
+
+    @SmallTest
+    public void testCollectionAppearingTwice() {
+        List<Object> inner = new ArrayList<>();
+        List<Object> outer = new ArrayList<>();
+        outer.add(inner);
+        outer.add(inner);
+        assertRejected(outer);
+    }
+
+    @SmallTest
+    public void testCollectionContainingItself() {
+        List<Object> list = new ArrayList<>();
+        list.add(list);
+        assertRejected(list);
+    }
+
+    @SmallTest
+    public void testUnsupportedClass() {
+        assertRejected(new ArrayList<>(Arrays.asList(new Date())));
+    }
+
+    private static void assertRoundTrip(Object value) throws IOException {
+        Object read = roundTrip(value);
+        Assert.assertEquals(value, read);
+        Assert.assertEquals(value.getClass(), read.getClass());
+    }
+
+    private static Object roundTrip(Object value) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Serializers.COMPACT.write(value, output);
+        return Serializers.COMPACT.read(new ByteArrayInputStream(output.toByteArray()));
+    }
+
+    private static void assertRejected(Object value) {
+        try {
+            Serializers.COMPACT.write(value, new ByteArrayOutputStream());
+            Assert.fail("Wrote " + value.getClass().getName());
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package melerospaw.memoryutil;
+
+import android.app.Application;
+import android.test.ApplicationTestCase;
+import android.test.suitebuilder.annotation.LargeTest;
+import android.util.Log;
+
+import org.junit.Assert;
+
+import java.io.File;
+import java.nio.charset.Charset;
+
+/**
+ * Compares {@link MemoryUtil#loadTextFile(String)}, which reads line by line, with the bulk
+ * {@link MemoryUtil#loadTextFile(String, Charset)}. Timings are logged with tag
+ * {@value #TAG}.
+ */
+public class LoadTextFileBenchmark extends ApplicationTestCase<Application> {
+
+    private static final String TAG = "LoadTextFileBenchmark";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int ROUNDS = 20;
+
+    public LoadTextFileBenchmark() {
+        super(Application.class);
+    }
+
+    @LargeTest
+    public void testSmallJsonFile() throws Exception {
+        benchmark("small.json", createJson(100));
+    }
+
+    @LargeTest
+    public void testMediumJsonFile() throws Exception {
+        benchmark("medium.json", createJson(20000));
+    }
+
+    @LargeTest
+    public void testNonAsciiFile() throws Exception {
+        benchmark("non_ascii.txt", createJson(20000) + "Ñandú, camión, €\n");
+    }
+
+    private void benchmark(String fileName, String text) throws Exception {
+
+        File file = new File(getContext().getCacheDir(), fileName);
+        MemoryUtil.setLoggingEnabled(false);
+        Assert.assertTrue(MemoryUtil.saveByteArray(text.getBytes(UTF_8), file.getPath())
+                .isSuccessful());
+
+        try {
+            Assert.assertEquals(text, MemoryUtil.loadTextFile(file.getPath(), UTF_8).getResult());
+
+            for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+                MemoryUtil.loadTextFile(file.getPath());
+                MemoryUtil.loadTextFile(file.getPath(), UTF_8);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                MemoryUtil.loadTextFile(file.getPath());
+            }
+            long lineByLine = (System.nanoTime() - start) / ROUNDS;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                MemoryUtil.loadTextFile(file.getPath(), UTF_8);
+            }
+            long bulk = (System.nanoTime() - start) / ROUNDS;
+
+            Log.i(TAG, fileName + " (" + file.length() + " bytes): line by line "
+                    + lineByLine / 1000 + " us, bulk " + bulk / 1000 + " us");
+        } finally {
+            MemoryUtil.setLoggingEnabled(true);
+            file.delete();
+        }
+    }
+
+    private static String createJson(int entries) {
+        StringBuilder json = new StringBuilder("[\r\n");
+        for (int i = 0; i < entries; i++) {
+            json.append("  {\"id\": ").append(i).append(", \"name\": \"entry ").append(i)
+                    .append("\"},\r\n");
+        }
+        return json.append("]").toString();
+    }
+}
@@ -0,0 +1,58 @@
+package melerospaw.memoryutil;
+
+import android.app.Application;
+import android.test.ApplicationTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import org.junit.Assert;
+
+import java.io.File;
+import java.nio.charset.Charset;
+
+/**
+ * Tests {@link MemoryUtil#loadTextFileMapped(String, Charset, TextChunkCallback)}.
+ */
+public class LoadTextFileMappedTest extends ApplicationTestCase<Application> {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    public LoadTextFileMappedTest() {
+        super(Application.class);
+    }
+
+    @SmallTest
+    public void testEmptyFile() throws Exception {
+        Assert.assertEquals("", load("empty.txt", ""));
+    }
+
+    @SmallTest
+    public void testNonAsciiFile() throws Exception {
+        String text = "Ñandú, camión, €\n";
+        Assert.assertEquals(text, load("non_ascii.txt", text));
+    }
+
+    private String load(String fileName, String text) throws Exception {
+
+        File file = new File(getContext().getCacheDir(), fileName);
+        final StringBuilder loaded = new StringBuilder();
+        Assert.assertTrue(MemoryUtil.saveByteArray(text.getBytes(UTF_8), file.getPath())
+                .isSuccessful());
+
+        try {
+            Result<Long> result = MemoryUtil.loadTextFileMapped(file.getPath(), UTF_8,
+                    new TextChunkCallback() {
+                        @Override
+                        public boolean onChunk(CharSequence chunk) {
+                            loaded.append(chunk);
+                            return true;
+                        }
+                    });
+            Assert.assertTrue(result.isSuccessful());
+            Assert.assertEquals(text.length(), result.getResult().longValue());
+        } finally {
+            file.delete();
+        }
+
+        return loaded.toString();
+    }
+}
@@ -0,0 +1,155 @@
+package melerospaw.memoryutil;
+
+import android.app.Application;
+import android.test.ApplicationTestCase;
+import android.test.suitebuilder.annotation.LargeTest;
+import android.util.Log;
+
+import org.junit.Assert;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Compares the size and the load time of objects saved by {@link MemoryUtil#saveObject(Object,
+ * String, WriteOptions)} with Java serialization and the compact serializer, uncompressed and at
+ * several compression levels, against unbuffered Java serialization as it was done before.
+ * Results are logged with tag {@value #TAG}.
+ */
+public class ObjectIoBenchmark extends ApplicationTestCase<Application> {
+
+    private static final String TAG = "ObjectIoBenchmark";
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int ROUNDS = 10;
+    private static final int[] LEVELS = {WriteOptions.NO_COMPRESSION, Deflater.BEST_SPEED,
+            Deflater.DEFAULT_COMPRESSION, Deflater.BEST_COMPRESSION};
+
+    public ObjectIoBenchmark() {
+        super(Application.class);
+    }
+
+    @LargeTest
+    public void testSerializableObjects() throws Exception {
+        ArrayList<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            contacts.add(new Contact(i));
+        }
+        benchmark("contacts", contacts);
+    }
+
+    @LargeTest
+    public void testCollections() throws Exception {
+        HashMap<String, Object> settings = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            List<Object> values = new ArrayList<>();
+            values.add(i);
+            values.add("value " + i);
+            values.add(i % 3 == 0);
+            values.add(i * 0.25);
+            settings.put("key." + i, values);
+        }
+        benchmark("collections", settings);
+    }
+
+    private void benchmark(String name, Object object) throws Exception {
+
+        File file = new File(getContext().getCacheDir(), name + ".bin");
+        MemoryUtil.setLoggingEnabled(false);
+
+        try {
+            long unbuffered = timeUnbufferedLoad(object, file);
+            Log.i(TAG, name + " unbuffered java: " + file.length() + " bytes, "
+                    + unbuffered / 1000 + " us");
+
+            for (boolean compact : new boolean[]{false, true}) {
+                Serializers.setCompactByDefault(compact);
+                for (int level : LEVELS) {
+                    WriteOptions options = new WriteOptions.Builder()
+                            .compressionLevel(level)
+                            .build();
+                    Assert.assertTrue(MemoryUtil.saveObject(object, file.getPath(), options)
+                            .isSuccessful());
+                    Assert.assertEquals(object, MemoryUtil.loadObject(file.getPath(),
+                            object.getClass()).getResult());
+
+                    long load = timeLoad(file);
+                    Log.i(TAG, name + (compact ? " compact" : " java") + " level " + level
+                            + ": " + file.length() + " bytes, " + load / 1000 + " us");
+                }
+            }
+        } finally {
+            Serializers.setCompactByDefault(false);
+            MemoryUtil.setLoggingEnabled(true);
+            file.delete();
+        }
+    }
+
+    private static long timeLoad(File file) {
+
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            MemoryUtil.loadObject(file.getPath(), Object.class);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            MemoryUtil.loadObject(file.getPath(), Object.class);
+        }
+        return (System.nanoTime() - start) / ROUNDS;
+    }
+
+    private static long timeUnbufferedLoad(Object object, File file) throws Exception {
+
+        ObjectOutputStream output = new ObjectOutputStream(new FileOutputStream(file));
+        output.writeObject(object);
+        output.close();
+
+        long start = 0;
+        for (int i = 0; i < WARM_UP_ROUNDS + ROUNDS; i++) {
+            if (i == WARM_UP_ROUNDS) {
+                start = System.nanoTime();
+            }
+            ObjectInputStream input = new ObjectInputStream(new FileInputStream(file));
+            input.readObject();
+            input.close();
+        }
+        return (System.nanoTime() - start) / ROUNDS;
+    }
+
+    private static class Contact implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long id;
+        private final String name;
+        private final String email;
+        private final int[] phones;
+
+        Contact(int id) {
+            this.id = id;
+            this.name = "Contact " + id;
+            this.email = "contact" + id + "@example.com";
+            this.phones = new int[]{600000000 + id, 900000000 + id};
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Contact && ((Contact) other).id == id
+                    && ((Contact) other).name.equals(name)
+                    && ((Contact) other).email.equals(email);
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) id;
+        }
+    }
+}
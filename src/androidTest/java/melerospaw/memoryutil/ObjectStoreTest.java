@@ -0,0 +1,172 @@
+package melerospaw.memoryutil;
+
+import android.app.Application;
+import android.test.ApplicationTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import org.junit.Assert;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+
+/**
+ * Tests that an {@link ObjectStore} keeps its objects across compactions, reopens and writes
+ * interrupted by a crash.
+ */
+public class ObjectStoreTest extends ApplicationTestCase<Application> {
+
+    public ObjectStoreTest() {
+        super(Application.class);
+    }
+
+    @SmallTest
+    public void testPutRemoveCompactReopen() throws Exception {
+
+        File folder = newFolder("store");
+        ObjectStore store = open(folder);
+        try {
+            Assert.assertTrue(store.put("a", "first").isSuccessful());
+            Assert.assertTrue(store.put("b", "second").isSuccessful());
+            Assert.assertTrue(store.put("a", "third").isSuccessful());
+            Assert.assertTrue(store.remove("b").getResult());
+            Assert.assertTrue(store.compact().isSuccessful());
+            Assert.assertEquals(0, store.getObsoleteSize());
+            Assert.assertEquals("third", store.<String>get("a").getResult());
+            Assert.assertFalse(store.contains("b"));
+        } finally {
+            store.close();
+        }
+
+        store = open(folder);
+        try {
+            Assert.assertEquals(1, store.size());
+            Assert.assertEquals("third", store.<String>get("a").getResult());
+            Assert.assertFalse(store.contains("b"));
+        } finally {
+            store.close();
+            delete(folder);
+        }
+    }
+
+    @SmallTest
+    public void testTruncatedLastRecord() throws Exception {
+
+        File folder = newFolder("truncated");
+        ObjectStore store = open(folder);
+        try {
+            Assert.assertTrue(store.put("a", "first").isSuccessful());
+            Assert.assertTrue(store.put("b", "second").isSuccessful());
+        } finally {
+            store.close();
+        }
+
+        // Cut the last record as if the process died while appending it
+        RandomAccessFile segment = new RandomAccessFile(lastSegment(folder), "rw");
+        try {
+            segment.setLength(segment.length() - 3);
+        } finally {
+            segment.close();
+        }
+
+        store = open(folder);
+        try {
+            Assert.assertEquals("first", store.<String>get("a").getResult());
+            Assert.assertFalse(store.contains("b"));
+            Assert.assertTrue(store.put("c", "third").isSuccessful());
+        } finally {
+            store.close();
+        }
+
+        store = open(folder);
+        try {
+            Assert.assertEquals(2, store.size());
+            Assert.assertEquals("third", store.<String>get("c").getResult());
+        } finally {
+            store.close();
+            delete(folder);
+        }
+    }
+
+    @SmallTest
+    public void testLeftoversOfInterruptedCompaction() throws Exception {
+
+        File staleFolder = newFolder("stale");
+        ObjectStore store = open(staleFolder);
+        try {
+            Assert.assertTrue(store.put("stale", "stale").isSuccessful());
+        } finally {
+            store.close();
+        }
+
+        // Compacting twice leaves a compacted segment with id 2 after segment 1 is deleted
+        File folder = newFolder("compacted");
+        store = open(folder);
+        try {
+            Assert.assertTrue(store.put("a", "first").isSuccessful());
+            Assert.assertTrue(store.compact().isSuccessful());
+            Assert.assertTrue(store.put("b", "second").isSuccessful());
+            Assert.assertTrue(store.compact().isSuccessful());
+        } finally {
+            store.close();
+        }
+
+        File oldSegment = new File(folder, StoreSegment.getFileName(1));
+        File temporaryFile = new File(folder, StoreSegment.getFileName(3) + ".tmp");
+        Assert.assertFalse(oldSegment.exists());
+        Assert.assertTrue(new File(staleFolder, StoreSegment.getFileName(1)).renameTo(oldSegment));
+        FileOutputStream outputStream = new FileOutputStream(temporaryFile);
+        try {
+            outputStream.write(new byte[]{1, 2, 3});
+        } finally {
+            outputStream.close();
+        }
+
+        store = open(folder);
+        try {
+            Assert.assertFalse(oldSegment.exists());
+            Assert.assertFalse(temporaryFile.exists());
+            Assert.assertEquals(2, store.size());
+            Assert.assertFalse(store.contains("stale"));
+            Assert.assertEquals("first", store.<String>get("a").getResult());
+            Assert.assertEquals("second", store.<String>get("b").getResult());
+        } finally {
+            store.close();
+            delete(folder);
+            delete(staleFolder);
+        }
+    }
+
+    private ObjectStore open(File folder) {
+        Result<ObjectStore> result = MemoryUtil.openObjectStore(folder.getPath());
+        Assert.assertTrue(result.isSuccessful());
+        return result.getResult();
+    }
+
+    private File newFolder(String name) {
+        File folder = new File(getContext().getCacheDir(), "object_store_test_" + name);
+        delete(folder);
+        Assert.assertTrue(folder.mkdirs());
+        return folder;
+    }
+
+    private static File lastSegment(File folder) {
+        File last = null;
+        for (File file : folder.listFiles()) {
+            if (last == null || StoreSegment.getId(file) > StoreSegment.getId(last)) {
+                last = file;
+            }
+        }
+        return last;
+    }
+
+    private static void delete(File folder) {
+        File[] files = folder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        folder.delete();
+    }
+}
@@ -0,0 +1,280 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.nio.charset.Charset;
+
+/**
+ * Tells a {@link TextAppender} how to write. Create it with a {@link Builder}:
+ * <pre>{@code
+ * AppenderOptions options = new AppenderOptions.Builder()
+ *         .flushSize(32 * 1024)
+ *         .flushInterval(500)
+ *         .build();
+ * TextAppender appender = MemoryUtil.openTextAppender(path, options).getResult();
+ * }</pre>
+ * <p>The file can also be rotated when it reaches a size or an age, keeping the last
+ * generations as {@code name.1}, {@code name.2} and so on:</p>
+ * <pre>{@code
+ * AppenderOptions options = new AppenderOptions.Builder()
+ *         .rotateSize(1024 * 1024)
+ *         .generations(3)
+ *         .compressGenerations(true)
+ *         .build();
+ * }</pre>
+ * {@code AppenderOptions} are immutable, so the same instance can be shared by any amount of
+ * appenders.
+ */
+public class AppenderOptions {
+
+    /** Default amount of pending bytes that makes the appender write them. */
+    public static final int DEFAULT_FLUSH_SIZE = 64 * 1024;
+
+    /** Default milliseconds pending bytes wait before being written. */
+    public static final long DEFAULT_FLUSH_INTERVAL = 1000;
+
+    /** Default amount of rotated generations kept. */
+    public static final int DEFAULT_GENERATIONS = 5;
+
+    /** Options used when none are specified. */
+    public static final AppenderOptions DEFAULT = new Builder().build();
+
+    private final int flushSize;
+    private final long flushInterval;
+    private final Charset charset;
+    private final WriteOptions.Durability durability;
+    private final long rotateSize;
+    private final long rotateAge;
+    private final int generations;
+    private final boolean compressGenerations;
+
+
+    private AppenderOptions(Builder builder) {
+        this.flushSize = builder.flushSize;
+        this.flushInterval = builder.flushInterval;
+        this.charset = builder.charset;
+        this.durability = builder.durability;
+        this.rotateSize = builder.rotateSize;
+        this.rotateAge = builder.rotateAge;
+        this.generations = builder.generations;
+        this.compressGenerations = builder.compressGenerations;
+    }
+
+
+    /**
+     * Returns the amount of pending bytes that makes the appender write them.
+     */
+    public int getFlushSize() {
+        return flushSize;
+    }
+
+
+    /**
+     * Returns the maximum milliseconds pending bytes wait before being written, or 0 if they are
+     * only written when they reach the flush size.
+     */
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+
+    /**
+     * Returns the charset used to encode the text.
+     */
+    @NonNull
+    public Charset getCharset() {
+        return charset;
+    }
+
+
+    /**
+     * Returns the durability guaranteed every time pending bytes are written.
+     */
+    @NonNull
+    public WriteOptions.Durability getDurability() {
+        return durability;
+    }
+
+
+    /**
+     * Returns the size in bytes the file is not allowed to exceed before being rotated, or 0 if
+     * it's not rotated by size.
+     */
+    public long getRotateSize() {
+        return rotateSize;
+    }
+
+
+    /**
+     * Returns the milliseconds after which the file is rotated, or 0 if it's not rotated by age.
+     */
+    public long getRotateAge() {
+        return rotateAge;
+    }
+
+
+    /**
+     * Returns the amount of rotated generations kept.
+     */
+    public int getGenerations() {
+        return generations;
+    }
+
+
+    /**
+     * Returns whether rotated generations are gzipped.
+     */
+    public boolean shouldCompressGenerations() {
+        return compressGenerations;
+    }
+
+
+    /**
+     * Returns whether the file is rotated at all.
+     */
+    boolean isRotating() {
+        return rotateSize > 0 || rotateAge > 0;
+    }
+
+
+    public static class Builder {
+
+        private int flushSize = DEFAULT_FLUSH_SIZE;
+        private long flushInterval = DEFAULT_FLUSH_INTERVAL;
+        private Charset charset = StringUtil.UTF_8;
+        private WriteOptions.Durability durability = WriteOptions.Durability.NONE;
+        private long rotateSize;
+        private long rotateAge;
+        private int generations = DEFAULT_GENERATIONS;
+        private boolean compressGenerations;
+
+
+        /**
+         * Creates a builder with the values of {@link AppenderOptions#DEFAULT}.
+         */
+        public Builder() {
+        }
+
+
+        /**
+         * Creates a builder with the values of {@code options}.
+         *
+         * @param options Options to start from.
+         */
+        public Builder(@NonNull AppenderOptions options) {
+            this.flushSize = options.flushSize;
+            this.flushInterval = options.flushInterval;
+            this.charset = options.charset;
+            this.durability = options.durability;
+            this.rotateSize = options.rotateSize;
+            this.rotateAge = options.rotateAge;
+            this.generations = options.generations;
+            this.compressGenerations = options.compressGenerations;
+        }
+
+
+        /**
+         * Sets the amount of pending bytes that makes the appender write them in a single write.
+         * Bigger sizes mean fewer writes but more text lost if the app dies.
+         *
+         * @param bytes The size. It's {@link #DEFAULT_FLUSH_SIZE} by default. Values lower than 1
+         *              are treated as 1, which writes every text as soon as it's appended.
+         */
+        public Builder flushSize(int bytes) {
+            this.flushSize = Math.max(1, bytes);
+            return this;
+        }
+
+
+        /**
+         * Sets the maximum milliseconds pending bytes wait before being written, so that text
+         * appended slowly doesn't stay in memory for long.
+         *
+         * @param milliseconds The interval. It's {@link #DEFAULT_FLUSH_INTERVAL} by default.
+         *                     Pass 0 to write only when the flush size is reached or
+         *                     {@link TextAppender#flush()} is called.
+         */
+        public Builder flushInterval(long milliseconds) {
+            this.flushInterval = Math.max(0, milliseconds);
+            return this;
+        }
+
+
+        /**
+         * Sets the charset used to encode the text.
+         *
+         * @param charset The charset. It's UTF-8 by default.
+         */
+        public Builder charset(@NonNull Charset charset) {
+            this.charset = charset;
+            return this;
+        }
+
+
+        /**
+         * Sets the durability guaranteed every time pending bytes are written.
+         *
+         * @param durability The durability. It's {@link WriteOptions.Durability#NONE} by default.
+         */
+        public Builder durability(@NonNull WriteOptions.Durability durability) {
+            this.durability = durability;
+            return this;
+        }
+
+
+        /**
+         * Makes the file rotate before a write would make it bigger than {@code bytes}. Pending
+         * texts are written together, so a file only grows past {@code bytes} when they add up
+         * to more than that, for instance with a rotate size smaller than the flush size.
+         *
+         * @param bytes The size. Pass 0, the default, to not rotate by size.
+         */
+        public Builder rotateSize(long bytes) {
+            this.rotateSize = Math.max(0, bytes);
+            return this;
+        }
+
+
+        /**
+         * Makes the file rotate on the first write after it's older than {@code milliseconds}.
+         * The age is counted from when the file was started, which is kept in a hidden file next
+         * to it, so reopening the file doesn't reset it. For a file that already existed without
+         * it, the age is counted from when the appender first opens it.
+         *
+         * @param milliseconds The age. Pass 0, the default, to not rotate by age.
+         */
+        public Builder rotateAge(long milliseconds) {
+            this.rotateAge = Math.max(0, milliseconds);
+            return this;
+        }
+
+
+        /**
+         * Sets how many rotated generations are kept. Older ones are deleted.
+         *
+         * @param generations The amount. It's {@link #DEFAULT_GENERATIONS} by default. Values
+         *                    lower than 1 are treated as 1.
+         */
+        public Builder generations(int generations) {
+            this.generations = Math.max(1, generations);
+            return this;
+        }
+
+
+        /**
+         * Makes rotated generations be gzipped in a background thread, adding {@code .gz} to
+         * their names. Appending goes on while they are compressed.
+         *
+         * @param compress Whether to compress them. It's {@code false} by default.
+         */
+        public Builder compressGenerations(boolean compress) {
+            this.compressGenerations = compress;
+            return this;
+        }
+
+
+        public AppenderOptions build() {
+            return new AppenderOptions(this);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Bounded shared pool of copy buffers. Buffers are grouped in power-of-two size classes going
+ * from {@link #MIN_BUFFER_SIZE} to {@link #MAX_BUFFER_SIZE}, and the size class is chosen from
+ * the length of the data to be copied when it's known, so copying a small file doesn't take a
+ * big buffer and copying a big one doesn't need thousands of reads.
+ * <p>Every buffer acquired must be released once it's no longer used. Buffers released when
+ * their size class is already full are left to the garbage collector.</p>
+ */
+class BufferPool {
+
+    static final int MIN_BUFFER_SIZE = 4 * 1024;
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    static final int MAX_BUFFER_SIZE = 256 * 1024;
+
+    /** Amount of idle buffers kept for each size class. */
+    private static final int BUFFERS_PER_SIZE = 4;
+
+    private static final List<ArrayBlockingQueue<byte[]>> heapBuffers = createPools();
+
+
+    private BufferPool() {
+    }
+
+
+    private static List<ArrayBlockingQueue<byte[]>> createPools() {
+        List<ArrayBlockingQueue<byte[]>> pools = new ArrayList<>();
+        for (int size = MIN_BUFFER_SIZE; size <= MAX_BUFFER_SIZE; size <<= 1) {
+            pools.add(new ArrayBlockingQueue<byte[]>(BUFFERS_PER_SIZE));
+        }
+        return pools;
+    }
+
+
+    /**
+     * Returns the size of the buffer that should be used to copy {@code expectedLength} bytes.
+     *
+     * @param expectedLength The amount of bytes to be copied, or a value lower than 1 if it's
+     *                       unknown.
+     * @return The smallest power of two able to hold {@code expectedLength} bytes, bounded by
+     * {@link #MIN_BUFFER_SIZE} and {@link #MAX_BUFFER_SIZE}, or {@link #DEFAULT_BUFFER_SIZE} if
+     * the length is unknown.
+     */
+    static int getBufferSize(long expectedLength) {
+
+        int size;
+
+        if (expectedLength <= 0) {
+            size = DEFAULT_BUFFER_SIZE;
+        } else if (expectedLength >= MAX_BUFFER_SIZE) {
+            size = MAX_BUFFER_SIZE;
+        } else {
+            size = MIN_BUFFER_SIZE;
+            while (size < expectedLength) {
+                size <<= 1;
+            }
+        }
+
+        return size;
+    }
+
+
+    /**
+     * Takes a heap buffer from the pool, or creates one if there is none available.
+     *
+     * @param expectedLength The amount of bytes that will go through the buffer, or a value lower
+     *                       than 1 if it's unknown.
+     * @return A {@code byte[]} sized with {@link #getBufferSize(long)}.
+     */
+    static byte[] acquireHeapBuffer(long expectedLength) {
+        int size = getBufferSize(expectedLength);
+        byte[] buffer = heapBuffers.get(getSizeClass(size)).poll();
+        return buffer != null ? buffer : new byte[size];
+    }
+
+
+    /**
+     * Returns a buffer obtained with {@link #acquireHeapBuffer(long)} to the pool.
+     *
+     * @param buffer The buffer to be returned. It must not be used after this call.
+     */
+    static void releaseHeapBuffer(@NonNull byte[] buffer) {
+        int sizeClass = getSizeClass(buffer.length);
+        if (sizeClass != -1) {
+            heapBuffers.get(sizeClass).offer(buffer);
+        }
+    }
+
+
+    /**
+     * Returns the index of the pool holding buffers of {@code size} bytes.
+     *
+     * @param size The size of the buffer.
+     * @return The index of the size class, or -1 if {@code size} doesn't belong to any.
+     */
+    private static int getSizeClass(int size) {
+
+        int sizeClass = -1;
+        int i = 0;
+
+        for (int classSize = MIN_BUFFER_SIZE; classSize <= MAX_BUFFER_SIZE; classSize <<= 1) {
+            if (classSize == size) {
+                sizeClass = i;
+                break;
+            }
+            i++;
+        }
+
+        return sizeClass;
+    }
+}
@@ -0,0 +1,194 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Encodes text straight into a pooled byte buffer that is written to a {@code FileChannel}
+ * whenever it fills up, so text of any size goes to the file through a fixed amount of memory.
+ * Texts are copied into a small char buffer in chunks instead of as a whole, which lets the
+ * encoder work on arrays, its fastest path, without an extra copy of the complete text. A
+ * surrogate pair split between two writes is encoded correctly.
+ * <p>Unmappable and malformed chars are replaced, as {@code OutputStreamWriter} does. Instances are
+ * not thread safe.</p>
+ */
+class ChannelTextWriter extends Writer {
+
+    /** Amount of chars encoded at once. */
+    static final int CHUNK_SIZE = 8 * 1024;
+
+    private final FileChannel channel;
+    private final CharsetEncoder encoder;
+    private final CharBuffer chars = CharBuffer.allocate(CHUNK_SIZE);
+    private final byte[] byteArray;
+    private final ByteBuffer bytes;
+    private boolean closed;
+
+
+    /**
+     * @param channel        Channel to write to, from its current position.
+     * @param charset        Charset to encode the text with.
+     * @param expectedLength Amount of chars expected to be written, used to size the byte
+     *                       buffer, or 0 if it's unknown.
+     */
+    ChannelTextWriter(@NonNull FileChannel channel, @NonNull Charset charset,
+                      long expectedLength) {
+        this.channel = channel;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.byteArray = BufferPool.acquireHeapBuffer(
+                (long) (expectedLength * (double) encoder.averageBytesPerChar()));
+        this.bytes = ByteBuffer.wrap(byteArray);
+    }
+
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureOpen();
+        if (!chars.hasRemaining()) {
+            encode(false);
+        }
+        chars.put((char) c);
+    }
+
+
+    @Override
+    public void write(@NonNull char[] source, int offset, int length) throws IOException {
+        ensureOpen();
+        int end = offset + length;
+        while (offset < end) {
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+            int count = Math.min(chars.remaining(), end - offset);
+            chars.put(source, offset, count);
+            offset += count;
+        }
+    }
+
+
+    @Override
+    public void write(@NonNull String source, int offset, int length) throws IOException {
+        append(source, offset, offset + length);
+    }
+
+
+    @Override
+    public Writer append(CharSequence source) throws IOException {
+        CharSequence text = source != null ? source : "null";
+        return append(text, 0, text.length());
+    }
+
+
+    @Override
+    public Writer append(CharSequence source, int start, int end) throws IOException {
+
+        CharSequence text = source != null ? source : "null";
+
+        ensureOpen();
+        while (start < end) {
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+
+            int count = Math.min(chars.remaining(), end - start);
+            char[] destination = chars.array();
+            int position = chars.arrayOffset() + chars.position();
+
+            if (text instanceof String) {
+                ((String) text).getChars(start, start + count, destination, position);
+            } else if (text instanceof StringBuilder) {
+                ((StringBuilder) text).getChars(start, start + count, destination, position);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    destination[position + i] = text.charAt(start + i);
+                }
+            }
+
+            chars.position(chars.position() + count);
+            start += count;
+        }
+
+        return this;
+    }
+
+
+    /**
+     * Encodes and writes every complete char written so far. A high surrogate waiting for its
+     * pair is kept until the next write.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        encode(false);
+        writeBytes();
+    }
+
+
+    /**
+     * Encodes and writes everything and releases the buffer. The channel is not closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            try {
+                encode(true);
+                while (encoder.flush(bytes).isOverflow()) {
+                    writeBytes();
+                }
+                writeBytes();
+            } finally {
+                closed = true;
+                BufferPool.releaseHeapBuffer(byteArray);
+            }
+        }
+    }
+
+
+    /**
+     * Encodes the chars in the char buffer, writing the byte buffer every time it fills up.
+     *
+     * @param endOfInput Whether no more chars will follow.
+     */
+    private void encode(boolean endOfInput) throws IOException {
+
+        chars.flip();
+        try {
+            CoderResult result;
+            while ((result = encoder.encode(chars, bytes, endOfInput)).isOverflow()) {
+                writeBytes();
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+        } finally {
+            chars.compact();
+        }
+    }
+
+
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Writer is closed");
+        }
+    }
+}
@@ -0,0 +1,574 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Binary serializer for boxed primitives, strings, byte arrays and the common collections of
+ * them. Every value is a one byte tag followed by its content: integers are written as variable
+ * length numbers, strings as their length and chars in a UTF-8 like encoding, and collections as
+ * their size and elements. Nothing describes classes, so the output is a fraction of the size of
+ * Java serialization's and is written and read without reflection.
+ * <p>Only the exact classes listed in {@link Serializers#COMPACT} are accepted, so that objects
+ * are read back with the same class. Reading may consume bytes past the end of the object, so the
+ * input should hold nothing else.</p>
+ */
+class CompactSerializer implements Serializer<Object> {
+
+    private static final int NULL = 0;
+    private static final int TRUE = 1;
+    private static final int FALSE = 2;
+    private static final int BYTE = 3;
+    private static final int SHORT = 4;
+    private static final int CHARACTER = 5;
+    private static final int INTEGER = 6;
+    private static final int LONG = 7;
+    private static final int FLOAT = 8;
+    private static final int DOUBLE = 9;
+    private static final int STRING = 10;
+    private static final int BYTE_ARRAY = 11;
+    private static final int ARRAY_LIST = 12;
+    private static final int LINKED_LIST = 13;
+    private static final int HASH_MAP = 14;
+    private static final int LINKED_HASH_MAP = 15;
+    private static final int TREE_MAP = 16;
+    private static final int HASH_SET = 17;
+    private static final int LINKED_HASH_SET = 18;
+    private static final int TREE_SET = 19;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+
+    /**
+     * Tells whether {@code object} and everything it contains can be written. Collections
+     * appearing more than once are rejected, since they would be read back as different copies.
+     *
+     * @param object The object.
+     * @return {@code true} if {@link #write(Object, OutputStream)} won't reject it.
+     */
+    static boolean canWrite(@Nullable Object object) {
+        return canWrite(object, new IdentityHashMap<Object, Boolean>());
+    }
+
+
+    private static boolean canWrite(@Nullable Object object, @NonNull Map<Object, Boolean> seen) {
+
+        boolean writable;
+        int tag = getTag(object);
+
+        if (tag < 0) {
+            writable = false;
+        } else if (tag < ARRAY_LIST) {
+            writable = true;
+        } else if (seen.put(object, Boolean.TRUE) != null) {
+            writable = false;
+        } else if (object instanceof Map) {
+            writable = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                if (!canWrite(entry.getKey(), seen) || !canWrite(entry.getValue(), seen)) {
+                    writable = false;
+                    break;
+                }
+            }
+        } else {
+            writable = true;
+            for (Object element : (Collection<?>) object) {
+                if (!canWrite(element, seen)) {
+                    writable = false;
+                    break;
+                }
+            }
+        }
+
+        return writable;
+    }
+
+
+    /**
+     * Returns the tag of {@code object}, or -1 if its class is not supported.
+     */
+    private static int getTag(@Nullable Object object) {
+
+        int tag;
+
+        if (object == null) {
+            tag = NULL;
+        } else {
+            Class<?> type = object.getClass();
+            if (type == Boolean.class) {
+                tag = (Boolean) object ? TRUE : FALSE;
+            } else if (type == Byte.class) {
+                tag = BYTE;
+            } else if (type == Short.class) {
+                tag = SHORT;
+            } else if (type == Character.class) {
+                tag = CHARACTER;
+            } else if (type == Integer.class) {
+                tag = INTEGER;
+            } else if (type == Long.class) {
+                tag = LONG;
+            } else if (type == Float.class) {
+                tag = FLOAT;
+            } else if (type == Double.class) {
+                tag = DOUBLE;
+            } else if (type == String.class) {
+                tag = STRING;
+            } else if (type == byte[].class) {
+                tag = BYTE_ARRAY;
+            } else if (type == ArrayList.class) {
+                tag = ARRAY_LIST;
+            } else if (type == LinkedList.class) {
+                tag = LINKED_LIST;
+            } else if (type == HashMap.class) {
+                tag = HASH_MAP;
+            } else if (type == LinkedHashMap.class) {
+                tag = LINKED_HASH_MAP;
+            } else if (type == TreeMap.class && ((TreeMap<?, ?>) object).comparator() == null) {
+                tag = TREE_MAP;
+            } else if (type == HashSet.class) {
+                tag = HASH_SET;
+            } else if (type == LinkedHashSet.class) {
+                tag = LINKED_HASH_SET;
+            } else if (type == TreeSet.class && ((TreeSet<?>) object).comparator() == null) {
+                tag = TREE_SET;
+            } else {
+                tag = -1;
+            }
+        }
+
+        return tag;
+    }
+
+
+    @Override
+    public void write(@NonNull Object object, @NonNull OutputStream output) throws IOException {
+        Encoder encoder = new Encoder(output);
+        encoder.writeValue(object);
+        encoder.flush();
+    }
+
+
+    @NonNull
+    @Override
+    public Object read(@NonNull InputStream input) throws IOException {
+        Object object = new Decoder(input).readValue();
+        if (object == null) {
+            throw new StreamCorruptedException("Compact serializer read null");
+        }
+        return object;
+    }
+
+
+    @Override
+    public String toString() {
+        return "Compact serializer";
+    }
+
+
+    /**
+     * Writes values into a buffer that is flushed to the stream when full. Collections are
+     * remembered so that those appearing more than once, which includes those containing
+     * themselves, are rejected instead of being written again.
+     */
+    private static class Encoder {
+
+        private final OutputStream output;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final Map<Object, Boolean> written = new IdentityHashMap<>();
+        private int position;
+
+
+        Encoder(@NonNull OutputStream output) {
+            this.output = output;
+        }
+
+
+        void writeValue(@Nullable Object value) throws IOException {
+
+            int tag = getTag(value);
+            if (tag < 0) {
+                throw new IOException("The compact serializer cannot write "
+                        + value.getClass().getName());
+            } else if (tag >= ARRAY_LIST && written.put(value, Boolean.TRUE) != null) {
+                throw new IOException("The compact serializer cannot write a "
+                        + value.getClass().getName() + " appearing more than once");
+            }
+
+            writeByte(tag);
+
+            switch (tag) {
+                case BYTE:
+                    writeByte((Byte) value);
+                    break;
+                case SHORT:
+                    writeVarLong(zigZag((Short) value));
+                    break;
+                case CHARACTER:
+                    writeVarLong((Character) value);
+                    break;
+                case INTEGER:
+                    writeVarLong(zigZag((Integer) value));
+                    break;
+                case LONG:
+                    writeVarLong(zigZag((Long) value));
+                    break;
+                case FLOAT:
+                    writeFixedLong(Float.floatToIntBits((Float) value), 4);
+                    break;
+                case DOUBLE:
+                    writeFixedLong(Double.doubleToLongBits((Double) value), 8);
+                    break;
+                case STRING:
+                    writeString((String) value);
+                    break;
+                case BYTE_ARRAY:
+                    writeBytes((byte[]) value);
+                    break;
+                case HASH_MAP:
+                case LINKED_HASH_MAP:
+                case TREE_MAP:
+                    Map<?, ?> map = (Map<?, ?>) value;
+                    writeVarLong(map.size());
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        writeValue(entry.getKey());
+                        writeValue(entry.getValue());
+                    }
+                    break;
+                case ARRAY_LIST:
+                case LINKED_LIST:
+                case HASH_SET:
+                case LINKED_HASH_SET:
+                case TREE_SET:
+                    Collection<?> collection = (Collection<?>) value;
+                    writeVarLong(collection.size());
+                    for (Object element : collection) {
+                        writeValue(element);
+                    }
+                    break;
+                default:
+                    // NULL, TRUE and FALSE are just the tag
+                    break;
+            }
+        }
+
+
+        private void writeString(@NonNull String string) throws IOException {
+
+            int length = string.length();
+            writeVarLong(length);
+
+            for (int i = 0; i < length; i++) {
+                if (position > buffer.length - 3) {
+                    flushBuffer();
+                }
+                char c = string.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | c >> 6);
+                    buffer[position++] = (byte) (0x80 | c & 0x3F);
+                } else {
+                    buffer[position++] = (byte) (0xE0 | c >> 12);
+                    buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    buffer[position++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+        }
+
+
+        private void writeBytes(@NonNull byte[] bytes) throws IOException {
+            writeVarLong(bytes.length);
+            if (bytes.length > buffer.length - position) {
+                flushBuffer();
+                output.write(bytes);
+            } else {
+                System.arraycopy(bytes, 0, buffer, position, bytes.length);
+                position += bytes.length;
+            }
+        }
+
+
+        private void writeVarLong(long value) throws IOException {
+            if (position > buffer.length - 10) {
+                flushBuffer();
+            }
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) (value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+
+        private void writeFixedLong(long value, int bytes) throws IOException {
+            if (position > buffer.length - bytes) {
+                flushBuffer();
+            }
+            for (int shift = (bytes - 1) * 8; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+
+        private void writeByte(int value) throws IOException {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            buffer[position++] = (byte) value;
+        }
+
+
+        void flush() throws IOException {
+            flushBuffer();
+            output.flush();
+        }
+
+
+        private void flushBuffer() throws IOException {
+            output.write(buffer, 0, position);
+            position = 0;
+        }
+
+
+        private static long zigZag(long value) {
+            return value << 1 ^ value >> 63;
+        }
+    }
+
+
+    /**
+     * Reads values from a buffer that is refilled from the stream when empty.
+     */
+    private static class Decoder {
+
+        private final InputStream input;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+
+
+        Decoder(@NonNull InputStream input) {
+            this.input = input;
+        }
+
+
+        @Nullable
+        Object readValue() throws IOException {
+
+            Object value;
+            int tag = readByte();
+
+            switch (tag) {
+                case NULL:
+                    value = null;
+                    break;
+                case TRUE:
+                    value = Boolean.TRUE;
+                    break;
+                case FALSE:
+                    value = Boolean.FALSE;
+                    break;
+                case BYTE:
+                    value = (byte) readByte();
+                    break;
+                case SHORT:
+                    value = (short) unZigZag(readVarLong());
+                    break;
+                case CHARACTER:
+                    value = (char) readVarLong();
+                    break;
+                case INTEGER:
+                    value = (int) unZigZag(readVarLong());
+                    break;
+                case LONG:
+                    value = unZigZag(readVarLong());
+                    break;
+                case FLOAT:
+                    value = Float.intBitsToFloat((int) readFixedLong(4));
+                    break;
+                case DOUBLE:
+                    value = Double.longBitsToDouble(readFixedLong(8));
+                    break;
+                case STRING:
+                    value = readString();
+                    break;
+                case BYTE_ARRAY:
+                    value = readBytes();
+                    break;
+                case ARRAY_LIST:
+                    int size = readSize();
+                    value = readElements(new ArrayList<>(size), size);
+                    break;
+                case LINKED_LIST:
+                    value = readElements(new LinkedList<>(), readSize());
+                    break;
+                case HASH_SET:
+                    size = readSize();
+                    value = readElements(new HashSet<>(getCapacity(size)), size);
+                    break;
+                case LINKED_HASH_SET:
+                    size = readSize();
+                    value = readElements(new LinkedHashSet<>(getCapacity(size)), size);
+                    break;
+                case TREE_SET:
+                    value = readElements(new TreeSet<>(), readSize());
+                    break;
+                case HASH_MAP:
+                    size = readSize();
+                    value = readEntries(new HashMap<>(getCapacity(size)), size);
+                    break;
+                case LINKED_HASH_MAP:
+                    size = readSize();
+                    value = readEntries(new LinkedHashMap<>(getCapacity(size)), size);
+                    break;
+                case TREE_MAP:
+                    value = readEntries(new TreeMap<>(), readSize());
+                    break;
+                default:
+                    throw new StreamCorruptedException("Unknown compact tag " + tag);
+            }
+
+            return value;
+        }
+
+
+        @NonNull
+        private Collection<Object> readElements(@NonNull Collection<Object> collection, int size)
+                throws IOException {
+            for (int i = 0; i < size; i++) {
+                collection.add(readValue());
+            }
+            return collection;
+        }
+
+
+        @NonNull
+        private Map<Object, Object> readEntries(@NonNull Map<Object, Object> map, int size)
+                throws IOException {
+            for (int i = 0; i < size; i++) {
+                map.put(readValue(), readValue());
+            }
+            return map;
+        }
+
+
+        @NonNull
+        private String readString() throws IOException {
+
+            int length = readSize();
+            char[] chars = new char[length];
+
+            for (int i = 0; i < length; i++) {
+                int b = readByte();
+                if (b < 0x80) {
+                    chars[i] = (char) b;
+                } else if (b < 0xE0) {
+                    chars[i] = (char) ((b & 0x1F) << 6 | readByte() & 0x3F);
+                } else {
+                    chars[i] = (char) ((b & 0x0F) << 12 | (readByte() & 0x3F) << 6
+                            | readByte() & 0x3F);
+                }
+            }
+
+            return new String(chars);
+        }
+
+
+        @NonNull
+        private byte[] readBytes() throws IOException {
+
+            byte[] bytes = new byte[readSize()];
+            int copied = Math.min(bytes.length, limit - position);
+
+            System.arraycopy(buffer, position, bytes, 0, copied);
+            position += copied;
+
+            while (copied < bytes.length) {
+                int count = input.read(bytes, copied, bytes.length - copied);
+                if (count < 0) {
+                    throw new EOFException();
+                }
+                copied += count;
+            }
+
+            return bytes;
+        }
+
+
+        private int readSize() throws IOException {
+            long size = readVarLong();
+            if (size < 0 || size > IOUtil.MAX_ARRAY_LENGTH) {
+                throw new StreamCorruptedException("Invalid compact size " + size);
+            }
+            return (int) size;
+        }
+
+
+        private long readVarLong() throws IOException {
+
+            long value = 0;
+            int shift = 0;
+            int b;
+
+            do {
+                if (shift > 63) {
+                    throw new StreamCorruptedException("Invalid compact number");
+                }
+                b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            return value;
+        }
+
+
+        private long readFixedLong(int bytes) throws IOException {
+            long value = 0;
+            for (int i = 0; i < bytes; i++) {
+                value = value << 8 | readByte();
+            }
+            return value;
+        }
+
+
+        private int readByte() throws IOException {
+            if (position == limit) {
+                limit = input.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    throw new EOFException();
+                }
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+
+        private static long unZigZag(long value) {
+            return value >>> 1 ^ -(value & 1);
+        }
+
+
+        private static int getCapacity(int size) {
+            return Math.max((int) (size / .75f) + 1, 16);
+        }
+    }
+}
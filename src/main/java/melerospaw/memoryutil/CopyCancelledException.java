@@ -0,0 +1,15 @@
+package melerospaw.memoryutil;
+
+import java.io.IOException;
+
+/**
+ * Thrown by the copy loops when the {@link CopyHandle} of the copy has been cancelled.
+ */
+class CopyCancelledException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    CopyCancelledException() {
+        super("The copy was cancelled");
+    }
+}
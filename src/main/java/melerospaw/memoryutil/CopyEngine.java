@@ -0,0 +1,274 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+
+/**
+ * Moves the bytes for every copy operation in {@link MemoryUtil}. When both ends are files, the
+ * copy is done with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}
+ * so the kernel moves the bytes without bringing them into the Java heap. Any other
+ * {@code InputStream} is copied with a read/write loop through a buffer taken from the
+ * {@link BufferPool}.
+ * <p>Every copy accepts an optional {@link CopyHandle}. When one is given, the progress is
+ * reported to it after every chunk and the copy throws a {@link CopyCancelledException} as soon as
+ * the handle is cancelled, so chunks are never larger than its progress interval.</p>
+ */
+class CopyEngine {
+
+    /**
+     * Maximum amount of bytes requested on every {@code transferTo()} call. Some kernels transfer
+     * no more than 2GB at once, and smaller chunks allow the loop to stop if the origin file
+     * shrinks while it's being copied.
+     */
+    private static final long TRANSFER_CHUNK_SIZE = 8 * 1024 * 1024;
+
+
+    /**
+     * Copies everything left in {@code inputStream} to {@code outputStream}. Neither stream is
+     * closed.
+     *
+     * @param inputStream  Stream to copy from. If it's a {@code FileInputStream}, the copy will be
+     *                     performed by the kernel.
+     * @param outputStream Stream to copy to.
+     * @return The amount of bytes copied.
+     * @throws IOException If reading or writing fails.
+     */
+    static long copy(@NonNull InputStream inputStream, @NonNull FileOutputStream outputStream)
+            throws IOException {
+        return copy(inputStream, outputStream, null);
+    }
+
+
+    /**
+     * Copies everything left in {@code inputStream} to {@code outputStream} reporting the
+     * progress to {@code handle}. Neither stream is closed.
+     *
+     * @param inputStream  Stream to copy from. If it's a {@code FileInputStream}, the copy will be
+     *                     performed by the kernel.
+     * @param outputStream Stream to copy to.
+     * @param handle       Handle to report the progress to, or {@code null}.
+     * @return The amount of bytes copied.
+     * @throws IOException If reading or writing fails, or {@link CopyCancelledException} if
+     *                     {@code handle} is cancelled.
+     */
+    static long copy(@NonNull InputStream inputStream, @NonNull FileOutputStream outputStream,
+                     @Nullable CopyHandle handle) throws IOException {
+
+        long copied;
+
+        if (handle != null) {
+            handle.throwIfCancelled();
+        }
+
+        if (inputStream instanceof FileInputStream) {
+            copied = transfer(((FileInputStream) inputStream).getChannel(),
+                    outputStream.getChannel(), handle);
+        } else {
+            // available() only tells what can be read without blocking, not the total length
+            copied = streamCopy(inputStream, outputStream, 0, handle);
+        }
+
+        return copied;
+    }
+
+
+    /**
+     * Copies {@code origin} into {@code destination}, replacing its content if it already
+     * exists. Both streams are closed when the copy finishes or fails.
+     *
+     * @param origin      The file to be copied.
+     * @param destination The copy. The folder containing it must exist.
+     * @return The amount of bytes copied.
+     * @throws IOException If any of the files cannot be opened, read or written.
+     */
+    static long copyFile(@NonNull File origin, @NonNull File destination) throws IOException {
+        return copyFile(origin, destination, null);
+    }
+
+
+    /**
+     * Copies {@code origin} into {@code destination} reporting the progress to {@code handle}.
+     * Both streams are closed when the copy finishes or fails. If the copy is cancelled,
+     * {@code destination} is deleted.
+     *
+     * @param origin      The file to be copied.
+     * @param destination The copy. The folder containing it must exist.
+     * @param handle      Handle to report the progress to, or {@code null}.
+     * @return The amount of bytes copied.
+     * @throws IOException If any of the files cannot be opened, read or written, or
+     *                     {@link CopyCancelledException} if {@code handle} is cancelled.
+     */
+    static long copyFile(@NonNull File origin, @NonNull File destination,
+                         @Nullable CopyHandle handle) throws IOException {
+
+        FileInputStream streamToOrigin = new FileInputStream(origin);
+        FileOutputStream streamToDestination = null;
+        long copied;
+
+        try {
+            streamToDestination = new FileOutputStream(destination);
+            copied = copy(streamToOrigin, streamToDestination, handle);
+            streamToDestination.close();
+            streamToDestination = null;
+        } catch (CopyCancelledException e) {
+            IOUtil.closeQuietly(streamToDestination);
+            streamToDestination = null;
+            destination.delete();
+            throw e;
+        } finally {
+            IOUtil.closeQuietly(streamToOrigin);
+            IOUtil.closeQuietly(streamToDestination);
+        }
+
+        return copied;
+    }
+
+
+    /**
+     * Transfers the content of {@code origin} from its current position to its end into
+     * {@code destination}, starting at the current position of the latter.
+     *
+     * @param origin      Channel to the origin file.
+     * @param destination Channel to the destination file.
+     * @return The amount of bytes transferred.
+     * @throws IOException If the transfer fails.
+     */
+    static long transfer(@NonNull FileChannel origin, @NonNull FileChannel destination)
+            throws IOException {
+        return transfer(origin, destination, null);
+    }
+
+
+    /**
+     * Transfers the content of {@code origin} from its current position to its end into
+     * {@code destination} reporting the progress to {@code handle}.
+     *
+     * @param origin      Channel to the origin file.
+     * @param destination Channel to the destination file.
+     * @param handle      Handle to report the progress to, or {@code null}.
+     * @return The amount of bytes transferred.
+     * @throws IOException If the transfer fails, or {@link CopyCancelledException} if
+     *                     {@code handle} is cancelled.
+     */
+    static long transfer(@NonNull FileChannel origin, @NonNull FileChannel destination,
+                         @Nullable CopyHandle handle) throws IOException {
+
+        long position = origin.position();
+        long size = origin.size();
+        long transferred = 0;
+        long chunkSize = handle == null
+                ? TRANSFER_CHUNK_SIZE
+                : Math.min(TRANSFER_CHUNK_SIZE, handle.getProgressInterval());
+
+        try {
+            while (position < size) {
+                long count = origin.transferTo(position, Math.min(chunkSize, size - position),
+                        destination);
+
+                // The origin file was truncated while copying it
+                if (count <= 0) {
+                    break;
+                }
+
+                position += count;
+                transferred += count;
+
+                if (handle != null) {
+                    handle.onBytesCopied(count);
+                }
+            }
+        } finally {
+            origin.position(position);
+        }
+
+        return transferred;
+    }
+
+
+    /**
+     * Copies {@code inputStream} into {@code outputStream} through a pooled heap buffer. The
+     * buffer is sized after {@code expectedLength}, so every {@code read()} asks the stream for as
+     * many bytes as possible and slow streams are not read in tiny pieces.
+     *
+     * @param inputStream    Stream to copy from.
+     * @param outputStream   Stream to copy to.
+     * @param expectedLength The amount of bytes expected to be copied, or 0 if it's unknown.
+     * @return The amount of bytes copied.
+     * @throws IOException If reading or writing fails.
+     */
+    static long streamCopy(@NonNull InputStream inputStream, @NonNull OutputStream outputStream,
+                           long expectedLength) throws IOException {
+        return streamCopy(inputStream, outputStream, expectedLength, null);
+    }
+
+
+    /**
+     * Copies {@code inputStream} into {@code outputStream} through a pooled heap buffer reporting
+     * the progress to {@code handle}.
+     *
+     * @param inputStream    Stream to copy from.
+     * @param outputStream   Stream to copy to.
+     * @param expectedLength The amount of bytes expected to be copied, or 0 if it's unknown.
+     * @param handle         Handle to report the progress to, or {@code null}.
+     * @return The amount of bytes copied.
+     * @throws IOException If reading or writing fails, or {@link CopyCancelledException} if
+     *                     {@code handle} is cancelled.
+     */
+    static long streamCopy(@NonNull InputStream inputStream, @NonNull OutputStream outputStream,
+                           long expectedLength, @Nullable CopyHandle handle) throws IOException {
+
+        byte[] buffer = BufferPool.acquireHeapBuffer(expectedLength);
+        long copied = 0;
+        int length;
+
+        try {
+            while ((length = inputStream.read(buffer)) > 0) {
+                outputStream.write(buffer, 0, length);
+                copied += length;
+
+                if (handle != null) {
+                    handle.onBytesCopied(length);
+                }
+            }
+        } finally {
+            BufferPool.releaseHeapBuffer(buffer);
+        }
+
+        return copied;
+    }
+
+
+    /**
+     * Returns the amount of bytes left to be read from {@code inputStream}, as far as it can be
+     * known without reading it.
+     *
+     * @param inputStream The stream.
+     * @return The amount of bytes, or {@link CopyProgress#UNKNOWN}.
+     */
+    static long getRemainingLength(@NonNull InputStream inputStream) {
+
+        long remaining;
+
+        try {
+            if (inputStream instanceof FileInputStream) {
+                FileChannel channel = ((FileInputStream) inputStream).getChannel();
+                remaining = channel.size() - channel.position();
+            } else {
+                int available = inputStream.available();
+                remaining = available > 0 ? available : CopyProgress.UNKNOWN;
+            }
+        } catch (IOException e) {
+            remaining = CopyProgress.UNKNOWN;
+        }
+
+        return remaining;
+    }
+}
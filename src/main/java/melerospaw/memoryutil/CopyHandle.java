@@ -0,0 +1,177 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allows following and cancelling a copy. Create one, pass it to any of the {@link MemoryUtil}
+ * copy methods accepting it, such as
+ * {@link MemoryUtil#duplicateFile(String, String, CopyHandle)}, and keep it to call
+ * {@link #cancel()} from any thread when the copy is no longer wanted. The copy stops as soon as
+ * the chunk being copied is done, the partial output is deleted, and the method returns an
+ * unsuccessful {@link Result}.
+ * <p>A {@code CopyHandle} can be used for a single copy only.</p>
+ */
+public class CopyHandle {
+
+    /** Default amount of bytes copied between progress reports. */
+    public static final long DEFAULT_PROGRESS_INTERVAL = 1024 * 1024;
+
+    private final CopyListener listener;
+    private final long progressInterval;
+    private volatile boolean cancelled;
+    private volatile long bytesCopied;
+
+    private long totalBytes = CopyProgress.UNKNOWN;
+    private long startTime;
+    private long lastReportTime;
+    private long lastReportBytes;
+
+
+    /**
+     * Creates a handle that only allows cancelling the copy.
+     */
+    public CopyHandle() {
+        this(null, DEFAULT_PROGRESS_INTERVAL);
+    }
+
+
+    /**
+     * Creates a handle that reports the progress to {@code listener} every
+     * {@link #DEFAULT_PROGRESS_INTERVAL} bytes.
+     *
+     * @param listener Object receiving the progress.
+     */
+    public CopyHandle(@Nullable CopyListener listener) {
+        this(listener, DEFAULT_PROGRESS_INTERVAL);
+    }
+
+
+    /**
+     * Creates a handle that reports the progress to {@code listener} every
+     * {@code progressInterval} bytes.
+     *
+     * @param listener         Object receiving the progress.
+     * @param progressInterval Amount of bytes copied between progress reports. It's also the
+     *                         largest amount of bytes that will be copied after calling
+     *                         {@link #cancel()}, so lower values allow stopping sooner. Values
+     *                         lower than 1 are treated as {@link #DEFAULT_PROGRESS_INTERVAL}.
+     */
+    public CopyHandle(@Nullable CopyListener listener, long progressInterval) {
+        this.listener = listener;
+        this.progressInterval = progressInterval > 0 ? progressInterval : DEFAULT_PROGRESS_INTERVAL;
+    }
+
+
+    /**
+     * Asks the copy to stop. It can be called from any thread.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+
+    /**
+     * Tells whether {@link #cancel()} has been called.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+
+    /**
+     * Returns the amount of bytes copied so far. It can be called from any thread.
+     */
+    public long getBytesCopied() {
+        return bytesCopied;
+    }
+
+
+    /**
+     * Returns the amount of bytes the copy should move before checking again for cancellation.
+     */
+    long getProgressInterval() {
+        return progressInterval;
+    }
+
+
+    /**
+     * Starts measuring the copy.
+     *
+     * @param totalBytes Amount of bytes to be copied, or {@link CopyProgress#UNKNOWN}.
+     */
+    void begin(long totalBytes) {
+        this.totalBytes = totalBytes;
+        this.startTime = System.nanoTime();
+        this.lastReportTime = startTime;
+    }
+
+
+    /**
+     * Records that {@code count} more bytes have been copied, reporting the progress if a
+     * progress interval has been completed.
+     *
+     * @param count Bytes copied since the previous call.
+     * @throws CopyCancelledException If the copy has been cancelled.
+     */
+    void onBytesCopied(long count) throws CopyCancelledException {
+        bytesCopied += count;
+        if (bytesCopied - lastReportBytes >= progressInterval) {
+            report();
+        }
+        throwIfCancelled();
+    }
+
+
+    /**
+     * Reports the final progress of a copy that was not cancelled.
+     */
+    void finish() {
+        if (lastReportBytes != bytesCopied || bytesCopied == 0) {
+            report();
+        }
+    }
+
+
+    /**
+     * @throws CopyCancelledException If the copy has been cancelled.
+     */
+    void throwIfCancelled() throws CopyCancelledException {
+        if (cancelled) {
+            throw new CopyCancelledException();
+        }
+    }
+
+
+    private void report() {
+
+        long now = System.nanoTime();
+        long copied = bytesCopied;
+
+        if (listener != null) {
+            long averageThroughput = perSecond(copied, now - startTime);
+            long instantThroughput = perSecond(copied - lastReportBytes, now - lastReportTime);
+            long timeLeft;
+
+            if (totalBytes == CopyProgress.UNKNOWN) {
+                timeLeft = CopyProgress.UNKNOWN;
+            } else if (averageThroughput == 0) {
+                timeLeft = copied >= totalBytes ? 0 : CopyProgress.UNKNOWN;
+            } else {
+                timeLeft = Math.max(0, totalBytes - copied) * 1000 / averageThroughput;
+            }
+
+            listener.onProgress(new CopyProgress(copied, totalBytes, instantThroughput,
+                    averageThroughput, timeLeft));
+        }
+
+        lastReportTime = now;
+        lastReportBytes = copied;
+    }
+
+
+    private static long perSecond(long bytes, long nanoseconds) {
+        return nanoseconds <= 0 ? 0 : bytes * TimeUnit.SECONDS.toNanos(1) / nanoseconds;
+    }
+}
@@ -0,0 +1,19 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Receives the progress of a copy started with a {@link CopyHandle}. Methods are called on the
+ * thread doing the copy, so they should return quickly. Post the progress to the main thread if
+ * you want to show it on screen.
+ */
+public interface CopyListener {
+
+    /**
+     * Called every time the amount of bytes set as progress interval in the {@link CopyHandle}
+     * has been copied, and once more when the copy ends.
+     *
+     * @param progress The state of the copy.
+     */
+    void onProgress(@NonNull CopyProgress progress);
+}
@@ -0,0 +1,88 @@
+package melerospaw.memoryutil;
+
+/**
+ * Snapshot of the state of a copy, delivered to a {@link CopyListener}.
+ */
+public class CopyProgress {
+
+    /** Returned by the methods of this class when the value cannot be known. */
+    public static final long UNKNOWN = -1;
+
+    private final long bytesCopied;
+    private final long totalBytes;
+    private final long instantThroughput;
+    private final long averageThroughput;
+    private final long estimatedTimeLeft;
+
+
+    CopyProgress(long bytesCopied, long totalBytes, long instantThroughput,
+                 long averageThroughput, long estimatedTimeLeft) {
+        this.bytesCopied = bytesCopied;
+        this.totalBytes = totalBytes;
+        this.instantThroughput = instantThroughput;
+        this.averageThroughput = averageThroughput;
+        this.estimatedTimeLeft = estimatedTimeLeft;
+    }
+
+
+    /**
+     * Returns the amount of bytes copied so far.
+     */
+    public long getBytesCopied() {
+        return bytesCopied;
+    }
+
+
+    /**
+     * Returns the amount of bytes to be copied, or {@link #UNKNOWN} if the origin is a stream
+     * whose length is not known.
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+
+    /**
+     * Returns the bytes per second copied since the previous progress report.
+     */
+    public long getInstantThroughput() {
+        return instantThroughput;
+    }
+
+
+    /**
+     * Returns the bytes per second copied since the copy started.
+     */
+    public long getAverageThroughput() {
+        return averageThroughput;
+    }
+
+
+    /**
+     * Returns the estimated milliseconds left for the copy to finish based on the average
+     * throughput, or {@link #UNKNOWN} if the total amount of bytes is not known.
+     */
+    public long getEstimatedTimeLeft() {
+        return estimatedTimeLeft;
+    }
+
+
+    /**
+     * Returns the percentage of the copy that is done, from 0 to 100, or {@link #UNKNOWN} if the
+     * total amount of bytes is not known.
+     */
+    public int getPercentage() {
+
+        int percentage;
+
+        if (totalBytes == UNKNOWN) {
+            percentage = (int) UNKNOWN;
+        } else if (totalBytes == 0) {
+            percentage = 100;
+        } else {
+            percentage = (int) (bytesCopied * 100 / totalBytes);
+        }
+
+        return percentage;
+    }
+}
@@ -0,0 +1,206 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rotates a file into numbered generations: the file becomes {@code name.1}, the previous
+ * {@code name.1} becomes {@code name.2} and so on, and the oldest generation is deleted. Every
+ * step is a rename, so the file and each generation are always complete. Rotated generations can
+ * be gzipped in the background, which adds {@code .gz} to their names.
+ */
+class FileRotator {
+
+    /** Extension added to compressed generations. */
+    static final String COMPRESSED_EXTENSION = ".gz";
+
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+    private static final Object EXECUTOR_LOCK = new Object();
+    private static ExecutorService executor;
+
+    private final File file;
+    private final int generations;
+    private final boolean compress;
+    private final WriteOptions.Durability durability;
+    private Future<?> compression;
+
+
+    /**
+     * @param file        The file to be rotated.
+     * @param generations Amount of rotated generations to keep. Must be greater than 0.
+     * @param compress    Whether rotated generations are gzipped in the background.
+     * @param durability  Whether renames and compressed generations are synced.
+     */
+    FileRotator(@NonNull File file, int generations, boolean compress,
+                @NonNull WriteOptions.Durability durability) {
+        this.file = file;
+        this.generations = generations;
+        this.compress = compress;
+        this.durability = durability;
+    }
+
+
+    /**
+     * Returns the file holding {@code generation}, which is 0 for the file being rotated.
+     *
+     * @param file       The file being rotated.
+     * @param generation The generation.
+     * @param compressed Whether the generation was compressed.
+     * @return The file, which may not exist.
+     */
+    @NonNull
+    static File getGeneration(@NonNull File file, int generation, boolean compressed) {
+        String name = generation == 0 ? file.getName() : file.getName() + "." + generation;
+        return new File(file.getParentFile(), compressed ? name + COMPRESSED_EXTENSION : name);
+    }
+
+
+    /**
+     * Turns the file into the first generation, shifting the rest. The file must be closed. A
+     * compression still running is waited for, so that generations aren't renamed under it.
+     *
+     * @throws IOException If a generation cannot be renamed or deleted.
+     */
+    void rotate() throws IOException {
+
+        awaitCompression();
+
+        deleteGeneration(generations);
+        for (int generation = generations - 1; generation > 0; generation--) {
+            renameGeneration(generation, false);
+            renameGeneration(generation, true);
+        }
+        rename(file, getGeneration(file, 1, false));
+
+        if (durability == WriteOptions.Durability.FULL) {
+            IOUtil.syncFolder(file.getAbsoluteFile().getParentFile());
+        }
+
+        if (compress) {
+            compression = getExecutor().submit(new Compression(getGeneration(file, 1, false)));
+        }
+    }
+
+
+    /**
+     * Waits until the last compression finishes. A failed compression just leaves the generation
+     * uncompressed.
+     *
+     * @throws InterruptedIOException If the thread is interrupted while waiting.
+     */
+    void awaitCompression() throws InterruptedIOException {
+        if (compression != null) {
+            try {
+                compression.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while compressing "
+                        + getGeneration(file, 1, false).getPath());
+            } catch (ExecutionException e) {
+                // The generation stays uncompressed, which is still a valid generation
+            }
+            compression = null;
+        }
+    }
+
+
+    private void deleteGeneration(int generation) throws IOException {
+        for (File oldest : new File[]{getGeneration(file, generation, false),
+                getGeneration(file, generation, true)}) {
+            if (oldest.exists() && !oldest.delete()) {
+                throw new IOException("Cannot delete " + oldest.getPath());
+            }
+        }
+    }
+
+
+    private void renameGeneration(int generation, boolean compressed) throws IOException {
+        File origin = getGeneration(file, generation, compressed);
+        if (origin.exists()) {
+            rename(origin, getGeneration(file, generation + 1, compressed));
+        }
+    }
+
+
+    private static void rename(@NonNull File origin, @NonNull File destination)
+            throws IOException {
+        if (!origin.renameTo(destination)) {
+            throw new IOException("Cannot rename " + origin.getPath() + " to "
+                    + destination.getPath());
+        }
+    }
+
+
+    private static ExecutorService getExecutor() {
+        synchronized (EXECUTOR_LOCK) {
+            if (executor == null) {
+                executor = IoExecutors.newBoundedExecutor(1);
+            }
+            return executor;
+        }
+    }
+
+
+    /**
+     * Gzips a generation into a temporary file and renames it, so that the compressed generation
+     * only appears once it's complete. The uncompressed one is deleted afterwards.
+     */
+    private class Compression implements Callable<Void> {
+
+        private final File origin;
+
+
+        Compression(@NonNull File origin) {
+            this.origin = origin;
+        }
+
+
+        @Override
+        public Void call() throws IOException {
+
+            File destination = new File(origin.getPath() + COMPRESSED_EXTENSION);
+            File temporary = new File(destination.getPath() + TEMPORARY_EXTENSION);
+            InputStream inputStream = null;
+            FileOutputStream outputStream = null;
+
+            try {
+                inputStream = new FileInputStream(origin);
+                outputStream = new FileOutputStream(temporary);
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream);
+                CopyEngine.streamCopy(inputStream, gzipStream, origin.length());
+                gzipStream.finish();
+                if (durability != WriteOptions.Durability.NONE) {
+                    outputStream.getFD().sync();
+                }
+                gzipStream.close();
+                outputStream = null;
+
+                rename(temporary, destination);
+                if (!origin.delete()) {
+                    throw new IOException("Cannot delete " + origin.getPath());
+                }
+            } catch (IOException e) {
+                IOUtil.closeQuietly(outputStream);
+                outputStream = null;
+                temporary.delete();
+                throw e;
+            } finally {
+                IOUtil.closeQuietly(inputStream);
+                IOUtil.closeQuietly(outputStream);
+            }
+
+            return null;
+        }
+    }
+}
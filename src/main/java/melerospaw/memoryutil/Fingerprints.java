@@ -0,0 +1,123 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tells whether a file already holds some content, so that saves with
+ * {@link WriteOptions.Builder#skipUnchanged(boolean)} can leave it untouched.
+ * <p>The fingerprints of the last files saved or compared are kept in memory together with the
+ * length and modification time of the files, so comparing against a known file takes no reads.
+ * Otherwise the file is read and hashed, but only if its length is the one of the content, which
+ * tells most changed files apart for free. Files changed by other means without changing their
+ * length or modification time aren't detected, and the latter may have a granularity of up to a
+ * few seconds.</p>
+ */
+class Fingerprints {
+
+    private static final int MAX_CACHED_FINGERPRINTS = 256;
+
+    private static final Map<String, Fingerprint> fingerprints =
+            new LinkedHashMap<String, Fingerprint>(16, .75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Fingerprint> eldest) {
+                    return size() > MAX_CACHED_FINGERPRINTS;
+                }
+            };
+
+
+    private Fingerprints() {
+    }
+
+
+    /**
+     * Calculates the fingerprint of {@code content} using {@link IOUtil#DIGEST_ALGORITHM}.
+     */
+    @NonNull
+    static byte[] digest(@NonNull byte[] content, int length) {
+        MessageDigest digest = IOUtil.newDigest();
+        digest.update(content, 0, length);
+        return digest.digest();
+    }
+
+
+    /**
+     * Tells whether {@code file} holds content whose fingerprint is {@code digest}.
+     *
+     * @param file   The file.
+     * @param length Length of the content.
+     * @param digest Fingerprint of the content.
+     * @return {@code true} if the file exists and holds that content.
+     */
+    static boolean matches(@NonNull File file, long length, @NonNull byte[] digest) {
+
+        boolean matches = false;
+        String path = file.getAbsolutePath();
+        long fileLength = file.length();
+        long lastModified = file.lastModified();
+
+        if (fileLength == length && file.isFile()) {
+            Fingerprint fingerprint;
+            synchronized (fingerprints) {
+                fingerprint = fingerprints.get(path);
+            }
+
+            if (fingerprint == null || fingerprint.length != fileLength
+                    || fingerprint.lastModified != lastModified) {
+                try {
+                    fingerprint = new Fingerprint(IOUtil.digest(file), fileLength, lastModified);
+                    synchronized (fingerprints) {
+                        fingerprints.put(path, fingerprint);
+                    }
+                } catch (IOException e) {
+                    fingerprint = null;
+                }
+            }
+
+            matches = fingerprint != null && MessageDigest.isEqual(fingerprint.digest, digest);
+        }
+
+        return matches;
+    }
+
+
+    /**
+     * Remembers that {@code file}, as it is now, holds content whose fingerprint is
+     * {@code digest}. Call it once the content has been written.
+     */
+    static void record(@NonNull File file, @NonNull byte[] digest) {
+        Fingerprint fingerprint = new Fingerprint(digest, file.length(), file.lastModified());
+        synchronized (fingerprints) {
+            fingerprints.put(file.getAbsolutePath(), fingerprint);
+        }
+    }
+
+
+    /**
+     * Forgets the fingerprint of {@code file}, for instance because writing it failed.
+     */
+    static void forget(@NonNull File file) {
+        synchronized (fingerprints) {
+            fingerprints.remove(file.getAbsolutePath());
+        }
+    }
+
+
+    private static class Fingerprint {
+
+        final byte[] digest;
+        final long length;
+        final long lastModified;
+
+        Fingerprint(@NonNull byte[] digest, long length, long lastModified) {
+            this.digest = digest;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Duplicates a folder tree copying several files at the same time. The tree is walked on the
+ * calling thread, which creates the destination folders in order, while the files are copied by
+ * a bounded pool of IO threads. Once a file fails to be copied no more copies are started.
+ */
+class FolderDuplicator {
+
+    private final File originFolder;
+    private final File destinationFolder;
+    private final int concurrency;
+    private final AtomicInteger filesCopied = new AtomicInteger();
+    private final AtomicReference<String> failedPath = new AtomicReference<>();
+
+
+    /**
+     * @param originFolder      Folder to be copied. It must exist.
+     * @param destinationFolder The copy of {@code originFolder}. It must exist.
+     * @param concurrency       Maximum amount of files copied at the same time.
+     */
+    FolderDuplicator(@NonNull File originFolder, @NonNull File destinationFolder,
+                     int concurrency) {
+        this.originFolder = originFolder;
+        this.destinationFolder = destinationFolder;
+        this.concurrency = concurrency;
+    }
+
+
+    /**
+     * Copies the content of the origin folder into the destination folder and waits for every
+     * copy to finish.
+     *
+     * @return {@code true} if every file and folder was copied or else {@code false}. Then,
+     * {@link #getFailedPath()} tells which one failed.
+     */
+    boolean duplicate() {
+
+        final ExecutorService executor = IoExecutors.newBoundedExecutor(concurrency);
+        final List<Future<?>> copies = new ArrayList<>();
+
+        try {
+            boolean walked = FolderWalker.walk(originFolder, new FolderWalker.Visitor() {
+                @Override
+                public boolean onFolder(@NonNull File folder, @NonNull String relativePath) {
+                    File folderCopy = new File(destinationFolder, relativePath);
+                    if (!folderCopy.mkdir() && !folderCopy.isDirectory()) {
+                        fail(folder.getPath());
+                    }
+                    return !hasFailed();
+                }
+
+                @Override
+                public boolean onFile(@NonNull File file, @NonNull String relativePath) {
+                    copies.add(executor.submit(
+                            new FileCopy(file, new File(destinationFolder, relativePath))));
+                    return !hasFailed();
+                }
+            });
+
+            if (!walked) {
+                fail(originFolder.getPath());
+            }
+
+            for (Future<?> copy : copies) {
+                copy.get();
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(originFolder.getPath());
+        } catch (ExecutionException e) {
+            fail(originFolder.getPath());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return !hasFailed();
+    }
+
+
+    /**
+     * Returns the amount of files copied.
+     */
+    int getFilesCopied() {
+        return filesCopied.get();
+    }
+
+
+    /**
+     * Returns the path to the first file or folder that could not be copied.
+     *
+     * @return The path or {@code null} if there were no failures.
+     */
+    @Nullable
+    String getFailedPath() {
+        return failedPath.get();
+    }
+
+
+    private boolean hasFailed() {
+        return failedPath.get() != null;
+    }
+
+
+    private void fail(@NonNull String path) {
+        failedPath.compareAndSet(null, path);
+    }
+
+
+    /**
+     * Copies a single file unless another copy has already failed.
+     */
+    private class FileCopy implements Runnable {
+
+        private final File origin;
+        private final File destination;
+
+        FileCopy(@NonNull File origin, @NonNull File destination) {
+            this.origin = origin;
+            this.destination = destination;
+        }
+
+        @Override
+        public void run() {
+
+            if (hasFailed()) {
+                return;
+            }
+
+            try {
+                CopyEngine.copyFile(origin, destination);
+                filesCopied.incrementAndGet();
+            } catch (IOException e) {
+                fail(origin.getPath());
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+
+/**
+ * Makes a destination folder an exact copy of an origin folder copying only the files that
+ * changed since the last time, in the fashion of {@code rsync}. A file is considered unchanged
+ * when its copy has the same size and modification time or, if content comparison is enabled,
+ * the same size and content. Copies get the modification time of their originals so the next
+ * mirroring can skip them.
+ */
+class FolderMirror {
+
+    private final File originFolder;
+    private final File destinationFolder;
+    private final boolean compareContent;
+    private final boolean deleteExtraneous;
+
+    private int filesCopied;
+    private int filesUnchanged;
+    private int filesDeleted;
+    private String failedPath;
+
+
+    /**
+     * @param originFolder      Folder to be mirrored. It must exist.
+     * @param destinationFolder The mirror. It must exist.
+     * @param compareContent    Pass {@code true} to compare the content of the files whose size
+     *                          is the same instead of their modification time.
+     * @param deleteExtraneous  Pass {@code true} to delete the files in the destination folder
+     *                          that don't exist in the origin folder.
+     */
+    FolderMirror(@NonNull File originFolder, @NonNull File destinationFolder,
+                 boolean compareContent, boolean deleteExtraneous) {
+        this.originFolder = originFolder;
+        this.destinationFolder = destinationFolder;
+        this.compareContent = compareContent;
+        this.deleteExtraneous = deleteExtraneous;
+    }
+
+
+    /**
+     * Mirrors the origin folder. If extraneous files have to be deleted, they are deleted before
+     * copying anything so a file can replace a folder with the same name and vice versa.
+     *
+     * @return {@code true} if the destination folder is now a mirror of the origin folder or
+     * else {@code false}. Then, {@link #getFailedPath()} tells which file failed.
+     */
+    boolean mirror() {
+
+        boolean mirrored = !deleteExtraneous || deleteExtraneous(originFolder, destinationFolder);
+
+        if (mirrored) {
+            mirrored = FolderWalker.walk(originFolder, new FolderWalker.Visitor() {
+                @Override
+                public boolean onFolder(@NonNull File folder, @NonNull String relativePath) {
+                    File mirrorFolder = new File(destinationFolder, relativePath);
+                    boolean created = mirrorFolder.isDirectory() || mirrorFolder.mkdir();
+                    if (!created) {
+                        failedPath = folder.getPath();
+                    }
+                    return created;
+                }
+
+                @Override
+                public boolean onFile(@NonNull File file, @NonNull String relativePath) {
+                    boolean fileMirrored = mirrorFile(file,
+                            new File(destinationFolder, relativePath));
+                    if (!fileMirrored) {
+                        failedPath = file.getPath();
+                    }
+                    return fileMirrored;
+                }
+            });
+        }
+
+        if (!mirrored && failedPath == null) {
+            failedPath = originFolder.getPath();
+        }
+
+        return mirrored;
+    }
+
+
+    /**
+     * Copies {@code origin} to {@code mirror} if they differ.
+     *
+     * @param origin The file in the origin folder.
+     * @param mirror Its counterpart in the destination folder.
+     * @return {@code true} if {@code mirror} is now the same as {@code origin}.
+     */
+    private boolean mirrorFile(@NonNull File origin, @NonNull File mirror) {
+
+        boolean mirrored;
+
+        try {
+            if (isUnchanged(origin, mirror)) {
+                filesUnchanged++;
+            } else {
+                CopyEngine.copyFile(origin, mirror);
+                filesCopied++;
+            }
+
+            // If the content was compared, only the modification time may need to be fixed
+            if (mirror.lastModified() != origin.lastModified()) {
+                mirror.setLastModified(origin.lastModified());
+            }
+            mirrored = true;
+        } catch (IOException e) {
+            mirrored = false;
+        }
+
+        return mirrored;
+    }
+
+
+    private boolean isUnchanged(@NonNull File origin, @NonNull File mirror) throws IOException {
+
+        boolean isUnchanged;
+
+        if (!mirror.isFile() || mirror.length() != origin.length()) {
+            isUnchanged = false;
+        } else if (compareContent) {
+            isUnchanged = MessageDigest.isEqual(IOUtil.digest(origin), IOUtil.digest(mirror));
+        } else {
+            // Some file systems only keep the modification time in seconds
+            isUnchanged = mirror.lastModified() / 1000 == origin.lastModified() / 1000;
+        }
+
+        return isUnchanged;
+    }
+
+
+    /**
+     * Deletes every file in {@code mirrorFolder} that doesn't exist in {@code folder} or that is
+     * a folder in one and a file in the other.
+     *
+     * @param folder       Folder in the origin tree.
+     * @param mirrorFolder Its counterpart in the destination tree.
+     * @return {@code true} if every extraneous file could be deleted.
+     */
+    private boolean deleteExtraneous(@NonNull File folder, @NonNull File mirrorFolder) {
+
+        File[] mirrorFiles = mirrorFolder.listFiles();
+        boolean deleted = mirrorFiles != null;
+
+        if (deleted) {
+            for (File mirrorFile : mirrorFiles) {
+                File originFile = new File(folder, mirrorFile.getName());
+
+                if (!originFile.exists() || originFile.isDirectory() != mirrorFile.isDirectory()) {
+                    deleted = MemoryUtil.deleteFile(mirrorFile, true).isSuccessful();
+                    if (deleted) {
+                        filesDeleted++;
+                    }
+                } else if (mirrorFile.isDirectory()) {
+                    deleted = deleteExtraneous(originFile, mirrorFile);
+                }
+
+                if (!deleted) {
+                    if (failedPath == null) {
+                        failedPath = mirrorFile.getPath();
+                    }
+                    break;
+                }
+            }
+        }
+
+        return deleted;
+    }
+
+
+    int getFilesCopied() {
+        return filesCopied;
+    }
+
+
+    int getFilesUnchanged() {
+        return filesUnchanged;
+    }
+
+
+    int getFilesDeleted() {
+        return filesDeleted;
+    }
+
+
+    /**
+     * Returns the path to the first file that could not be mirrored or deleted.
+     *
+     * @return The path or {@code null} if there were no failures.
+     */
+    @Nullable
+    String getFailedPath() {
+        return failedPath;
+    }
+}
@@ -0,0 +1,241 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Searches the text files of a folder tree for lines containing a literal text or matching a
+ * regular expression, reading several files at the same time. The tree is walked on the calling
+ * thread, as {@link FolderDuplicator} does, while the files are read by a bounded pool of IO
+ * threads that hand every match to a {@link SearchCallback} as soon as it's found. Once a file
+ * fails to be read, or the callback throws, no more files are searched.
+ */
+class FolderSearcher {
+
+    private final File rootFolder;
+    private final FilenameFilter filter;
+    private final String text;
+    private final Pattern pattern;
+    private final int concurrency;
+    private final SearchCallback callback;
+    private final Object callbackLock = new Object();
+    private final AtomicInteger filesSearched = new AtomicInteger();
+    private final AtomicLong matches = new AtomicLong();
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private final AtomicReference<String> failedPath = new AtomicReference<>();
+    private volatile Exception failure;
+
+
+    /**
+     * @param rootFolder  Folder to be searched. It must exist.
+     * @param filter      Filter choosing which files are searched by name, or {@code null} to
+     *                    search all of them.
+     * @param text        Literal text the lines must contain, or {@code null} if {@code pattern}
+     *                    is used.
+     * @param pattern     Regular expression the lines must contain a match of, or {@code null}
+     *                    if {@code text} is used.
+     * @param concurrency Maximum amount of files read at the same time.
+     * @param callback    Object receiving the matches.
+     */
+    FolderSearcher(@NonNull File rootFolder, @Nullable FilenameFilter filter,
+                   @Nullable String text, @Nullable Pattern pattern, int concurrency,
+                   @NonNull SearchCallback callback) {
+        this.rootFolder = rootFolder;
+        this.filter = filter;
+        this.text = text;
+        this.pattern = pattern;
+        this.concurrency = concurrency;
+        this.callback = callback;
+    }
+
+
+    /**
+     * Searches every file accepted by the filter and waits for all of them to be read.
+     *
+     * @return {@code true} if every file was searched or the callback stopped the search, or
+     * else {@code false}. Then, {@link #getFailedPath()} tells which file failed and
+     * {@link #getFailure()} why.
+     */
+    boolean search() {
+
+        final ExecutorService executor = IoExecutors.newBoundedExecutor(concurrency);
+        final List<Future<?>> searches = new ArrayList<>();
+
+        try {
+            boolean walked = FolderWalker.walk(rootFolder, new FolderWalker.Visitor() {
+                @Override
+                public boolean onFolder(@NonNull File folder, @NonNull String relativePath) {
+                    return isSearching();
+                }
+
+                @Override
+                public boolean onFile(@NonNull File file, @NonNull String relativePath) {
+                    if (filter == null || filter.accept(file.getParentFile(), file.getName())) {
+                        searches.add(executor.submit(new FileSearch(file)));
+                    }
+                    return isSearching();
+                }
+            });
+
+            if (!walked && isSearching()) {
+                fail(rootFolder.getPath(), null);
+            }
+
+            for (Future<?> search : searches) {
+                search.get();
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(rootFolder.getPath(), e);
+        } catch (ExecutionException e) {
+            // Searches record their own failures, so this is only reached by errors
+            fail(rootFolder.getPath(), e.getCause() instanceof Exception ?
+                    (Exception) e.getCause() : e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return !hasFailed();
+    }
+
+
+    /**
+     * Returns the amount of files completely searched.
+     */
+    int getFilesSearched() {
+        return filesSearched.get();
+    }
+
+
+    /**
+     * Returns the amount of matching lines found.
+     */
+    long getMatches() {
+        return matches.get();
+    }
+
+
+    /**
+     * Returns the path to the first file or folder that could not be read.
+     *
+     * @return The path or {@code null} if there were no failures.
+     */
+    @Nullable
+    String getFailedPath() {
+        return failedPath.get();
+    }
+
+
+    /**
+     * Returns the exception thrown when reading the file returned by {@link #getFailedPath()},
+     * or by the callback while it was being searched.
+     *
+     * @return The exception or {@code null} if there were no failures or none was thrown.
+     */
+    @Nullable
+    Exception getFailure() {
+        return failure;
+    }
+
+
+    private boolean isSearching() {
+        return !stopped.get() && !hasFailed();
+    }
+
+
+    private boolean hasFailed() {
+        return failedPath.get() != null;
+    }
+
+
+    private void fail(@NonNull String path, @Nullable Exception exception) {
+        if (failedPath.compareAndSet(null, path)) {
+            failure = exception;
+        }
+    }
+
+
+    /**
+     * Reports a match to the callback, one at a time.
+     *
+     * @return {@code true} if the search goes on.
+     */
+    private boolean report(@NonNull File file, long lineNumber, @NonNull StringBuilder line) {
+        synchronized (callbackLock) {
+            if (isSearching()) {
+                matches.incrementAndGet();
+                if (!callback.onMatch(file, lineNumber, line.toString())) {
+                    stopped.set(true);
+                }
+            }
+            return isSearching();
+        }
+    }
+
+
+    /**
+     * Reads a single file line by line unless the search has already ended.
+     */
+    private class FileSearch implements Runnable {
+
+        private final File file;
+
+        FileSearch(@NonNull File file) {
+            this.file = file;
+        }
+
+        @Override
+        public void run() {
+
+            if (!isSearching()) {
+                return;
+            }
+
+            TextFileReader reader = null;
+            StringBuilder line = new StringBuilder();
+            Matcher matcher = pattern == null ? null : pattern.matcher(line);
+            boolean searching = true;
+            long lineNumber = 0;
+
+            try {
+                reader = new TextFileReader(file, Charset.defaultCharset());
+                while (searching && reader.readLine(line)) {
+                    lineNumber++;
+                    boolean found = matcher == null ?
+                            line.indexOf(text) >= 0 : matcher.reset(line).find();
+                    if (found) {
+                        searching = report(file, lineNumber, line);
+                    } else if ((lineNumber & 0x3FF) == 0) {
+                        searching = isSearching();
+                    }
+                }
+                if (searching) {
+                    filesSearched.incrementAndGet();
+                }
+            } catch (IOException e) {
+                fail(file.getPath(), e);
+            } catch (RuntimeException e) {
+                fail(file.getPath(), e);
+            } finally {
+                IOUtil.closeQuietly(reader);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.File;
+
+/**
+ * Walks a folder tree, listing the content of every folder only once. Folders are visited before
+ * their content, so a {@link Visitor} can create a folder's counterpart before being asked to
+ * handle the files in it.
+ */
+class FolderWalker {
+
+    /**
+     * Receives the files found while walking a folder tree.
+     */
+    interface Visitor {
+
+        /**
+         * Called for every folder inside the root folder, before visiting its content.
+         *
+         * @param folder       The folder found.
+         * @param relativePath Path of the folder relative to the root folder.
+         * @return {@code true} to keep on walking or {@code false} to stop.
+         */
+        boolean onFolder(@NonNull File folder, @NonNull String relativePath);
+
+        /**
+         * Called for every file that is not a folder.
+         *
+         * @param file         The file found.
+         * @param relativePath Path of the file relative to the root folder.
+         * @return {@code true} to keep on walking or {@code false} to stop.
+         */
+        boolean onFile(@NonNull File file, @NonNull String relativePath);
+    }
+
+
+    private FolderWalker() {
+    }
+
+
+    /**
+     * Visits every file and folder contained in {@code rootFolder}. The root folder itself is not
+     * visited.
+     *
+     * @param rootFolder The folder whose content will be visited.
+     * @param visitor    The object receiving the files found.
+     * @return {@code true} if the whole tree was visited or {@code false} if the visitor stopped
+     * the walk or a folder could not be listed.
+     */
+    static boolean walk(@NonNull File rootFolder, @NonNull Visitor visitor) {
+        return walk(rootFolder, StringUtil.EMPTY, visitor);
+    }
+
+
+    private static boolean walk(@NonNull File folder, @NonNull String relativePath,
+                                @NonNull Visitor visitor) {
+
+        File[] files = folder.listFiles();
+        boolean keepWalking = files != null;
+
+        if (keepWalking) {
+            for (File file : files) {
+                String fileRelativePath = relativePath.isEmpty() ?
+                        file.getName() : relativePath + File.separator + file.getName();
+
+                if (file.isDirectory()) {
+                    keepWalking = visitor.onFolder(file, fileRelativePath)
+                            && walk(file, fileRelativePath, visitor);
+                } else {
+                    keepWalking = visitor.onFile(file, fileRelativePath);
+                }
+
+                if (!keepWalking) {
+                    break;
+                }
+            }
+        }
+
+        return keepWalking;
+    }
+}
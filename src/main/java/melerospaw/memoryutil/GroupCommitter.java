@@ -0,0 +1,120 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Syncs files for {@link WriteOptions.Durability#GROUP_COMMIT} writes. A sync of a channel that
+ * isn't being synced starts right away. Syncs of the same channel asked for while it's being
+ * synced join a group that waits for it to end and is then synced with a single
+ * {@code force()}, done by the first thread that joined it, which covers everything written to
+ * the channel before it starts. Syncs of different channels don't wait for each other.
+ */
+class GroupCommitter {
+
+    private static final Object LOCK = new Object();
+    private static final Map<FileChannel, Group> waiting = new HashMap<>();
+    private static final Set<FileChannel> syncing = new HashSet<>();
+
+
+    private GroupCommitter() {
+    }
+
+
+    /**
+     * Syncs the content written to {@code channel} so far, together with other threads syncing
+     * it at the same time, and waits for it.
+     *
+     * @param channel Channel to the file to be synced. It must stay open until this method
+     *                returns.
+     * @throws IOException If syncing fails, or {@code InterruptedIOException} if the thread is
+     *                     interrupted while waiting for another thread to sync it.
+     */
+    static void sync(@NonNull FileChannel channel) throws IOException {
+
+        Group group;
+        boolean leader;
+
+        synchronized (LOCK) {
+            group = waiting.get(channel);
+            leader = group == null;
+            if (leader) {
+                group = new Group();
+                waiting.put(channel, group);
+            }
+        }
+
+        if (leader) {
+            group.sync(channel);
+        }
+        group.await();
+    }
+
+
+    private static class Group {
+
+        private final CountDownLatch done = new CountDownLatch(1);
+        private IOException exception;
+
+
+        /**
+         * Waits until {@code channel} isn't being synced, closes the group and syncs the channel
+         * for every thread in it.
+         */
+        void sync(@NonNull FileChannel channel) {
+
+            boolean interrupted = false;
+
+            synchronized (LOCK) {
+                // Other threads keep joining the group meanwhile
+                while (syncing.contains(channel)) {
+                    try {
+                        LOCK.wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                waiting.remove(channel);
+                syncing.add(channel);
+            }
+
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                exception = e;
+            } finally {
+                synchronized (LOCK) {
+                    syncing.remove(channel);
+                    LOCK.notifyAll();
+                }
+                done.countDown();
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+
+        void await() throws IOException {
+
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a group commit");
+            }
+
+            if (exception != null) {
+                throw exception;
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package melerospaw.memoryutil;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.system.ErrnoException;
+import android.system.Os;
+import android.system.OsConstants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Helper methods for dealing with streams, channels and files.
+ */
+class IOUtil {
+
+    /** Algorithm used to fingerprint the content of files. */
+    static final String DIGEST_ALGORITHM = "SHA-1";
+
+    /** Largest array most VMs can allocate. */
+    static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private IOUtil() {
+    }
+
+    /**
+     * Closes {@code closeable} ignoring any exception. Use it only for cleaning up after another
+     * error has already been reported.
+     *
+     * @param closeable The object to be closed. Nothing happens if it's {@code null}.
+     */
+    static void closeQuietly(@Nullable Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException ignored) {
+                // Nothing else can be done
+            }
+        }
+    }
+
+
+    /**
+     * Creates a new {@code MessageDigest} using {@link #DIGEST_ALGORITHM}.
+     *
+     * @return The {@code MessageDigest}.
+     */
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Android device must support SHA-1
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Calculates the fingerprint of the content of {@code file} using {@link #DIGEST_ALGORITHM}.
+     *
+     * @param file The file to be read.
+     * @return The digest of the content of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    static byte[] digest(@NonNull File file) throws IOException {
+
+        MessageDigest digest = newDigest();
+        byte[] buffer = BufferPool.acquireHeapBuffer(file.length());
+        FileInputStream streamToFile = new FileInputStream(file);
+
+        try {
+            int length;
+            while ((length = streamToFile.read(buffer)) > 0) {
+                digest.update(buffer, 0, length);
+            }
+        } finally {
+            closeQuietly(streamToFile);
+            BufferPool.releaseHeapBuffer(buffer);
+        }
+
+        return digest.digest();
+    }
+
+
+    /**
+     * Syncs the entries of {@code folder}, so that files created, renamed or deleted in it
+     * survive a power loss. Java cannot open folders, so it's only possible from Lollipop on,
+     * through {@code android.system.Os}. On older versions nothing is done.
+     *
+     * @param folder The folder to be synced.
+     * @throws IOException If the folder cannot be opened or synced.
+     */
+    static void syncFolder(@NonNull File folder) throws IOException {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            fsyncFolder(folder);
+        }
+    }
+
+
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    private static void fsyncFolder(@NonNull File folder) throws IOException {
+        try {
+            FileDescriptor descriptor = Os.open(folder.getPath(), OsConstants.O_RDONLY, 0);
+            try {
+                Os.fsync(descriptor);
+            } finally {
+                Os.close(descriptor);
+            }
+        } catch (ErrnoException e) {
+            IOException ioException = new IOException("Cannot sync folder " + folder.getPath());
+            ioException.initCause(e);
+            throw ioException;
+        }
+    }
+
+
+    /**
+     * Reads the whole content of {@code file} into an array sized after its length, so that
+     * usually a single {@code read()} is needed and no bytes are copied afterwards. If the file
+     * grows or shrinks while being read, the array still contains exactly what was read.
+     *
+     * @param file The file to be read.
+     * @return The content of the file.
+     * @throws IOException If the file cannot be read or is too big to fit in an array.
+     */
+    static byte[] readFully(@NonNull File file) throws IOException {
+
+        long length = file.length();
+        if (length > MAX_ARRAY_LENGTH) {
+            throw new IOException("File " + file.getPath() + " is too big to be loaded in memory");
+        }
+
+        byte[] content = new byte[(int) length];
+        FileInputStream streamToFile = new FileInputStream(file);
+        int read = 0;
+
+        try {
+            int count;
+            while (read < content.length
+                    && (count = streamToFile.read(content, read, content.length - read)) > 0) {
+                read += count;
+            }
+
+            int next = read == content.length ? streamToFile.read() : -1;
+            if (next != -1) {
+                // The file grew after its length was taken
+                ByteArrayOutputStream grownContent = new ByteArrayOutputStream(read * 2 + 1);
+                grownContent.write(content, 0, read);
+                grownContent.write(next);
+                CopyEngine.streamCopy(streamToFile, grownContent, 0);
+                content = grownContent.toByteArray();
+            } else if (read < content.length) {
+                content = Arrays.copyOf(content, read);
+            }
+        } finally {
+            closeQuietly(streamToFile);
+        }
+
+        return content;
+    }
+
+
+    /**
+     * Maps the whole content of {@code file} in memory for reading. The file is closed before
+     * returning, which doesn't affect the mapping, and its pages are loaded by the operating system
+     * when they are first read, so nothing is copied to the Java heap.
+     *
+     * @param file The file to be mapped.
+     * @return A read-only buffer with the content of the file.
+     * @throws IOException If the file cannot be mapped or is too big to be mapped at once.
+     */
+    static MappedByteBuffer map(@NonNull File file) throws IOException {
+
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            long length = channel.size();
+            if (length > MAX_ARRAY_LENGTH) {
+                throw new IOException("File " + file.getPath()
+                        + " is too big to be mapped at once");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        } finally {
+            closeQuietly(randomAccessFile);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package melerospaw.memoryutil;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executors used by {@link MemoryUtil} to run IO operations in parallel.
+ */
+class IoExecutors {
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+
+    private IoExecutors() {
+    }
+
+
+    /**
+     * Creates an executor running at most {@code concurrency} tasks at the same time. Tasks
+     * submitted while every thread is busy wait in an unbounded queue. The caller is in charge of
+     * shutting it down.
+     *
+     * @param concurrency Maximum amount of threads. Must be greater than 0.
+     * @return A new {@code ExecutorService} whose threads are daemon threads.
+     */
+    static ExecutorService newBoundedExecutor(int concurrency) {
+        return new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(), new IoThreadFactory());
+    }
+
+
+    /**
+     * Creates an executor with a single thread to run delayed and periodic tasks. The caller is
+     * in charge of shutting it down, unless it lives as long as the process.
+     *
+     * @return A new {@code ScheduledExecutorService} whose thread is a daemon thread.
+     */
+    static ScheduledExecutorService newScheduledExecutor() {
+        return new ScheduledThreadPoolExecutor(1, new IoThreadFactory());
+    }
+
+
+    private static class IoThreadFactory implements ThreadFactory {
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "MemoryUtil-IO-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+/**
+ * Serializes objects with {@code ObjectOutputStream} and {@code ObjectInputStream}, the way
+ * {@link MemoryUtil} always did.
+ */
+class JavaSerializer implements Serializer<Object> {
+
+    @Override
+    public void write(@NonNull Object object, @NonNull OutputStream output) throws IOException {
+        ObjectOutputStream objectStream = new ObjectOutputStream(output);
+        objectStream.writeObject(object);
+        objectStream.flush();
+    }
+
+
+    @NonNull
+    @Override
+    public Object read(@NonNull InputStream input) throws IOException {
+        try {
+            return readObject(input);
+        } catch (ClassNotFoundException e) {
+            InvalidClassException exception = new InvalidClassException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+
+    /**
+     * Reads an object keeping {@code ClassNotFoundException} apart from other errors.
+     */
+    static Object readObject(@NonNull InputStream input) throws IOException,
+            ClassNotFoundException {
+        return new ObjectInputStream(input).readObject();
+    }
+
+
+    @Override
+    public String toString() {
+        return "Java serialization";
+    }
+}
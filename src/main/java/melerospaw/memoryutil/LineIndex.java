@@ -0,0 +1,313 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index of the offsets where every line of a text file starts, persisted in a hidden sidecar
+ * file next to it ({@code .name.lines}) so that any line can be reached with a single seek. The
+ * sidecar is a header followed by one {@code long} per line, so the offsets of a range of lines
+ * are read without loading the rest.
+ * <p>The sidecar records the length and modification time of the file it indexes, and is built
+ * again when any of them changes. Lines end with {@code \n}, {@code \r} or {@code \r\n}, as in
+ * {@link TextFileReader}, which are looked for as bytes, so the charset of the file must encode
+ * them as single bytes, as UTF-8 and ISO-8859-1 do.</p>
+ */
+class LineIndex {
+
+    private static final int MAGIC = 0x4C494458;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 2 * 4 + 3 * 8;
+    private static final int OFFSET_SIZE = 8;
+    private static final int OFFSETS_PER_WRITE = 8 * 1024;
+    private static final String SIDECAR_PREFIX = ".";
+    private static final String SIDECAR_EXTENSION = ".lines";
+
+    private final File file;
+    private final File sidecar;
+    private final long lineCount;
+    private final long fileLength;
+
+
+    private LineIndex(@NonNull File file, @NonNull File sidecar, long lineCount,
+                      long fileLength) {
+        this.file = file;
+        this.sidecar = sidecar;
+        this.lineCount = lineCount;
+        this.fileLength = fileLength;
+    }
+
+
+    /**
+     * Returns the index of {@code file}, building it if the sidecar doesn't exist or is out of
+     * date.
+     *
+     * @param file The text file.
+     * @return The index.
+     * @throws IOException If the file cannot be read or the sidecar cannot be written.
+     */
+    @NonNull
+    static LineIndex open(@NonNull File file) throws IOException {
+
+        File sidecar = getSidecar(file);
+        long fileLength = file.length();
+        long lastModified = file.lastModified();
+        long lineCount = readLineCount(sidecar, fileLength, lastModified);
+
+        if (lineCount < 0) {
+            lineCount = build(file, sidecar, fileLength, lastModified);
+        }
+
+        return new LineIndex(file, sidecar, lineCount, fileLength);
+    }
+
+
+    /**
+     * Returns the sidecar file where the index of {@code file} is persisted.
+     */
+    @NonNull
+    static File getSidecar(@NonNull File file) {
+        return new File(file.getAbsoluteFile().getParentFile(),
+                SIDECAR_PREFIX + file.getName() + SIDECAR_EXTENSION);
+    }
+
+
+    /**
+     * Returns the amount of lines in the file.
+     */
+    long getLineCount() {
+        return lineCount;
+    }
+
+
+    /**
+     * Reads {@code count} lines starting at line {@code fromLine}, with a single seek. Lines past
+     * the end of the file are not returned.
+     *
+     * @param fromLine Zero based number of the first line.
+     * @param count    Maximum amount of lines to read.
+     * @param charset  Charset the file is encoded with.
+     * @return The lines, without their terminators.
+     * @throws IOException If the file or the sidecar cannot be read.
+     */
+    @NonNull
+    List<String> readLines(long fromLine, int count, @NonNull Charset charset) throws IOException {
+
+        int available = (int) Math.max(0, Math.min(count, lineCount - fromLine));
+        List<String> lines = new ArrayList<>(available);
+
+        if (available > 0) {
+            long[] offsets = readOffsets(fromLine, available);
+            long length = offsets[available] - offsets[0];
+            if (length > IOUtil.MAX_ARRAY_LENGTH) {
+                throw new IOException("Lines " + fromLine + " to " + (fromLine + available)
+                        + " of " + file.getPath() + " are too big to be read at once");
+            }
+
+            byte[] bytes = new byte[(int) length];
+            RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+            try {
+                randomAccessFile.seek(offsets[0]);
+                randomAccessFile.readFully(bytes);
+            } finally {
+                randomAccessFile.close();
+            }
+
+            for (int i = 0; i < available; i++) {
+                int start = (int) (offsets[i] - offsets[0]);
+                int end = (int) (offsets[i + 1] - offsets[0]);
+                if (end > start && bytes[end - 1] == '\n') {
+                    end--;
+                }
+                if (end > start && bytes[end - 1] == '\r') {
+                    end--;
+                }
+                lines.add(new String(bytes, start, end - start, charset));
+            }
+        }
+
+        return lines;
+    }
+
+
+    /**
+     * Reads the offsets of {@code count} lines plus the offset where the last of them ends.
+     */
+    @NonNull
+    private long[] readOffsets(long fromLine, int count) throws IOException {
+
+        long[] offsets = new long[count + 1];
+        int indexed = (int) Math.min(count + 1, lineCount - fromLine);
+        ByteBuffer buffer = ByteBuffer.allocate(indexed * OFFSET_SIZE);
+        FileInputStream inputStream = new FileInputStream(sidecar);
+
+        try {
+            FileChannel channel = inputStream.getChannel();
+            long position = HEADER_SIZE + fromLine * OFFSET_SIZE;
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Index of " + file.getPath() + " is truncated");
+                }
+            }
+        } finally {
+            inputStream.close();
+        }
+
+        buffer.flip();
+        buffer.asLongBuffer().get(offsets, 0, indexed);
+
+        // The last line ends where the file does
+        if (indexed == count) {
+            offsets[count] = fileLength;
+        }
+
+        return offsets;
+    }
+
+
+    /**
+     * Reads the header of the sidecar.
+     *
+     * @return The amount of lines, or -1 if the sidecar doesn't exist, is corrupted or indexes a
+     * different version of the file.
+     */
+    private static long readLineCount(@NonNull File sidecar, long fileLength, long lastModified)
+            throws IOException {
+
+        long lineCount = -1;
+
+        if (sidecar.isFile() && sidecar.length() >= HEADER_SIZE) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            FileInputStream inputStream = new FileInputStream(sidecar);
+            try {
+                FileChannel channel = inputStream.getChannel();
+                while (header.hasRemaining() && channel.read(header) >= 0) {
+                    // Keeps reading until the header is complete
+                }
+            } finally {
+                inputStream.close();
+            }
+
+            header.flip();
+            if (header.remaining() == HEADER_SIZE && header.getInt() == MAGIC
+                    && header.getInt() == VERSION && header.getLong() == fileLength
+                    && header.getLong() == lastModified) {
+                long count = header.getLong();
+                if (sidecar.length() == HEADER_SIZE + count * OFFSET_SIZE) {
+                    lineCount = count;
+                }
+            }
+        }
+
+        return lineCount;
+    }
+
+
+    /**
+     * Scans {@code file} once, writing the offsets to a temporary file that replaces the sidecar
+     * when complete, so a concurrent reader never finds half an index.
+     *
+     * @return The amount of lines.
+     */
+    private static long build(@NonNull File file, @NonNull File sidecar, long fileLength,
+                              long lastModified) throws IOException {
+
+        File temporary = File.createTempFile(sidecar.getName(), null, sidecar.getParentFile());
+        InputStream inputStream = null;
+        FileOutputStream outputStream = null;
+        byte[] buffer = BufferPool.acquireHeapBuffer(fileLength);
+        ByteBuffer offsetBytes = ByteBuffer.allocate(OFFSETS_PER_WRITE * OFFSET_SIZE);
+        LongBuffer offsets = offsetBytes.asLongBuffer();
+        long lineCount = 0;
+
+        try {
+            inputStream = new FileInputStream(file);
+            outputStream = new FileOutputStream(temporary);
+            FileChannel channel = outputStream.getChannel();
+            channel.position(HEADER_SIZE);
+
+            boolean lineStart = true;
+            boolean afterCarriageReturn = false;
+            long position = 0;
+            int length;
+
+            // Only the bytes present when the index was opened are indexed, as in the header
+            while (position < fileLength && (length = inputStream.read(buffer, 0,
+                    (int) Math.min(buffer.length, fileLength - position))) > 0) {
+                for (int i = 0; i < length; i++) {
+                    byte b = buffer[i];
+                    if (afterCarriageReturn) {
+                        afterCarriageReturn = false;
+                        if (b == '\n') {
+                            continue;
+                        }
+                    }
+                    if (lineStart) {
+                        if (!offsets.hasRemaining()) {
+                            writeOffsets(channel, offsetBytes, offsets);
+                        }
+                        offsets.put(position + i);
+                        lineCount++;
+                        lineStart = false;
+                    }
+                    if (b == '\n') {
+                        lineStart = true;
+                    } else if (b == '\r') {
+                        lineStart = true;
+                        afterCarriageReturn = true;
+                    }
+                }
+                position += length;
+            }
+            writeOffsets(channel, offsetBytes, offsets);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putLong(position).putLong(lastModified)
+                    .putLong(lineCount);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+
+            outputStream.close();
+            outputStream = null;
+
+            if (!temporary.renameTo(sidecar)) {
+                throw new IOException("Cannot rename " + temporary.getPath() + " to "
+                        + sidecar.getPath());
+            }
+        } finally {
+            BufferPool.releaseHeapBuffer(buffer);
+            IOUtil.closeQuietly(inputStream);
+            IOUtil.closeQuietly(outputStream);
+            if (temporary.exists()) {
+                temporary.delete();
+            }
+        }
+
+        return lineCount;
+    }
+
+
+    private static void writeOffsets(@NonNull FileChannel channel, @NonNull ByteBuffer offsetBytes,
+                                     @NonNull LongBuffer offsets) throws IOException {
+        offsetBytes.position(0).limit(offsets.position() * OFFSET_SIZE);
+        while (offsetBytes.hasRemaining()) {
+            channel.write(offsetBytes);
+        }
+        offsetBytes.clear();
+        offsets.clear();
+    }
+}
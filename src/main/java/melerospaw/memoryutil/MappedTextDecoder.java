@@ -0,0 +1,128 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Decodes a text file without copying its bytes to the Java heap. The file is mapped in windows
+ * of {@link #WINDOW_SIZE} bytes, so huge files don't exhaust the address space of 32-bit devices,
+ * and every window is decoded by the same {@code CharsetDecoder} into the same
+ * {@link #CHUNK_SIZE} chars buffer, which is handed to a {@link TextChunkCallback} every time it
+ * fills up. Only a chunk of chars lives on the heap at any time.
+ */
+class MappedTextDecoder {
+
+    /** Bytes mapped at once. */
+    static final int WINDOW_SIZE = 16 * 1024 * 1024;
+
+    /** Chars delivered on every chunk, except maybe the last one. */
+    static final int CHUNK_SIZE = 64 * 1024;
+
+
+    private MappedTextDecoder() {
+    }
+
+
+    /**
+     * Decodes {@code file} and delivers its content to {@code callback}. Malformed input is
+     * replaced, as {@code new String(bytes, charset)} does.
+     *
+     * @param file     The file to be decoded.
+     * @param charset  Charset the file is encoded with.
+     * @param callback Object receiving the chunks.
+     * @return The amount of chars delivered.
+     * @throws IOException If the file cannot be read or mapped.
+     */
+    static long decode(@NonNull File file, @NonNull Charset charset,
+                       @NonNull TextChunkCallback callback) throws IOException {
+
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chunk = CharBuffer.allocate(CHUNK_SIZE);
+        FileInputStream streamToFile = new FileInputStream(file);
+        long delivered = 0;
+
+        try {
+            FileChannel channel = streamToFile.getChannel();
+            long size = channel.size();
+            long position = 0;
+            boolean keepReading = true;
+
+            while (keepReading && position < size) {
+                long windowSize = Math.min(WINDOW_SIZE, size - position);
+                boolean lastWindow = position + windowSize == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        windowSize);
+                CoderResult coderResult;
+
+                do {
+                    coderResult = decoder.decode(window, chunk, lastWindow);
+                    throwIfError(coderResult);
+                    if (coderResult.isOverflow()) {
+                        delivered += chunk.position();
+                        keepReading = deliver(chunk, callback);
+                    }
+                } while (keepReading && coderResult.isOverflow());
+
+                // The bytes of a char split between two windows are left unread in this window,
+                // so the next one starts with them
+                position += window.position();
+            }
+
+            if (keepReading) {
+                // An empty file maps no window, and a decoder can only be flushed after decoding
+                if (size == 0) {
+                    throwIfError(decoder.decode(ByteBuffer.allocate(0), chunk, true));
+                }
+
+                CoderResult coderResult;
+                do {
+                    coderResult = decoder.flush(chunk);
+                    if (coderResult.isOverflow()) {
+                        delivered += chunk.position();
+                        keepReading = deliver(chunk, callback);
+                    }
+                } while (keepReading && coderResult.isOverflow());
+
+                if (keepReading && chunk.position() > 0) {
+                    delivered += chunk.position();
+                    deliver(chunk, callback);
+                }
+            }
+        } finally {
+            IOUtil.closeQuietly(streamToFile);
+        }
+
+        return delivered;
+    }
+
+
+    private static boolean deliver(@NonNull CharBuffer chunk,
+                                   @NonNull TextChunkCallback callback) {
+        chunk.flip();
+        boolean keepReading = callback.onChunk(chunk);
+        chunk.clear();
+        return keepReading;
+    }
+
+
+    private static void throwIfError(@NonNull CoderResult coderResult)
+            throws CharacterCodingException {
+        if (coderResult.isError()) {
+            coderResult.throwException();
+        }
+    }
+}
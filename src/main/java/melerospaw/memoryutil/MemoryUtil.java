@@ -9,23 +9,30 @@ import android.os.Environment;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.io.Serializable;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.regex.Pattern;
 
 import melerospaw.memoryutil.ExceptionManager.ExceptionType;
 
@@ -41,20 +48,28 @@ public class MemoryUtil {
     private static final String BITMAP_LOADED = "Bitmap was loaded from %1$s.";
     private static final String BITMAP_LOADED_FROM_URI = "Bitmap was loaded from uri %1$s.";
     private static final String BITMAP_SAVED = "Bitmap was saved to %1$s.";
+    private static final String BYTE_ARRAY_LOADED = "Byte array was loaded from %1$s.";
+    private static final String BYTE_ARRAY_MAPPED = "File %1$s was mapped in memory.";
     private static final String BYTE_ARRAY_SAVED = "Byte array was saved to %1$s.";
+    private static final String BYTE_ARRAY_TOO_BIG = "Cannot %1$s because the file is too big to fit in a byte[].";
+    private static final String BYTE_ARRAY_UNCHANGED = "Byte array was already saved in %1$s, nothing was written.";
+    private static final String CANNOT_COMPRESS_BITMAP = "Cannot %1$s because the bitmap cannot be compressed.";
     private static final String CANNOT_CONVERT_TO_BITMAP = "Cannot %1$s because the file cannot be converted to a Bitmap object.";
     private static final String CANNOT_COPY = "Couldn't copy file %1$s to %2$s.";
     private static final String CANNOT_CREATE_DESTIONATION_FOLDER = "Couldn't %1$s because it was impossible to create destination folder %2$s.";
     private static final String CANNOT_CREATE_FOLDER = "Couldn't create folder %1$s.";
     private static final String CANNOT_CREATE_OBJECT_FILE = "Cannot save the given object to file %1$s because there was an error while writing.";
-    private static final String CANNOT_CREATE_OBJECT_INPUT_STREAM = "Cannot %1$s because it was not possible to create an ObjectOutputStream.";
     private static final String CANNOT_DELETE = "File %1$s couldn't be deleted.";
     private static final String CANNOT_DELETE_FOLDER = "Cannot %1$s because inner folder %2$s cannot be deleted.";
     private static final String CANNOT_DUPLICATE_FILE = "Cannot %1$s because file %2$s could not be duplicated.";
+    private static final String CANNOT_MIRROR_FILE = "Cannot %1$s because file %2$s could not be mirrored.";
     private static final String CANNOT_READ_OBJECT = "Cannot %1$s because the object could not be read.";
     private static final String CANNOT_SAVE_TEXT = "Cannot save text to file %1$s.";
+    private static final String CANNOT_SEARCH_FILE = "Cannot %1$s because file %2$s could not be read.";
     private static final String CLASS_NOT_FOUND = "Cannot %1$s because such class was not found.";
     private static final String CLEAR_FOLDER = "clear folder %1$s";
+    private static final String CONTAINED_OBJECT_LOADED = "Object %1$s retrieved from container %2$s.";
+    private static final String COPY_CANCELLED = "Copy of %1$s to %2$s was cancelled. The partial copy was deleted.";
     private static final String COPY_FROM_INPUT_STREAM = "copy %1$s from an InputStream";
     private static final String COULD_NOT_CREATE_PATH = "Could not create path %1$s.";
     private static final String CREATE_FOLDER = "create folder %1$s";
@@ -65,10 +80,12 @@ public class MemoryUtil {
     private static final String DIRECTORY_HAS_FILES = "Cannot %1$s because it is a directory containing other files. If you want to delete it, pass shouldClearIfDirectory = true as second parameter to method deleteFile().";
     private static final String DUPLICATE_FILE = "duplicate file %1$s";
     private static final String DUPLICATE_FOLDER = "duplicate folder %1$s";
+    private static final String ERROR_READING_BYTE_ARRAY = "Cannot %1$s because there was an error while reading the file.";
     private static final String ERROR_WHILE_READING = "An error occurred while reading text fom file %1$s.";
     private static final String ERROR_WRITING_BYTE_ARRAY = "Cannot %1$s because there was an error while writing the byte[].";
     private static final String FAILED = "Cannot %1$s. FAILED.";
     private static final String FILE_COPIED = "File %1$s was copied to %2$s.";
+    private static final String FILE_COPIED_RESUMING = "File %1$s was copied to %2$s resuming from byte %3$s.";
     private static final String FILE_DELETED = "File %1$s was deleted.";
     private static final String FILE_DOESNT_EXIST = "Cannot %1$s because the file doesn't exist.";
     private static final String FILE_EXISTS = "File %1$s exists.";
@@ -78,34 +95,64 @@ public class MemoryUtil {
     private static final String FOLDER_CLEARED = "Folder %1$s was cleared.";
     private static final String FOLDER_CREATED = "Folder %1$s was created.";
     private static final String FOLDER_DUPLICATED = "Folder %1$s was duplicated to %2$s.";
+    private static final String FOLDER_DUPLICATED_IN_PARALLEL = "Folder %1$s was duplicated to %2$s. %3$s files were copied.";
     private static final String FOLDER_EMPTY = "Folder %1$s is empty.";
     private static final String FOLDER_IS_NOT_EMPTY = "Folder %1$s is not empty.";
+    private static final String FOLDER_MIRRORED = "Folder %1$s was mirrored to %2$s. %3$s files copied, %4$s unchanged and %5$s deleted.";
     private static final String FOLDER_NOT_CLEARED = "Cannot %1$s because it's a folder but it could not be cleared.";
+    private static final String FOLDER_SEARCHED = "%1$s matching lines were found in %2$s files of folder %3$s.";
     private static final String IMAGE_LOADED_FROM_ASSETS = "Image %1$s was retrieved from assets.";
     private static final String IMAGE_NOT_FOUND_IN_ASSETS = "Image %1$s was not found in assets.";
     private static final String IMPOSSIBLE_TO_CREATE_FOLDER = "Couldn't %1$s because it was impossible to create folder %2$s.";
+    private static final String INDEX_TEXT_FILE = "index text file %1$s";
     private static final String IS_A_FOLDER = "File %1$s is a folder.";
     private static final String IS_VALID_FOR_SAVING = "Path %1$s is valid for saving to it.";
+    private static final String KEY_NOT_IN_CONTAINER = "Cannot %1$s because the container has no object with that key.";
+    private static final String LAST_LINES_READ = "%1$s last lines were read from file %2$s.";
+    private static final String LINES_READ = "%1$s lines were read from file %2$s.";
     private static final String LOAD_BITMAP = "load image %1$s";
     private static final String LOAD_BITMAP_FROM_URI = "load bitmap from uri %1$s";
+    private static final String LOAD_BYTE_ARRAY = "load a byte array from file %1$s";
+    private static final String LOAD_BYTE_ARRAY_MAPPED = "load a byte array mapping file %1$s";
+    private static final String LOAD_CONTAINED_OBJECT = "load object %1$s from container %2$s";
     private static final String LOAD_OBJECT = "load a/an %1$s object from file %2$s";
     private static final String LOAD_TEXT_FROM_FILE = "load text from file %1$s";
+    private static final String LOAD_TEXT_FROM_FILE_MAPPED = "load text mapping file %1$s";
+    private static final String MIRROR_FOLDER = "mirror folder %1$s";
     private static final String NOT_A_FOLDER = "File %1$s is not a folder.";
     private static final String NO_PREFERENCES_RESTORED = "No preferences at all were restored from %1$s.";
     private static final String NULL_FILE_FROM_URI = "Cannot %1$s because the bitmap obtained from %2$s happens to be null. The uri may not be referencing an image.";
+    private static final String OBJECTS_SAVED = "%1$s objects were saved to container %2$s.";
     private static final String OBJECT_LOADED = "Object retrieved from %1$s.";
+    private static final String OBJECT_LOADED_FROM_CACHE = "Object retrieved from cache for %1$s.";
     private static final String OBJECT_SAVED = "Object saved to %1$s.";
+    private static final String OBJECT_STORE_OPENED = "Object store in folder %1$s was opened.";
+    private static final String OBJECT_UNCHANGED = "Object was already saved in %1$s, nothing was written.";
+    private static final String OPEN_OBJECT_STORE = "open an object store in folder %1$s";
+    private static final String OPEN_TEXT_APPENDER = "open an appender to file %1$s";
+    private static final String OPEN_TEXT_FILE = "open text file %1$s";
+    private static final String OPEN_TEXT_FILE_REVERSED = "open text file %1$s backward";
     private static final String PATH_CONTAINED_NO_FOLDERS = "Path object %1$s contains no folders, so no intermediate folders were created to create it.";
     private static final String PATH_CREATED = "Folders %1$s were created or already existed. Path created.";
     private static final String PREFERENCES_PARTIALLY_RESTORED = "Stored preferences in %1$s could only be partially restored.\n%2$s";
+    private static final String READ_LINES = "read lines from file %1$s";
     private static final String SAVE_BITMAP = "save a bitmap to %1$s";
     private static final String SAVE_BYTE_ARRAY = "save a byte array to file %1$s";
     private static final String SAVE_OBJECT = "save an object to file %1$s";
+    private static final String SAVE_OBJECTS = "save objects to container %1$s";
     private static final String SAVE_SHARED_PREFERENCES = "save SharedPreferences to file %1$s";
     private static final String SAVE_TEXT_TO_FILE = "save text to file %1$s";
+    private static final String SEARCH_FOLDER = "search folder %1$s";
     private static final String SHARED_PREFERENCES_NOT_RESTORED = "Cannot load SharedPreferences preferences from %1$s.";
     private static final String STATEMENT_FILE_DOESNT_EXISTS = "File %1$s doesn't exists.";
+    private static final String TAIL_TEXT_FILE = "read the last lines of file %1$s";
+    private static final String TEXT_APPENDER_OPENED = "Appender to file %1$s was opened.";
+    private static final String TEXT_DECODED = "Text was decoded from file %1$s. %2$s chars were delivered.";
+    private static final String TEXT_FILE_INDEXED = "Text file %1$s was indexed. It has %2$s lines.";
+    private static final String TEXT_FILE_OPENED = "Text file %1$s was opened for reading.";
+    private static final String TEXT_FILE_OPENED_REVERSED = "Text file %1$s was opened for reading backward.";
     private static final String TEXT_FILE_SAVED = "Text was saved to %1$s.";
+    private static final String TEXT_FILE_TOO_BIG = "Cannot %1$s because the file is too big to be loaded in memory.";
     private static final String TEXT_LOADED = "Text was loaded from file %1$s.";
     private static final String UNEXPECTED_IO_ERROR = "Cannot %1$s because there was an unexpected IO error.";
 
@@ -146,7 +193,9 @@ public class MemoryUtil {
 
     /**
      * Receives an {@code InputStream} whose file will be copied to {@code destinationPath}. The
-     * destination folder must exist or else it will fail.
+     * destination folder must exist or else it will fail. If {@code inputStream} is a
+     * {@code FileInputStream}, the bytes are moved by the kernel using {@code FileChannel}s
+     * instead of being copied through the Java heap.
      *
      * @param originPath      The path to the file pointed by the {@code InputStream}, just for
      *                        logging purposes. Pass null if you don't know the path or don't care
@@ -159,6 +208,67 @@ public class MemoryUtil {
     public static Result<File> copyFromInputStream(@Nullable String originPath,
                                                    @NonNull InputStream inputStream,
                                                    @NonNull String destinationPath) {
+        return copyFromInputStream(originPath, inputStream, destinationPath, (CopyHandle) null);
+    }
+
+
+    /**
+     * Receives an {@code InputStream} whose file will be copied to {@code destinationPath}
+     * reporting the progress to {@code handle}. The folders necessary will be created for you.
+     * See {@link #copyFromInputStream(String, InputStream, String, CopyHandle)} for details.
+     *
+     * @param originPath      The path to the file pointed by the {@code InputStream}, just for
+     *                        logging purposes. Pass null if you don't know the path or don't care
+     *                        about the log.
+     * @param inputStream     Stream to copy from.
+     * @param destinationPath Path where the file will be copied.
+     * @param handle          Handle to follow and cancel the copy. Pass {@code null} if you don't
+     *                        need it.
+     * @return A {@code Result<File>} containing the file where the inputStream content was copied
+     * or else {@code null}.
+     */
+    public static Result<File> copyFromInputStream(@Nullable String originPath,
+                                                   @NonNull InputStream inputStream,
+                                                   @NonNull Path destinationPath,
+                                                   @Nullable CopyHandle handle) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateCopyFromInputStream(inputStream, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = copyFromInputStream(originPath, inputStream, destinationPath.getPath(),
+                    handle);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(COPY_FROM_INPUT_STREAM, originPath));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Receives an {@code InputStream} whose file will be copied to {@code destinationPath}
+     * reporting the progress to {@code handle}. The destination folder must exist or else it will
+     * fail. If {@code handle} is cancelled, the copy stops after the chunk being copied, the
+     * partial copy is deleted and an unsuccessful {@code Result} is returned.
+     *
+     * @param originPath      The path to the file pointed by the {@code InputStream}, just for
+     *                        logging purposes. Pass null if you don't know the path or don't care
+     *                        about the log.
+     * @param inputStream     Stream to copy from.
+     * @param destinationPath Path where the file will be copied.
+     * @param handle          Handle to follow and cancel the copy. Pass {@code null} if you don't
+     *                        need it.
+     * @return A {@code Result<File>} containing the file where the inputStream content was copied
+     * or else {@code null}.
+     */
+    public static Result<File> copyFromInputStream(@Nullable String originPath,
+                                                   @NonNull InputStream inputStream,
+                                                   @NonNull String destinationPath,
+                                                   @Nullable CopyHandle handle) {
         Result<File> result;
 
         ValidationInfoInterface info = Validator.validateCopyFromInputStream(inputStream,
@@ -168,20 +278,28 @@ public class MemoryUtil {
         } else {
             originPath = StringUtil.getStringOrEmpty(originPath);
             try {
-                OutputStream streamToSaveFile = new FileOutputStream(destinationPath);
-                byte[] buffer = new byte[1024];
-                int length;
+                FileOutputStream streamToSaveFile = new FileOutputStream(destinationPath);
 
                 try {
-                    while ((length = inputStream.read(buffer)) > 0) {
-                        streamToSaveFile.write(buffer, 0, length);
+                    if (handle != null) {
+                        handle.begin(CopyEngine.getRemainingLength(inputStream));
                     }
+                    CopyEngine.copy(inputStream, streamToSaveFile, handle);
                     streamToSaveFile.flush();
                     streamToSaveFile.close();
                     inputStream.close();
+                    if (handle != null) {
+                        handle.finish();
+                    }
                     result = Result.createSuccessfulResult(new File(destinationPath), FILE_COPIED,
                             originPath, destinationPath);
+                } catch (CopyCancelledException e) {
+                    IOUtil.closeQuietly(streamToSaveFile);
+                    new File(destinationPath).delete();
+                    result = Result.createNoExceptionResult(COPY_CANCELLED, originPath,
+                            destinationPath);
                 } catch (IOException e) {
+                    IOUtil.closeQuietly(streamToSaveFile);
                     result = Result.createUnsuccessfulResult(CANNOT_COPY, e, originPath, destinationPath);
                 }
 
@@ -193,6 +311,96 @@ public class MemoryUtil {
         return result;
     }
 
+    /**
+     * Receives an {@code InputStream} whose file will be copied to {@code destinationPath}. The
+     * folders necessary will be created for you. See
+     * {@link #copyFromInputStream(String, InputStream, String, boolean)} to know how resumable
+     * copies work.
+     *
+     * @param originPath      The path to the file pointed by the {@code InputStream}, just for
+     *                        logging purposes. Pass null if you don't know the path or don't care
+     *                        about the log.
+     * @param inputStream     Stream to copy from.
+     * @param destinationPath Path where the file will be copied.
+     * @param resumable       Pass {@code true} to make a copy that can be resumed if it's
+     *                        interrupted.
+     * @return A {@code Result<File>} containing the file where the inputStream content was copied
+     * or else {@code null}.
+     */
+    public static Result<File> copyFromInputStream(@Nullable String originPath,
+                                                   @NonNull InputStream inputStream,
+                                                   @NonNull Path destinationPath,
+                                                   boolean resumable) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateCopyFromInputStream(inputStream, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = copyFromInputStream(originPath, inputStream, destinationPath.getPath(),
+                    resumable);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(COPY_FROM_INPUT_STREAM, originPath));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Receives an {@code InputStream} whose file will be copied to {@code destinationPath}. The
+     * destination folder must exist or else it will fail.
+     * <p>When {@code resumable} is {@code true}, the content is written to a
+     * <i>destinationPath.part</i> file that is renamed to {@code destinationPath} once complete,
+     * so {@code destinationPath} never contains a half-copied file. If {@code inputStream} is a
+     * {@code FileInputStream}, the progress is also recorded every few megabytes in a
+     * <i>destinationPath.checkpoint</i> file. If the copy is interrupted, calling this method
+     * again with the same origin and destination will continue from the last checkpoint. Other
+     * streams cannot be repositioned, so their copies start over.</p>
+     *
+     * @param originPath      The path to the file pointed by the {@code InputStream}, just for
+     *                        logging purposes. Pass null if you don't know the path or don't care
+     *                        about the log.
+     * @param inputStream     Stream to copy from.
+     * @param destinationPath Path where the file will be copied.
+     * @param resumable       Pass {@code true} to make a copy that can be resumed if it's
+     *                        interrupted or {@code false} to copy straight to
+     *                        {@code destinationPath}.
+     * @return A {@code Result<File>} containing the file where the inputStream content was copied
+     * or else {@code null}.
+     */
+    public static Result<File> copyFromInputStream(@Nullable String originPath,
+                                                   @NonNull InputStream inputStream,
+                                                   @NonNull String destinationPath,
+                                                   boolean resumable) {
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateCopyFromInputStream(inputStream,
+                destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (!resumable) {
+            result = copyFromInputStream(originPath, inputStream, destinationPath);
+        } else {
+            originPath = StringUtil.getStringOrEmpty(originPath);
+            ResumableCopy copy = new ResumableCopy(inputStream, new File(destinationPath));
+            try {
+                copy.copy();
+                inputStream.close();
+                result = Result.createSuccessfulResult(new File(destinationPath),
+                        FILE_COPIED_RESUMING, originPath, destinationPath,
+                        String.valueOf(copy.getResumedFrom()));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(CANNOT_COPY, e, originPath,
+                        destinationPath);
+            }
+        }
+        return result;
+    }
+
+
     // INCLUDED
 
     /**
@@ -229,6 +437,41 @@ public class MemoryUtil {
     }
 
 
+    /**
+     * Copies file {@code fileName} from assets directory to {@code destinationPath} reporting the
+     * progress to {@code handle}. It creates the folders in {@code destinationPath} for you.
+     *
+     * @param context         It will be used to get access to assets.
+     * @param fileName        Name of the file in assets folder, as in <i>myFile.mp3</i> or
+     *                        <i>subdirectory/myFile.mp3</i> if it is in a folder within the assets
+     *                        directory.
+     * @param destinationPath Path where the file will be copied to.
+     * @param handle          Handle to follow and cancel the copy. Pass {@code null} if you don't
+     *                        need it.
+     * @return A {@code Result<File>} containing the file created or {@code null} if it couldn't be
+     * created.
+     */
+    public static Result<File> importFromAssets(@NonNull Context context, @NonNull String fileName,
+                                                @NonNull Path destinationPath,
+                                                @Nullable CopyHandle handle) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateImportFromAssets(context, fileName,
+                destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = importFromAssets(context, fileName, destinationPath.getPath(), handle);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(COPY_FROM_INPUT_STREAM, fileName));
+        }
+
+        return result;
+    }
+
+
     // INCLUDED
 
     /**
@@ -245,6 +488,28 @@ public class MemoryUtil {
      */
     public static Result<File> importFromAssets(@NonNull Context context, @NonNull String fileName,
                                                 @NonNull String destinationPath) {
+        return importFromAssets(context, fileName, destinationPath, null);
+    }
+
+
+    /**
+     * Copies a file {@code fileName} from assets directory to {@code destinationPath} reporting
+     * the progress to {@code handle}. {@code destinationPath} must exist. If {@code handle} is
+     * cancelled, the partial copy is deleted and an unsuccessful {@code Result} is returned.
+     *
+     * @param context         It will be used to get access to assets.
+     * @param fileName        Name of the file in assets folder, as in <i>myFile.mp3</i> or
+     *                        <i>subdirectory/myFile.mp3</i> if it's in a folder within the assets
+     *                        directory.
+     * @param destinationPath Path where the file will be copied to.
+     * @param handle          Handle to follow and cancel the copy. Pass {@code null} if you don't
+     *                        need it.
+     * @return A {@code Result<File>} containing the file created or {@code null} if it couldn't be
+     * created.
+     */
+    public static Result<File> importFromAssets(@NonNull Context context, @NonNull String fileName,
+                                                @NonNull String destinationPath,
+                                                @Nullable CopyHandle handle) {
 
         Result<File> result;
 
@@ -258,7 +523,7 @@ public class MemoryUtil {
 
             try {
                 streamToAssets = context.getAssets().open(fileName);
-                result = copyFromInputStream(fileName, streamToAssets, destinationPath);
+                result = copyFromInputStream(fileName, streamToAssets, destinationPath, handle);
             } catch (IOException e) {
                 ExceptionManager.throwCaughtException(ASSET_NOT_FOUND, ExceptionType.FILE_NOT_FOUND);
                 result = Result.createUnsuccessfulResult(ASSET_NOT_FOUND, e, fileName);
@@ -334,7 +599,7 @@ public class MemoryUtil {
     // INCLUDED
 
     /**
-     * Saves a text into a file using {@code FileWriter} and {@code BufferedWriter}.
+     * Saves a text into a file, encoding it straight into the file channel.
      * It creates the folders necessary for you.
      *
      * @param text            The text to be saved.
@@ -364,296 +629,286 @@ public class MemoryUtil {
         return result;
     }
 
-    // INCLUDED
 
     /**
-     * Saves a text into a file using {@code FileWriter} and {@code BufferedWriter}.
-     * The destinationPath must exist.
+     * Saves a text into a file following {@code options}. It creates the folders necessary for
+     * you.
      *
      * @param text            The text to be saved.
      * @param destinationPath The destinationPath where the file will be stored. Must include the parameter of the file.
      * @param append          Pass {@code true} if you want content to be appended at the end of the existing
      *                        file, or {@code false} if you want the existing text to be overwritten by the
      *                        new text.
+     * @param options         How to write the file, for instance atomically. Pass {@code null}
+     *                        to use the default ones, see
+     *                        {@link #setDefaultWriteOptions(WriteOptions)}.
      * @return A {@code Result<File>} containing the file if it was created or else {@code null}.
      */
-    public static Result<File> saveTextFile(@NonNull String text, @NonNull String destinationPath,
-                                            boolean append) {
+    public static Result<File> saveTextFile(@NonNull String text, @NonNull Path destinationPath,
+                                            boolean append, @Nullable WriteOptions options) {
 
         Result<File> result;
 
         ValidationInfoInterface info = Validator.validateSaveTextFile(text, destinationPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = saveTextFile(text, destinationPath.getPath(), append, options);
         } else {
-
-            File destinationFile = new File(destinationPath);
-
-            try {
-                FileWriter fileWriter = new FileWriter(destinationFile, append);
-                BufferedWriter bufferedWriter = new BufferedWriter(fileWriter);
-                try {
-                    bufferedWriter.write(text.toCharArray(), 0, text.length());
-                    bufferedWriter.flush();
-                    bufferedWriter.close();
-                    fileWriter.close();
-                    result = Result.createSuccessfulResult(destinationFile, TEXT_FILE_SAVED,
-                            destinationPath);
-                } catch (IOException e) {
-                    result = Result.createUnsuccessfulResult(CANNOT_SAVE_TEXT, e, destinationPath);
-                }
-            } catch (IOException e) {
-                result = Result.createUnsuccessfulResult(DESTINATION_FOLDER_NOT_FOUND, e,
-                        destinationPath, StringUtil.format(SAVE_TEXT_TO_FILE, EMPTY));
-            }
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(SAVE_TEXT_TO_FILE, destinationPath.getPath()));
         }
 
         return result;
     }
 
-
     // INCLUDED
 
     /**
-     * Loads a text file from the given {@code originPath}.
+     * Saves a text into a file, encoding it straight into the file channel.
+     * The destinationPath must exist.
      *
-     * @param originPath The path to the text file.
-     * @return Null if the file could not be found or read, or else a {@code String} with the
-     * content.
+     * @param text            The text to be saved.
+     * @param destinationPath The destinationPath where the file will be stored. Must include the parameter of the file.
+     * @param append          Pass {@code true} if you want content to be appended at the end of the existing
+     *                        file, or {@code false} if you want the existing text to be overwritten by the
+     *                        new text.
+     * @return A {@code Result<File>} containing the file if it was created or else {@code null}.
      */
-    public static Result<String> loadTextFile(@NonNull Path originPath) {
+    public static Result<File> saveTextFile(@NonNull String text, @NonNull String destinationPath,
+                                            boolean append) {
+        return saveTextFile(text, destinationPath, append, null);
+    }
 
-        Result<String> result;
 
-        ValidationInfoInterface info = Validator.validateLoadTextFile(originPath);
+    /**
+     * Saves a text into a file following {@code options}. The destinationPath must exist. If
+     * {@code options} make the write atomic, appending copies the current content to the
+     * temporary file first, so the file is never left with half of the new text.
+     *
+     * @param text            The text to be saved.
+     * @param destinationPath The destinationPath where the file will be stored. Must include the parameter of the file.
+     * @param append          Pass {@code true} if you want content to be appended at the end of the existing
+     *                        file, or {@code false} if you want the existing text to be overwritten by the
+     *                        new text.
+     * @param options         How to write the file, for instance atomically. Pass {@code null}
+     *                        to use the default ones, see
+     *                        {@link #setDefaultWriteOptions(WriteOptions)}.
+     * @return A {@code Result<File>} containing the file if it was created or else {@code null}.
+     */
+    public static Result<File> saveTextFile(@NonNull String text, @NonNull String destinationPath,
+                                            boolean append, @Nullable WriteOptions options) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveTextFile(text, destinationPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            result = loadTextFile(originPath.getPath());
+            final String content = text;
+            result = saveText(new TextProducer() {
+                @Override
+                public void produce(@NonNull Appendable output) throws IOException {
+                    output.append(content);
+                }
+            }, text.length(), destinationPath, append, options);
         }
 
         return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Loads a text file from the given originPath.
+     * Saves the text read from {@code reader} into a file following {@code options}. It creates
+     * the folders necessary for you.
      *
-     * @param originPath The originPath to the text file.
-     * @return Null if the file could not be found or read, or else a {@code String} with the
-     * content.
+     * @param reader          The reader providing the text. It's read until its end but not
+     *                        closed.
+     * @param destinationPath The path to the file where the text will be saved.
+     * @param append          Pass {@code true} to write after the current content of the file.
+     * @param options         How to write the file. Pass {@code null} to use the default ones.
+     * @return A {@code Result<File>} containing the file if it was created or else {@code null}.
      */
-    public static Result<String> loadTextFile(@NonNull String originPath) {
+    public static Result<File> saveTextFile(@NonNull Reader reader, @NonNull Path destinationPath,
+                                            boolean append, @Nullable WriteOptions options) {
 
-        Result<String> result;
+        Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateLoadTextFile(originPath);
+        ValidationInfoInterface info = Validator.validateSaveTextFile(reader, destinationPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = saveTextFile(reader, destinationPath.getPath(), append, options);
         } else {
-            try {
-                FileReader fileReader = new FileReader(new File(originPath));
-                BufferedReader reader = new BufferedReader(fileReader);
-                StringBuilder text = new StringBuilder();
-                String line;
-
-                try {
-                    while ((line = reader.readLine()) != null) {
-                        text.append(line).append("\n");
-                    }
-                    fileReader.close();
-                    reader.close();
-                    result = Result.createSuccessfulResult(text.toString(), TEXT_LOADED, originPath);
-                } catch (IOException e) {
-                    result = Result.createUnsuccessfulResult(ERROR_WHILE_READING, e, originPath);
-                }
-            } catch (FileNotFoundException e) {
-                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e, originPath,
-                        StringUtil.format(LOAD_TEXT_FROM_FILE, originPath));
-            }
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(SAVE_TEXT_TO_FILE, destinationPath.getPath()));
         }
+
         return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Saves an object to {@code destinationPath}.
+     * Saves the text read from {@code reader} into a file following {@code options}, encoding it
+     * as it's read, so it's never held in memory as a whole. The destinationPath must exist.
      *
-     * @param object          Object to save.
-     * @param destinationPath Path in the device where the object will be saved.
-     * @return A {@code Result<File>} containing the file where the object has been saved or else
-     * {@code null}.
+     * @param reader          The reader providing the text. It's read until its end but not
+     *                        closed.
+     * @param destinationPath The path to the file where the text will be saved.
+     * @param append          Pass {@code true} to write after the current content of the file.
+     * @param options         How to write the file. Pass {@code null} to use the default ones.
+     * @return A {@code Result<File>} containing the file if it was created or else {@code null}.
      */
-    public static Result<File> saveObject(@NonNull Object object, @NonNull Path destinationPath) {
+    public static Result<File> saveTextFile(@NonNull Reader reader,
+                                            @NonNull String destinationPath, boolean append,
+                                            @Nullable WriteOptions options) {
 
         Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateSaveObject(object, destinationPath);
+        ValidationInfoInterface info = Validator.validateSaveTextFile(reader, destinationPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            if (createPath(destinationPath)) {
-                result = saveObject(object, destinationPath.getPath());
-            } else {
-                result = Result.createNoExceptionResult(FAILED,
-                        StringUtil.format(SAVE_OBJECT, destinationPath.getPath()));
-            }
+            final Reader source = reader;
+            result = saveText(new TextProducer() {
+                @Override
+                public void produce(@NonNull Appendable output) throws IOException {
+                    char[] buffer = new char[ChannelTextWriter.CHUNK_SIZE];
+                    Writer writer = (Writer) output;
+                    int length;
+                    while ((length = source.read(buffer)) >= 0) {
+                        writer.write(buffer, 0, length);
+                    }
+                }
+            }, 0, destinationPath, append, options);
         }
 
         return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Saves an object to {@code destinationPath}.
+     * Saves {@code texts} one after the other into a file following {@code options}. It creates
+     * the folders necessary for you.
      *
-     * @param object          Object to save.
-     * @param destinationPath Path in the device where the object will be saved.
-     * @return A {@code Result<File>} containing the file where the object has been saved or else
-     * {@code null}.
+     * @param texts           The texts to be saved. Nothing is added between them, so include
+     *                        the line separators if they are lines.
+     * @param destinationPath The path to the file where the text will be saved.
+     * @param append          Pass {@code true} to write after the current content of the file.
+     * @param options         How to write the file. Pass {@code null} to use the default ones.
+     * @return A {@code Result<File>} containing the file if it was created or else {@code null}.
      */
-    public static Result<File> saveObject(@NonNull Object object, @NonNull String destinationPath) {
+    public static Result<File> saveTextFile(@NonNull Iterable<? extends CharSequence> texts,
+                                            @NonNull Path destinationPath, boolean append,
+                                            @Nullable WriteOptions options) {
 
         Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateSaveObject(object, destinationPath);
+        ValidationInfoInterface info = Validator.validateSaveTextFile(texts, destinationPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = saveTextFile(texts, destinationPath.getPath(), append, options);
         } else {
-
-            File fileToSave = new File(destinationPath);
-
-            try {
-                FileOutputStream streamToFile = new FileOutputStream(fileToSave, false);
-                try {
-                    ObjectOutputStream objectStreamToFile = new ObjectOutputStream(streamToFile);
-                    try {
-                        objectStreamToFile.writeObject(object);
-                        objectStreamToFile.flush();
-                        objectStreamToFile.close();
-                        streamToFile.close();
-                        result = Result.createSuccessfulResult(new File(destinationPath), OBJECT_SAVED, destinationPath);
-                    } catch (IOException e) {
-                        return Result.createUnsuccessfulResult(CANNOT_CREATE_OBJECT_FILE, e, destinationPath);
-                    }
-                } catch (IOException e) {
-                    return Result.createUnsuccessfulResult(CANNOT_CREATE_OBJECT_INPUT_STREAM, e,
-                            StringUtil.format(SAVE_OBJECT, destinationPath));
-                }
-            } catch (FileNotFoundException e) {
-                return Result.createUnsuccessfulResult(DESTINATION_FOLDER_NOT_FOUND, e,
-                        StringUtil.format(SAVE_OBJECT, destinationPath));
-            }
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(SAVE_TEXT_TO_FILE, destinationPath.getPath()));
         }
 
         return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Loads an object from a file.
+     * Saves {@code texts} one after the other into a file following {@code options}. Each text
+     * is encoded as the iteration reaches it, so lazily generated texts are never held in memory
+     * together. The destinationPath must exist.
      *
-     * @param originPath Path to the file where the object is stored.
-     * @param clazz      Class containing the object's type.
-     * @param <T>        Object's type.
-     * @return A {@code Result} containing the the object retrieved or null if it couldn't be
-     * retrieved.
+     * @param texts           The texts to be saved. Nothing is added between them, so include
+     *                        the line separators if they are lines.
+     * @param destinationPath The path to the file where the text will be saved.
+     * @param append          Pass {@code true} to write after the current content of the file.
+     * @param options         How to write the file. Pass {@code null} to use the default ones.
+     * @return A {@code Result<File>} containing the file if it was created or else {@code null}.
      */
-    public static <T> Result<T> loadObject(@NonNull Path originPath, @NonNull Class clazz) {
+    public static Result<File> saveTextFile(@NonNull Iterable<? extends CharSequence> texts,
+                                            @NonNull String destinationPath, boolean append,
+                                            @Nullable WriteOptions options) {
 
-        Result<T> result;
+        Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateLoadObject(originPath, clazz);
+        ValidationInfoInterface info = Validator.validateSaveTextFile(texts, destinationPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            result = loadObject(originPath.getPath(), clazz);
+            final Iterable<? extends CharSequence> source = texts;
+            result = saveText(new TextProducer() {
+                @Override
+                public void produce(@NonNull Appendable output) throws IOException {
+                    for (CharSequence text : source) {
+                        output.append(text);
+                    }
+                }
+            }, 0, destinationPath, append, options);
         }
 
         return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Loads an object from a file.
+     * Saves the text written by {@code producer} into a file following {@code options}. It
+     * creates the folders necessary for you.
      *
-     * @param originPath Path to the file where the object is stored.
-     * @param clazz      Class containing the object's type.
-     * @param <T>        Object's type.
-     * @return A {@code Result} containing the the object retrieved or null if it couldn't be
-     * retrieved.
+     * @param producer        The object writing the text.
+     * @param destinationPath The path to the file where the text will be saved.
+     * @param append          Pass {@code true} to write after the current content of the file.
+     * @param options         How to write the file. Pass {@code null} to use the default ones.
+     * @return A {@code Result<File>} containing the file if it was created or else {@code null}.
      */
-    @SuppressWarnings("unchecked")
-    public static <T> Result<T> loadObject(@NonNull String originPath, @NonNull Class clazz) {
+    public static Result<File> saveTextFile(@NonNull TextProducer producer,
+                                            @NonNull Path destinationPath, boolean append,
+                                            @Nullable WriteOptions options) {
 
-        Result<T> result;
+        Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateLoadObject(originPath, clazz);
+        ValidationInfoInterface info = Validator.validateSaveTextFile(producer, destinationPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = saveTextFile(producer, destinationPath.getPath(), append, options);
         } else {
-            try {
-                FileInputStream streamToFile = new FileInputStream(originPath);
-                try {
-                    ObjectInputStream streamToLoadObject = new ObjectInputStream(streamToFile);
-                    try {
-                        T object = (T) streamToLoadObject.readObject();
-                        streamToFile.close();
-                        result = Result.createSuccessfulResult(object, OBJECT_LOADED, originPath);
-                    } catch (ClassNotFoundException e) {
-                        result = Result.createUnsuccessfulResult(CLASS_NOT_FOUND, e,
-                                StringUtil.format(LOAD_OBJECT, clazz.getSimpleName(), originPath));
-                    } catch (IOException e) {
-                        result = Result.createUnsuccessfulResult(CANNOT_READ_OBJECT, e,
-                                StringUtil.format(LOAD_OBJECT, clazz.getSimpleName(), originPath));
-                    }
-                } catch (IOException e) {
-                    result = Result.createUnsuccessfulResult(CANNOT_CREATE_OBJECT_INPUT_STREAM, e,
-                            StringUtil.format(LOAD_OBJECT, clazz.getSimpleName(), originPath));
-                }
-            } catch (FileNotFoundException e) {
-                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
-                        StringUtil.format(LOAD_OBJECT, clazz.getSimpleName(), originPath));
-            }
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(SAVE_TEXT_TO_FILE, destinationPath.getPath()));
         }
+
         return result;
     }
 
 
     /**
-     * Saves a {@code byte[]} in {@code destinationPath}. Creates the folders necessary to create
-     * the path for you.
+     * Saves the text written by {@code producer} into a file following {@code options}. The text
+     * is encoded and written to the file while it's produced, so big generated texts, like
+     * reports, never need to be built in memory. If the producer throws an
+     * {@code IOException} the save fails, and with atomic {@code options} the file keeps its
+     * previous content. The destinationPath must exist.
      *
-     * @param byteArray       The {@code byte[]} that you want to save.
-     * @param destinationPath The path to the file where the {@code byteArray} will be saved.
-     * @return A {@code Result<File>} containing the {@code File} where the {@code byteArray} will
-     * be saved.
+     * @param producer        The object writing the text.
+     * @param destinationPath The path to the file where the text will be saved.
+     * @param append          Pass {@code true} to write after the current content of the file.
+     * @param options         How to write the file. Pass {@code null} to use the default ones.
+     * @return A {@code Result<File>} containing the file if it was created or else {@code null}.
      */
-    public static Result<File> saveByteArray(@NonNull byte[] byteArray,
-                                             @NonNull Path destinationPath) {
+    public static Result<File> saveTextFile(@NonNull TextProducer producer,
+                                            @NonNull String destinationPath, boolean append,
+                                            @Nullable WriteOptions options) {
 
         Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateSaveByteArray(byteArray, destinationPath);
+        ValidationInfoInterface info = Validator.validateSaveTextFile(producer, destinationPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            if (createPath(destinationPath)) {
-                result = saveByteArray(byteArray, destinationPath.getPath());
-            } else {
-                result = Result.createNoExceptionResult(FAILED,
-                        StringUtil.format(SAVE_BYTE_ARRAY, destinationPath.getPath()));
-            }
+            result = saveText(producer, 0, destinationPath, append, options);
         }
 
         return result;
@@ -661,42 +916,49 @@ public class MemoryUtil {
 
 
     /**
-     * Saves a {@code byte[]} in {@code destinationPath}. The folders to the path must exist or else
-     * it will fail.
+     * Writes the text of {@code producer} through a {@link ChannelTextWriter}, which encodes it
+     * straight into a pooled buffer written to the file channel.
      *
-     * @param byteArray       The {@code byte[]} that you want to save.
-     * @param destinationPath The path to the file where the {@code byteArray} will be saved.
-     * @return A {@code Result<File>} containing the {@code File} where the {@code byteArray} will
-     * be saved.
+     * @param expectedLength Amount of chars expected, or 0 if it's unknown.
      */
-    public static Result<File> saveByteArray(@NonNull byte[] byteArray,
-                                             @NonNull String destinationPath) {
+    private static Result<File> saveText(@NonNull TextProducer producer, long expectedLength,
+                                         @NonNull String destinationPath, boolean append,
+                                         @Nullable WriteOptions options) {
 
         Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateSaveByteArray(byteArray, destinationPath);
-        if (!info.isValid()) {
-            result = reportInvalidParameter(info);
-        } else {
+        File destinationFile = new File(destinationPath);
+        WriteSession session = new WriteSession(destinationFile, options);
+
+        try {
+            ChannelTextWriter writer = new ChannelTextWriter(session.open(append).getChannel(),
+                    Charset.defaultCharset(), expectedLength);
+            boolean committed = false;
             try {
-                FileOutputStream streamToDestinationFile =
-                        new FileOutputStream(new File(destinationPath), false);
-                try {
-                    streamToDestinationFile.write(byteArray, 0, byteArray.length);
-                    streamToDestinationFile.flush();
-                    streamToDestinationFile.close();
-                    result = Result.createSuccessfulResult(new File(destinationPath),
-                            BYTE_ARRAY_SAVED, destinationPath);
-                } catch (IOException e) {
-                    result = Result.createUnsuccessfulResult(ERROR_WRITING_BYTE_ARRAY, e,
-                            StringUtil.format(SAVE_BYTE_ARRAY, destinationPath));
+                producer.produce(writer);
+                writer.close();
+                session.commit();
+                committed = true;
+                result = Result.createSuccessfulResult(destinationFile, TEXT_FILE_SAVED,
+                        destinationPath);
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(CANNOT_SAVE_TEXT, e, destinationPath);
+            } finally {
+                // Also when the producer throws. Aborting first keeps the text still buffered
+                // out of the file, and closing the writer returns its buffer to the pool.
+                if (!committed) {
+                    session.abort();
+                    IOUtil.closeQuietly(writer);
                 }
-            } catch (FileNotFoundException e) {
-                result = Result.createUnsuccessfulResult(DESTINATION_FOLDER_NOT_FOUND, e,
-                        StringUtil.format(SAVE_BYTE_ARRAY, destinationPath));
             }
+        } catch (IOException e) {
+            session.abort();
+            result = Result.createUnsuccessfulResult(DESTINATION_FOLDER_NOT_FOUND, e,
+                    destinationPath, StringUtil.format(SAVE_TEXT_TO_FILE, EMPTY));
         }
 
+        result.setPreviousVersionKept(session.isPreviousVersionKept());
+
         return result;
     }
 
@@ -704,29 +966,21 @@ public class MemoryUtil {
     // INCLUDED
 
     /**
-     * Saves a {@code Bitmap} to the device. This method stores a Bitmap in memory as a file, since
-     * it cannot be stored as an object, for it cannot implement {@link Serializable}.
+     * Loads a text file from the given {@code originPath}.
      *
-     * @param bitmap          The image to be saved.
-     * @param destinationPath The path to the file where it will be saved.
-     * @return Returns a {@code Result} with the {@code File} where the {@code Bitmap} has been
-     * stored or null if there was an error.
+     * @param originPath The path to the text file.
+     * @return Null if the file could not be found or read, or else a {@code String} with the
+     * content.
      */
-    public static Result<File> saveBitmap(@NonNull Bitmap bitmap, @NonNull Path destinationPath) {
+    public static Result<String> loadTextFile(@NonNull Path originPath) {
 
-        Result<File> result;
+        Result<String> result;
 
-        ValidationInfoInterface info = Validator.validateSaveBitmap(bitmap, destinationPath);
+        ValidationInfoInterface info = Validator.validateLoadTextFile(originPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            boolean pathCreated = createPath(destinationPath);
-            if (pathCreated) {
-                result = saveBitmap(bitmap, destinationPath.getPath());
-            } else {
-                result = Result.createNoExceptionResult(FAILED,
-                        StringUtil.format(SAVE_BITMAP, destinationPath.getPath()));
-            }
+            result = loadTextFile(originPath.getPath());
         }
 
         return result;
@@ -736,91 +990,107 @@ public class MemoryUtil {
     // INCLUDED
 
     /**
-     * Saves a {@code Bitmap} to the device. This method stores a Bitmap in memory as a file, since
-     * it cannot be stored as an object, for it cannot implemente {@link Serializable}.
+     * Loads a text file from the given originPath.
      *
-     * @param bitmap          The image to be saved.
-     * @param destinationPath The path to the file where it will be saved.
-     * @return Returns a {@code Result} with the {@code File} where the {@code Bitmap} has been
-     * stored or null if there was an error.
+     * @param originPath The originPath to the text file.
+     * @return Null if the file could not be found or read, or else a {@code String} with the
+     * content.
      */
-    public static Result<File> saveBitmap(@NonNull Bitmap bitmap, @NonNull String destinationPath) {
+    public static Result<String> loadTextFile(@NonNull String originPath) {
 
-        Result<File> result;
+        Result<String> result;
 
-        ValidationInfoInterface info = Validator.validateSaveBitmap(bitmap, destinationPath);
+        ValidationInfoInterface info = Validator.validateLoadTextFile(originPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
             try {
-                OutputStream streamToFile = new FileOutputStream(new File(destinationPath), false);
-                bitmap.compress(Bitmap.CompressFormat.JPEG, 100, streamToFile);
-                streamToFile.flush();
-                streamToFile.close();
-                result = Result.createSuccessfulResult(new File(destinationPath), BITMAP_SAVED,
-                        destinationPath);
-            } catch (IOException e) {
-                result = Result.createUnsuccessfulResult(UNEXPECTED_IO_ERROR, e,
-                        StringUtil.format(SAVE_BITMAP, destinationPath));
+                FileReader fileReader = new FileReader(new File(originPath));
+                BufferedReader reader = new BufferedReader(fileReader);
+                StringBuilder text = new StringBuilder();
+                String line;
+
+                try {
+                    while ((line = reader.readLine()) != null) {
+                        text.append(line).append("\n");
+                    }
+                    fileReader.close();
+                    reader.close();
+                    result = Result.createSuccessfulResult(text.toString(), TEXT_LOADED, originPath);
+                } catch (IOException e) {
+                    result = Result.createUnsuccessfulResult(ERROR_WHILE_READING, e, originPath);
+                }
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e, originPath,
+                        StringUtil.format(LOAD_TEXT_FROM_FILE, originPath));
             }
         }
-
         return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Loads an image file from the device.
+     * Loads a text file from the given {@code originPath} exactly as it is, decoding it with
+     * {@code charset}. See {@link #loadTextFile(String, Charset)} for details.
      *
-     * @param originPath The path to the file where the image is stored.
-     * @return Returns a {@code Result} with the {@code Bitmap} obtained.
+     * @param originPath The path to the text file.
+     * @param charset    Charset the file is encoded with.
+     * @return A {@code Result<String>} with the content of the file or {@code null} if it could
+     * not be found or read.
      */
-    public static Result<Bitmap> loadBitmap(@NonNull Path originPath) {
+    public static Result<String> loadTextFile(@NonNull Path originPath, @NonNull Charset charset) {
 
-        Result<Bitmap> result;
+        Result<String> result;
 
-        ValidationInfoInterface info = Validator.validateLoadBitmap(originPath);
+        ValidationInfoInterface info = Validator.validateLoadTextFile(originPath, charset);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            result = loadBitmap(originPath.getPath());
+            result = loadTextFile(originPath.getPath(), charset);
         }
 
         return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Loads an image file from the device.
+     * Loads a text file from the given {@code originPath} exactly as it is, decoding it with
+     * {@code charset}. Unlike {@link #loadTextFile(String)}, line endings are kept as they are in
+     * the file and no line ending is added at the end. The whole file is read at once into an
+     * array sized after its length and decoded in a single pass, which makes it the fastest way to
+     * load small and medium files such as config or JSON files. For big files, see
+     * {@link #openTextFile(String)}.
      *
-     * @param originPath The path to the file where the image is stored.
-     * @return Returns a {@code Result} with the {@code Bitmap} obtained.
+     * @param originPath The path to the text file.
+     * @param charset    Charset the file is encoded with, such as {@code Charset.forName("UTF-8")}.
+     * @return A {@code Result<String>} with the content of the file or {@code null} if it could
+     * not be found or read.
      */
-    public static Result<Bitmap> loadBitmap(@NonNull String originPath) {
+    public static Result<String> loadTextFile(@NonNull String originPath,
+                                              @NonNull Charset charset) {
 
-        Result<Bitmap> result;
+        Result<String> result;
 
-        ValidationInfoInterface info = Validator.validateLoadBitmap(originPath);
+        ValidationInfoInterface info = Validator.validateLoadTextFile(originPath, charset);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
+            File file = new File(originPath);
             try {
-                InputStream streamFromFile = new FileInputStream(new File(originPath));
-                Bitmap bitmap = BitmapFactory.decodeStream(streamFromFile);
-                if (bitmap == null) {
-                    ExceptionManager.throwNotAnImageException(LOAD_BITMAP, originPath);
-                    result = Result.createNoExceptionResult(CANNOT_CONVERT_TO_BITMAP,
-                            StringUtil.format(LOAD_BITMAP, originPath));
+                if (file.length() > IOUtil.MAX_ARRAY_LENGTH) {
+                    result = Result.createNoExceptionResult(TEXT_FILE_TOO_BIG,
+                            StringUtil.format(LOAD_TEXT_FROM_FILE, originPath));
                 } else {
-                    result = Result.createSuccessfulResult(bitmap, BITMAP_LOADED, originPath);
+                    byte[] content = IOUtil.readFully(file);
+                    result = Result.createSuccessfulResult(
+                            StringUtil.decode(content, content.length, charset), TEXT_LOADED,
+                            originPath);
                 }
             } catch (FileNotFoundException e) {
                 result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
-                        StringUtil.format(LOAD_BITMAP, originPath));
+                        StringUtil.format(LOAD_TEXT_FROM_FILE, originPath));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(ERROR_WHILE_READING, e, originPath);
             }
         }
 
@@ -829,68 +1099,65 @@ public class MemoryUtil {
 
 
     /**
-     * Loads a {@code Bitmap} from a {@code Uri}.
+     * Decodes a text file mapping it in memory and delivers its content to {@code callback} in
+     * chunks. See {@link #loadTextFileMapped(String, Charset, TextChunkCallback)} for details.
      *
-     * @param context   A {@code Context} to call contentResolver.
-     * @param originUri The image identifier.
-     * @return A {@code Result} containing the {@code Bitmap} referenced by the {@code originUri} or
-     * {@code null} if the {@code originUri} references a non-existing file.
+     * @param originPath The path to the text file.
+     * @param charset    Charset the file is encoded with.
+     * @param callback   Object receiving the decoded text.
+     * @return A {@code Result<Long>} with the amount of chars delivered to {@code callback}.
      */
-    public static Result<Bitmap> loadBitmap(Context context, Uri originUri) {
+    public static Result<Long> loadTextFileMapped(@NonNull Path originPath,
+                                                  @NonNull Charset charset,
+                                                  @NonNull TextChunkCallback callback) {
 
-        Result<Bitmap> result;
+        Result<Long> result;
 
-        ValidationInfoInterface info = Validator.validateLoadBitmap(context, originUri);
+        ValidationInfoInterface info = Validator.validateLoadTextFileMapped(originPath, charset,
+                callback);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            try {
-                InputStream is = context.getContentResolver().openInputStream(originUri);
-                Bitmap bitmap = BitmapFactory.decodeStream(is);
-                if (bitmap == null) {
-                    result = Result.createNoExceptionResult(
-                            StringUtil.format(NULL_FILE_FROM_URI,
-                                    StringUtil.format(LOAD_BITMAP_FROM_URI, originUri.getPath())));
-                } else {
-                    result = Result.createSuccessfulResult(bitmap, BITMAP_LOADED_FROM_URI,
-                            originUri.getPath());
-                }
-            } catch (FileNotFoundException e) {
-                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
-                        StringUtil.format(LOAD_BITMAP_FROM_URI, originUri.getPath()));
-            }
+            result = loadTextFileMapped(originPath.getPath(), charset, callback);
         }
 
         return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Saves every preference in the {@code SharedPreferences} object received to a file as a
-     * {@code Map<String, ?}. It will create the intermediate folders for you.
+     * Decodes a text file mapping it in memory and delivers its content to {@code callback} in
+     * chunks of a few thousand chars. The bytes of the file are never copied to the Java heap and
+     * the whole text is never materialized in a {@code String}, so it's the way to scan text files
+     * of hundreds of megabytes. The file is mapped in windows of several megabytes and decoded by
+     * a single {@code CharsetDecoder}, so chars split between windows are decoded correctly.
+     * Reading stops early if {@code callback} returns {@code false}.
      *
-     * @param sharedPreferences Object containing the preferences to be saved.
-     * @param destinationPath   Path to the file were the preferences will be saved. Don't assign an
-     *                          extension to the file parameter.
-     * @return A{@code Result<File>} containing the {@code File} where the mapped preferences are
-     * stored.
+     * @param originPath The path to the text file.
+     * @param charset    Charset the file is encoded with.
+     * @param callback   Object receiving the decoded text. It's called on the calling thread.
+     * @return A {@code Result<Long>} with the amount of chars delivered to {@code callback}.
      */
-    public static Result<File> saveSharedPreferences(@NonNull SharedPreferences sharedPreferences,
-                                                     @NonNull Path destinationPath) {
+    public static Result<Long> loadTextFileMapped(@NonNull String originPath,
+                                                  @NonNull Charset charset,
+                                                  @NonNull TextChunkCallback callback) {
 
-        Result<File> result;
+        Result<Long> result;
 
-        ValidationInfoInterface info = Validator.validateSaveSharedPreferences(sharedPreferences, destinationPath);
+        ValidationInfoInterface info = Validator.validateLoadTextFileMapped(originPath, charset,
+                callback);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            if (createPath(destinationPath)) {
-                result = MemoryUtil.saveSharedPreferences(sharedPreferences, destinationPath.getPath());
-            } else {
-                result = Result.createNoExceptionResult(FAILED,
-                        StringUtil.format(SAVE_SHARED_PREFERENCES, destinationPath.getPath()));
+            try {
+                long delivered = MappedTextDecoder.decode(new File(originPath), charset, callback);
+                result = Result.createSuccessfulResult(delivered, TEXT_DECODED, originPath,
+                        String.valueOf(delivered));
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                        StringUtil.format(LOAD_TEXT_FROM_FILE_MAPPED, originPath));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(ERROR_WHILE_READING, e, originPath);
             }
         }
 
@@ -898,29 +1165,2011 @@ public class MemoryUtil {
     }
 
 
-    // INCLUDED
-
     /**
-     * Saves every preference in the {@code SharedPreferences} object received to a file as a
-     * {@code Map<String, ?}. You must make sure that you have created every intermediate folder in
-     * the path or else the saving will fail.
+     * Opens a text file to read it lazily, line by line or in chunks, without loading all of it
+     * in memory. See {@link TextFileReader} for how to use it.
      *
-     * @param sharedPreferences Object containing the preferences to be saved.
-     * @param destinationPath   Path to the file were the preferences will be saved. Don't assign an
-     *                          extension to the file parameter.
-     * @return A{@code Result<File>} containing the {@code File} where the mapped preferences are
-     * stored.
+     * @param originPath The path to the text file.
+     * @return A {@code Result<TextFileReader>} containing the reader, which you must close when
+     * you are done, or {@code null} if the file could not be opened.
      */
-    public static Result<File> saveSharedPreferences(@NonNull SharedPreferences sharedPreferences,
-                                                     @NonNull String destinationPath) {
+    public static Result<TextFileReader> openTextFile(@NonNull Path originPath) {
 
-        Result<File> result;
+        Result<TextFileReader> result;
+
+        ValidationInfoInterface info = Validator.validateOpenTextFile(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = openTextFile(originPath.getPath());
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Opens a text file to read it lazily, line by line or in chunks, without loading all of it
+     * in memory. Use it instead of {@link #loadTextFile(String)} for big files, or when you may
+     * stop reading before the end. See {@link TextFileReader} for how to use it.
+     *
+     * @param originPath The path to the text file.
+     * @return A {@code Result<TextFileReader>} containing the reader, which you must close when
+     * you are done, or {@code null} if the file could not be opened.
+     */
+    public static Result<TextFileReader> openTextFile(@NonNull String originPath) {
+
+        Result<TextFileReader> result;
+
+        ValidationInfoInterface info = Validator.validateOpenTextFile(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            try {
+                TextFileReader reader = new TextFileReader(new File(originPath),
+                        Charset.defaultCharset());
+                result = Result.createSuccessfulResult(reader, TEXT_FILE_OPENED, originPath);
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                        StringUtil.format(OPEN_TEXT_FILE, originPath));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Opens a text file to read its lines backward, from the last one. See
+     * {@link #openTextFileReversed(String)}.
+     *
+     * @param originPath The path to the text file.
+     * @return A {@code Result<ReverseLineReader>} containing the reader, which you must close
+     * when you are done, or {@code null} if the file could not be opened.
+     */
+    public static Result<ReverseLineReader> openTextFileReversed(@NonNull Path originPath) {
+
+        Result<ReverseLineReader> result;
+
+        ValidationInfoInterface info = Validator.validateOpenTextFileReversed(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = openTextFileReversed(originPath.getPath());
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Opens a text file to read its lines backward, from the last one, reading only the blocks
+     * at the end of the file that hold them. Use it to look for something recent in a big log
+     * without reading it all. See {@link ReverseLineReader} for how to use it.
+     *
+     * @param originPath The path to the text file.
+     * @return A {@code Result<ReverseLineReader>} containing the reader, which you must close
+     * when you are done, or {@code null} if the file could not be opened.
+     */
+    public static Result<ReverseLineReader> openTextFileReversed(@NonNull String originPath) {
+
+        Result<ReverseLineReader> result;
+
+        ValidationInfoInterface info = Validator.validateOpenTextFileReversed(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            try {
+                ReverseLineReader reader = new ReverseLineReader(new File(originPath),
+                        Charset.defaultCharset());
+                result = Result.createSuccessfulResult(reader, TEXT_FILE_OPENED_REVERSED,
+                        originPath);
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                        StringUtil.format(OPEN_TEXT_FILE_REVERSED, originPath));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(ERROR_WHILE_READING, e, originPath);
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Reads the last {@code lineCount} lines of a text file. See {@link #tail(String, int)}.
+     *
+     * @param originPath The path to the text file.
+     * @param lineCount  Maximum amount of lines to read.
+     * @return A {@code Result<List<String>>} containing the lines in the order they have in the
+     * file, or {@code null} if the file could not be read.
+     */
+    public static Result<List<String>> tail(@NonNull Path originPath, int lineCount) {
+
+        Result<List<String>> result;
+
+        ValidationInfoInterface info = Validator.validateTail(originPath, lineCount);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = tail(originPath.getPath(), lineCount);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Reads the last {@code lineCount} lines of a text file, reading it backward from the end in
+     * blocks, so the time it takes depends on the lines read and not on the size of the file.
+     *
+     * @param originPath The path to the text file.
+     * @param lineCount  Maximum amount of lines to read. Fewer are returned if the file has
+     *                   fewer.
+     * @return A {@code Result<List<String>>} containing the lines in the order they have in the
+     * file, or {@code null} if the file could not be read.
+     */
+    public static Result<List<String>> tail(@NonNull String originPath, int lineCount) {
+
+        Result<List<String>> result;
+
+        ValidationInfoInterface info = Validator.validateTail(originPath, lineCount);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            try {
+                ReverseLineReader reader = new ReverseLineReader(new File(originPath),
+                        Charset.defaultCharset());
+                try {
+                    List<String> lines = new ArrayList<>(Math.min(lineCount, 1024));
+                    StringBuilder line = new StringBuilder();
+                    while (lines.size() < lineCount && reader.readLine(line)) {
+                        lines.add(line.toString());
+                    }
+                    Collections.reverse(lines);
+                    result = Result.createSuccessfulResult(lines, LAST_LINES_READ,
+                            String.valueOf(lines.size()), originPath);
+                } finally {
+                    reader.close();
+                }
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                        StringUtil.format(TAIL_TEXT_FILE, originPath));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(ERROR_WHILE_READING, e, originPath);
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Indexes the lines of a text file, so that {@link #readLines(String, long, int)} can jump
+     * to any of them. See {@link #indexTextFile(String)}.
+     *
+     * @param originPath The path to the text file.
+     * @return A {@code Result<Long>} containing the amount of lines in the file, or {@code null}
+     * if it could not be indexed.
+     */
+    public static Result<Long> indexTextFile(@NonNull Path originPath) {
+
+        Result<Long> result;
+
+        ValidationInfoInterface info = Validator.validateIndexTextFile(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = indexTextFile(originPath.getPath());
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Indexes the lines of a text file, so that {@link #readLines(String, long, int)} can jump
+     * to any of them. The file is scanned once and the offset of every line is saved to a hidden
+     * file next to it, named after it with a {@code .lines} extension. The index is reused until
+     * the length or the modification time of the file change. Calling it is optional, since
+     * {@code readLines()} indexes the file if needed, but it lets you do it in advance and know
+     * how many lines there are.
+     * <p>Lines are found as bytes, so the file must be encoded with a charset where {@code \n}
+     * and {@code \r} take one byte, like UTF-8.</p>
+     *
+     * @param originPath The path to the text file.
+     * @return A {@code Result<Long>} containing the amount of lines in the file, or {@code null}
+     * if it could not be indexed.
+     */
+    public static Result<Long> indexTextFile(@NonNull String originPath) {
+
+        Result<Long> result;
+
+        ValidationInfoInterface info = Validator.validateIndexTextFile(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            try {
+                LineIndex index = LineIndex.open(new File(originPath));
+                result = Result.createSuccessfulResult(index.getLineCount(), TEXT_FILE_INDEXED,
+                        originPath, String.valueOf(index.getLineCount()));
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                        StringUtil.format(INDEX_TEXT_FILE, originPath));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(FAILED, e,
+                        StringUtil.format(INDEX_TEXT_FILE, originPath));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Reads {@code count} lines of a text file starting at line {@code fromLine}. See
+     * {@link #readLines(String, long, int)}.
+     *
+     * @param originPath The path to the text file.
+     * @param fromLine   Zero based number of the first line to read.
+     * @param count      Maximum amount of lines to read.
+     * @return A {@code Result<List<String>>} containing the lines without their terminators,
+     * which are fewer than {@code count} if the file ends before, or {@code null} if the file
+     * could not be read.
+     */
+    public static Result<List<String>> readLines(@NonNull Path originPath, long fromLine,
+                                                 int count) {
+
+        Result<List<String>> result;
+
+        ValidationInfoInterface info = Validator.validateReadLines(originPath, fromLine, count);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = readLines(originPath.getPath(), fromLine, count);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Reads {@code count} lines of a text file starting at line {@code fromLine}, seeking
+     * straight to it instead of reading the lines before. It uses the index described in
+     * {@link #indexTextFile(String)}, which is built the first time and every time the file
+     * changes, so the first call reads the whole file once. It's meant for showing pages of big
+     * files, such as logs.
+     *
+     * @param originPath The path to the text file.
+     * @param fromLine   Zero based number of the first line to read.
+     * @param count      Maximum amount of lines to read.
+     * @return A {@code Result<List<String>>} containing the lines without their terminators,
+     * which are fewer than {@code count} if the file ends before, or {@code null} if the file
+     * could not be read.
+     */
+    public static Result<List<String>> readLines(@NonNull String originPath, long fromLine,
+                                                 int count) {
+
+        Result<List<String>> result;
+
+        ValidationInfoInterface info = Validator.validateReadLines(originPath, fromLine, count);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            try {
+                List<String> lines = LineIndex.open(new File(originPath))
+                        .readLines(fromLine, count, Charset.defaultCharset());
+                result = Result.createSuccessfulResult(lines, LINES_READ, String.valueOf(lines.size()),
+                        originPath);
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                        StringUtil.format(READ_LINES, originPath));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(ERROR_WHILE_READING, e, originPath);
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Opens an appender to add text to the end of a file with default {@link AppenderOptions}.
+     * It creates the folders necessary for you.
+     *
+     * @param destinationPath The path to the file. It's created if it doesn't exist.
+     * @return A {@code Result<TextAppender>} containing the appender, which you must close when
+     * you are done, or {@code null} if the file could not be opened.
+     */
+    public static Result<TextAppender> openTextAppender(@NonNull Path destinationPath) {
+        return openTextAppender(destinationPath, null);
+    }
+
+
+    /**
+     * Opens an appender to add text to the end of a file following {@code options}. It creates
+     * the folders necessary for you.
+     *
+     * @param destinationPath The path to the file. It's created if it doesn't exist.
+     * @param options         How to write the file. Pass {@code null} to use
+     *                        {@link AppenderOptions#DEFAULT}.
+     * @return A {@code Result<TextAppender>} containing the appender, which you must close when
+     * you are done, or {@code null} if the file could not be opened.
+     */
+    public static Result<TextAppender> openTextAppender(@NonNull Path destinationPath,
+                                                        @Nullable AppenderOptions options) {
+
+        Result<TextAppender> result;
+
+        ValidationInfoInterface info = Validator.validateOpenTextAppender(destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = openTextAppender(destinationPath.getPath(), options);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(OPEN_TEXT_APPENDER, destinationPath.getPath()));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Opens an appender to add text to the end of a file with default {@link AppenderOptions}.
+     * The folder containing the file must exist.
+     *
+     * @param destinationPath The path to the file. It's created if it doesn't exist.
+     * @return A {@code Result<TextAppender>} containing the appender, which you must close when
+     * you are done, or {@code null} if the file could not be opened.
+     */
+    public static Result<TextAppender> openTextAppender(@NonNull String destinationPath) {
+        return openTextAppender(destinationPath, null);
+    }
+
+
+    /**
+     * Opens an appender to add text to the end of a file following {@code options}. The folder
+     * containing the file must exist. Use it instead of
+     * {@link #saveTextFile(String, String, boolean)} to append often, for instance to write a
+     * log, since the file stays open and texts appended from any thread are written together.
+     * See {@link TextAppender} for how to use it.
+     *
+     * @param destinationPath The path to the file. It's created if it doesn't exist.
+     * @param options         How to write the file. Pass {@code null} to use
+     *                        {@link AppenderOptions#DEFAULT}.
+     * @return A {@code Result<TextAppender>} containing the appender, which you must close when
+     * you are done, or {@code null} if the file could not be opened.
+     */
+    public static Result<TextAppender> openTextAppender(@NonNull String destinationPath,
+                                                        @Nullable AppenderOptions options) {
+
+        Result<TextAppender> result;
+
+        ValidationInfoInterface info = Validator.validateOpenTextAppender(destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            try {
+                TextAppender appender = new TextAppender(new File(destinationPath),
+                        options == null ? AppenderOptions.DEFAULT : options);
+                result = Result.createSuccessfulResult(appender, TEXT_APPENDER_OPENED,
+                        destinationPath);
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(DESTINATION_FOLDER_NOT_FOUND, e,
+                        StringUtil.format(OPEN_TEXT_APPENDER, destinationPath));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(FAILED, e,
+                        StringUtil.format(OPEN_TEXT_APPENDER, destinationPath));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Opens the {@link ObjectStore} in {@code destinationFolder} with the default options. See
+     * {@link #openObjectStore(String, ObjectStoreOptions)}.
+     *
+     * @param destinationFolder The folder holding the store. It's created for you if it doesn't
+     *                          exist.
+     * @return A {@code Result<ObjectStore>} containing the store, which you must close when you
+     * are done, or {@code null} if it could not be opened.
+     */
+    public static Result<ObjectStore> openObjectStore(@NonNull Path destinationFolder) {
+        return openObjectStore(destinationFolder, null);
+    }
+
+
+    /**
+     * Opens the {@link ObjectStore} in {@code destinationFolder} following {@code options}. See
+     * {@link #openObjectStore(String, ObjectStoreOptions)}.
+     *
+     * @param destinationFolder The folder holding the store. It's created for you if it doesn't
+     *                          exist.
+     * @param options           How to write. Pass {@code null} to use
+     *                          {@link ObjectStoreOptions#DEFAULT}.
+     * @return A {@code Result<ObjectStore>} containing the store, which you must close when you
+     * are done, or {@code null} if it could not be opened.
+     */
+    public static Result<ObjectStore> openObjectStore(@NonNull Path destinationFolder,
+                                                      @Nullable ObjectStoreOptions options) {
+
+        Result<ObjectStore> result;
+
+        ValidationInfoInterface info = Validator.validateOpenObjectStore(destinationFolder);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationFolder)) {
+            result = openObjectStore(destinationFolder.getPath(), options);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(OPEN_OBJECT_STORE, destinationFolder.getPath()));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Opens the {@link ObjectStore} in {@code destinationFolder} with the default options. See
+     * {@link #openObjectStore(String, ObjectStoreOptions)}.
+     *
+     * @param destinationFolder The folder holding the store. It's created if it doesn't exist,
+     *                          but the folder containing it must exist.
+     * @return A {@code Result<ObjectStore>} containing the store, which you must close when you
+     * are done, or {@code null} if it could not be opened.
+     */
+    public static Result<ObjectStore> openObjectStore(@NonNull String destinationFolder) {
+        return openObjectStore(destinationFolder, null);
+    }
+
+
+    /**
+     * Opens the {@link ObjectStore} in {@code destinationFolder} following {@code options}. Use it
+     * instead of {@link #saveObject(Object, String)} to keep many small objects, since they are
+     * all written to a few files that stay open. Only one store can be open in the same folder
+     * at the same time.
+     *
+     * @param destinationFolder The folder holding the store. It's created if it doesn't exist,
+     *                          but the folder containing it must exist.
+     * @param options           How to write. Pass {@code null} to use
+     *                          {@link ObjectStoreOptions#DEFAULT}.
+     * @return A {@code Result<ObjectStore>} containing the store, which you must close when you
+     * are done, or {@code null} if it could not be opened.
+     */
+    public static Result<ObjectStore> openObjectStore(@NonNull String destinationFolder,
+                                                      @Nullable ObjectStoreOptions options) {
+
+        Result<ObjectStore> result;
+
+        ValidationInfoInterface info = Validator.validateOpenObjectStore(destinationFolder);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+
+            File folder = new File(destinationFolder);
+
+            folder.mkdir();
+            if (!folder.isDirectory()) {
+                result = Result.createNoExceptionResult(CANNOT_CREATE_DESTIONATION_FOLDER,
+                        StringUtil.format(OPEN_OBJECT_STORE, destinationFolder),
+                        destinationFolder);
+            } else {
+                try {
+                    ObjectStore store = new ObjectStore(folder,
+                            options == null ? ObjectStoreOptions.DEFAULT : options);
+                    result = Result.createSuccessfulResult(store, OBJECT_STORE_OPENED,
+                            destinationFolder);
+                } catch (IOException e) {
+                    result = Result.createUnsuccessfulResult(FAILED, e,
+                            StringUtil.format(OPEN_OBJECT_STORE, destinationFolder));
+                }
+            }
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Saves an object to {@code destinationPath}.
+     *
+     * @param object          Object to save.
+     * @param destinationPath Path in the device where the object will be saved.
+     * @return A {@code Result<File>} containing the file where the object has been saved or else
+     * {@code null}.
+     */
+    public static Result<File> saveObject(@NonNull Object object, @NonNull Path destinationPath) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveObject(object, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            if (createPath(destinationPath)) {
+                result = saveObject(object, destinationPath.getPath());
+            } else {
+                result = Result.createNoExceptionResult(FAILED,
+                        StringUtil.format(SAVE_OBJECT, destinationPath.getPath()));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Saves an object to {@code destinationPath} following {@code options}. It creates the
+     * folders necessary for you.
+     *
+     * @param object          Object to save.
+     * @param destinationPath Path in the device where the object will be saved.
+     * @param options         How to write the file, for instance atomically. Pass {@code null}
+     *                        to use the default ones, see
+     *                        {@link #setDefaultWriteOptions(WriteOptions)}.
+     * @return A {@code Result<File>} containing the file where the object has been saved or else
+     * {@code null}.
+     */
+    public static Result<File> saveObject(@NonNull Object object, @NonNull Path destinationPath,
+                                          @Nullable WriteOptions options) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveObject(object, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = saveObject(object, destinationPath.getPath(), options);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(SAVE_OBJECT, destinationPath.getPath()));
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Saves an object to {@code destinationPath}.
+     *
+     * @param object          Object to save.
+     * @param destinationPath Path in the device where the object will be saved.
+     * @return A {@code Result<File>} containing the file where the object has been saved or else
+     * {@code null}.
+     */
+    public static Result<File> saveObject(@NonNull Object object, @NonNull String destinationPath) {
+        return saveObject(object, destinationPath, null);
+    }
+
+
+    /**
+     * Saves an object to {@code destinationPath} following {@code options}. The object is written
+     * with the serializer {@link Serializers} chooses for it, Java serialization by default.
+     *
+     * @param object          Object to save.
+     * @param destinationPath Path in the device where the object will be saved.
+     * @param options         How to write the file, for instance atomically or compressed, see
+     *                        {@link WriteOptions.Builder#compressionLevel(int)}. Pass {@code null}
+     *                        to use the default ones, see
+     *                        {@link #setDefaultWriteOptions(WriteOptions)}.
+     * @return A {@code Result<File>} containing the file where the object has been saved or else
+     * {@code null}. If the options skip unchanged files and the file already held the object,
+     * {@link Result#isUnchanged()} returns {@code true}.
+     */
+    public static Result<File> saveObject(@NonNull Object object, @NonNull String destinationPath,
+                                          @Nullable WriteOptions options) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveObject(object, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+
+            File destinationFile = new File(destinationPath);
+            WriteSession session = new WriteSession(destinationFile, options);
+            ObjectCache cache = ObjectCache.getInstalled();
+            int compressionLevel = session.getOptions().getCompressionLevel();
+            byte[] content = null;
+            byte[] digest = null;
+
+            if (cache != null) {
+                cache.invalidate(destinationFile);
+            }
+
+            if (session.getOptions().shouldSkipUnchanged()) {
+                try {
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                    ObjectCodec.write(object, buffer, compressionLevel);
+                    content = buffer.toByteArray();
+                    digest = Fingerprints.digest(content, content.length);
+                } catch (IOException e) {
+                    // Writing the file below fails the same way and reports it
+                    content = null;
+                }
+            }
+
+            boolean unchanged = false;
+            if (digest != null) {
+                synchronized (ObjectCache.getLock(destinationFile)) {
+                    unchanged = Fingerprints.matches(destinationFile, content.length, digest);
+                    if (unchanged && cache != null) {
+                        cache.put(destinationFile, object, destinationFile.length(),
+                                destinationFile.lastModified());
+                    }
+                }
+            }
+
+            if (unchanged) {
+                result = Result.createSuccessfulResult(destinationFile, OBJECT_UNCHANGED,
+                        destinationPath);
+                result.setUnchanged(true);
+            } else {
+                Fingerprints.forget(destinationFile);
+                boolean committed = false;
+                try {
+                    FileOutputStream streamToFile = session.open(false);
+                    try {
+                        if (content != null) {
+                            streamToFile.write(content, 0, content.length);
+                        } else {
+                            ObjectCodec.write(object, streamToFile, compressionLevel);
+                        }
+                        // Replacing the file and caching its object can't be interleaved with
+                        // another save of the same path, or the cache could keep the other object
+                        synchronized (ObjectCache.getLock(destinationFile)) {
+                            session.commit();
+                            committed = true;
+                            if (digest != null) {
+                                Fingerprints.record(destinationFile, digest);
+                            }
+                            if (cache != null) {
+                                cache.put(destinationFile, object, destinationFile.length(),
+                                        destinationFile.lastModified());
+                            }
+                        }
+                        result = Result.createSuccessfulResult(destinationFile, OBJECT_SAVED, destinationPath);
+                    } catch (IOException e) {
+                        result = Result.createUnsuccessfulResult(CANNOT_CREATE_OBJECT_FILE, e, destinationPath);
+                    }
+                } catch (IOException e) {
+                    result = Result.createUnsuccessfulResult(DESTINATION_FOLDER_NOT_FOUND, e,
+                            StringUtil.format(SAVE_OBJECT, destinationPath));
+                } finally {
+                    // Also when a serializer throws something else
+                    if (!committed) {
+                        session.abort();
+                    }
+                }
+
+                result.setPreviousVersionKept(session.isPreviousVersionKept());
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Queues an object to be saved to {@code destinationPath} later. See
+     * {@link #saveObjectLater(Object, String, WriteOptions)}. It creates the folders necessary
+     * for you.
+     *
+     * @param object          Object to save.
+     * @param destinationPath Path in the device where the object will be saved.
+     * @return A {@code Result<PendingWrite>} containing the handle telling when and how the save
+     * ends, or {@code null} if the object can't be saved.
+     */
+    public static Result<PendingWrite> saveObjectLater(@NonNull Object object,
+                                                       @NonNull Path destinationPath) {
+        return saveObjectLater(object, destinationPath, null);
+    }
+
+
+    /**
+     * Queues an object to be saved to {@code destinationPath} later following {@code options}.
+     * See {@link #saveObjectLater(Object, String, WriteOptions)}. It creates the folders necessary
+     * for you.
+     *
+     * @param object          Object to save.
+     * @param destinationPath Path in the device where the object will be saved.
+     * @param options         How to write the file. Pass {@code null} to use the default ones,
+     *                        see {@link #setDefaultWriteOptions(WriteOptions)}.
+     * @return A {@code Result<PendingWrite>} containing the handle telling when and how the save
+     * ends, or {@code null} if the object can't be saved.
+     */
+    public static Result<PendingWrite> saveObjectLater(@NonNull Object object,
+                                                       @NonNull Path destinationPath,
+                                                       @Nullable WriteOptions options) {
+
+        Result<PendingWrite> result;
+
+        ValidationInfoInterface info = Validator.validateSaveObject(object, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = saveObjectLater(object, destinationPath.getPath(), options);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(SAVE_OBJECT, destinationPath.getPath()));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Queues an object to be saved to {@code destinationPath} later. See
+     * {@link #saveObjectLater(Object, String, WriteOptions)}.
+     *
+     * @param object          Object to save.
+     * @param destinationPath Path in the device where the object will be saved.
+     * @return A {@code Result<PendingWrite>} containing the handle telling when and how the save
+     * ends, or {@code null} if the object can't be saved.
+     */
+    public static Result<PendingWrite> saveObjectLater(@NonNull Object object,
+                                                       @NonNull String destinationPath) {
+        return saveObjectLater(object, destinationPath, null);
+    }
+
+
+    /**
+     * Queues an object to be saved to {@code destinationPath} in the background, returning right
+     * away. If the same path is saved again before the object is written, only the last object
+     * is written, so saving often costs a single write. The object is written with
+     * {@link #saveObject(Object, String, WriteOptions)} once the path goes
+     * {@link WriteBehindQueue#DEFAULT_DEBOUNCE_WINDOW} milliseconds without saves, or
+     * {@link WriteBehindQueue#DEFAULT_MAX_DELAY} milliseconds after it was first queued. The
+     * folders to the path must exist by then. Build your own {@link WriteBehindQueue} to use
+     * other delays, and see it for details.
+     * <p>Call {@link #flushPendingWrites()} to write every pending object before the process may
+     * die, since pending objects are lost otherwise.</p>
+     *
+     * @param object          Object to save. It must not be modified until it's written.
+     * @param destinationPath Path in the device where the object will be saved.
+     * @param options         How to write the file. Pass {@code null} to use the default ones,
+     *                        see {@link #setDefaultWriteOptions(WriteOptions)}.
+     * @return A {@code Result<PendingWrite>} containing the handle telling when and how the save
+     * ends, or {@code null} if the object can't be saved.
+     */
+    public static Result<PendingWrite> saveObjectLater(@NonNull Object object,
+                                                       @NonNull String destinationPath,
+                                                       @Nullable WriteOptions options) {
+        return WriteBehindQueue.getDefault().saveObject(object, destinationPath, options);
+    }
+
+
+    /**
+     * Writes every object queued with {@link #saveObjectLater(Object, String, WriteOptions)} right
+     * away and waits until they are written.
+     *
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    public static void flushPendingWrites() throws InterruptedException {
+        WriteBehindQueue.getDefault().flush();
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Loads an object from a file.
+     *
+     * @param originPath Path to the file where the object is stored.
+     * @param clazz      Class containing the object's type.
+     * @param <T>        Object's type.
+     * @return A {@code Result} containing the the object retrieved or null if it couldn't be
+     * retrieved.
+     */
+    public static <T> Result<T> loadObject(@NonNull Path originPath, @NonNull Class clazz) {
+
+        Result<T> result;
+
+        ValidationInfoInterface info = Validator.validateLoadObject(originPath, clazz);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = loadObject(originPath.getPath(), clazz);
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Loads an object from a file. The serializer that wrote it is picked back from the file,
+     * so serializers registered in {@link Serializers} must be registered before loading. If an
+     * {@link ObjectCache} is set, the object is taken from it while the file is unchanged.
+     *
+     * @param originPath Path to the file where the object is stored.
+     * @param clazz      Class containing the object's type.
+     * @param <T>        Object's type.
+     * @return A {@code Result} containing the the object retrieved or null if it couldn't be
+     * retrieved.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Result<T> loadObject(@NonNull String originPath, @NonNull Class clazz) {
+
+        Result<T> result;
+
+        ValidationInfoInterface info = Validator.validateLoadObject(originPath, clazz);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            File originFile = new File(originPath);
+            ObjectCache cache = ObjectCache.getInstalled();
+            Object cachedObject = cache != null ? cache.get(originFile) : null;
+
+            if (cachedObject != null) {
+                result = Result.createSuccessfulResult((T) cachedObject, OBJECT_LOADED_FROM_CACHE,
+                        originPath);
+            } else {
+                result = loadObject(originFile, clazz, cache);
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Reads the object stored in {@code originFile} and caches it in {@code cache}, if any.
+     * The length and modification time are taken before reading, so a file changed while
+     * being read is read again next time.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Result<T> loadObject(@NonNull File originFile, @NonNull Class<?> clazz,
+                                            @Nullable ObjectCache cache) {
+
+        Result<T> result;
+        String originPath = originFile.getPath();
+        long length = originFile.length();
+        long lastModified = originFile.lastModified();
+
+        try {
+            BufferedInputStream streamToFile = new BufferedInputStream(
+                    new FileInputStream(originFile), ObjectCodec.BUFFER_SIZE);
+            try {
+                T object = (T) ObjectCodec.read(streamToFile);
+                if (cache != null && object != null) {
+                    cache.putIfAbsent(originFile, object, length, lastModified);
+                }
+                result = Result.createSuccessfulResult(object, OBJECT_LOADED, originPath);
+            } catch (ClassNotFoundException e) {
+                result = Result.createUnsuccessfulResult(CLASS_NOT_FOUND, e,
+                        StringUtil.format(LOAD_OBJECT, clazz.getSimpleName(), originPath));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(CANNOT_READ_OBJECT, e,
+                        StringUtil.format(LOAD_OBJECT, clazz.getSimpleName(), originPath));
+            } finally {
+                IOUtil.closeQuietly(streamToFile);
+            }
+        } catch (FileNotFoundException e) {
+            result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                    StringUtil.format(LOAD_OBJECT, clazz.getSimpleName(), originPath));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Saves many objects to a single container file, from which any of them can be loaded alone
+     * with {@link #loadObject(String, String)}. It creates the folders necessary for you.
+     *
+     * @param objects         Objects to save by key.
+     * @param destinationPath Path in the device where the container will be saved.
+     * @return A {@code Result<File>} containing the container or else {@code null}.
+     */
+    public static Result<File> saveObjects(@NonNull Map<String, ?> objects,
+                                           @NonNull Path destinationPath) {
+        return saveObjects(objects, destinationPath, null);
+    }
+
+
+    /**
+     * Saves many objects to a single container file following {@code options}. See
+     * {@link #saveObjects(Map, String, WriteOptions)}. It creates the folders necessary for you.
+     *
+     * @param objects         Objects to save by key.
+     * @param destinationPath Path in the device where the container will be saved.
+     * @param options         How to write the file. Pass {@code null} to use the default ones,
+     *                        see {@link #setDefaultWriteOptions(WriteOptions)}.
+     * @return A {@code Result<File>} containing the container or else {@code null}.
+     */
+    public static Result<File> saveObjects(@NonNull Map<String, ?> objects,
+                                           @NonNull Path destinationPath,
+                                           @Nullable WriteOptions options) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveObjects(objects, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = saveObjects(objects, destinationPath.getPath(), options);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(SAVE_OBJECTS, destinationPath.getPath()));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Saves many objects to a single container file, from which any of them can be loaded alone
+     * with {@link #loadObject(String, String)}. See
+     * {@link #saveObjects(Map, String, WriteOptions)}.
+     *
+     * @param objects         Objects to save by key.
+     * @param destinationPath Path in the device where the container will be saved.
+     * @return A {@code Result<File>} containing the container or else {@code null}.
+     */
+    public static Result<File> saveObjects(@NonNull Map<String, ?> objects,
+                                           @NonNull String destinationPath) {
+        return saveObjects(objects, destinationPath, null);
+    }
+
+
+    /**
+     * Saves many objects to a single container file following {@code options}. Every object is
+     * written as {@link #saveObject(Object, String, WriteOptions)} would, followed by a table
+     * telling where each of them is, so that {@link #loadObject(String, String)} reads only the
+     * object asked for. Use it to keep many small objects in one file or to ship bundles of
+     * objects prepared beforehand. The container is replaced as a whole, for changing single
+     * objects often see {@link ObjectStore}.
+     *
+     * @param objects         Objects to save by key, in the order they will be written. Keys
+     *                        can't be longer than 65535 bytes in UTF-8.
+     * @param destinationPath Path in the device where the container will be saved.
+     * @param options         How to write the file, for instance atomically or compressed. Pass
+     *                        {@code null} to use the default ones, see
+     *                        {@link #setDefaultWriteOptions(WriteOptions)}.
+     * @return A {@code Result<File>} containing the container or else {@code null}.
+     */
+    public static Result<File> saveObjects(@NonNull Map<String, ?> objects,
+                                           @NonNull String destinationPath,
+                                           @Nullable WriteOptions options) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveObjects(objects, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+
+            File destinationFile = new File(destinationPath);
+            WriteSession session = new WriteSession(destinationFile, options);
+            ObjectCache cache = ObjectCache.getInstalled();
+
+            if (cache != null) {
+                cache.invalidate(destinationFile);
+            }
+            ObjectContainer.invalidate(destinationFile);
+
+            try {
+                FileOutputStream streamToFile = session.open(false);
+                try {
+                    ObjectContainer.write(objects, streamToFile,
+                            session.getOptions().getCompressionLevel());
+                    session.commit();
+                    result = Result.createSuccessfulResult(destinationFile, OBJECTS_SAVED,
+                            String.valueOf(objects.size()), destinationPath);
+                } catch (IOException e) {
+                    session.abort();
+                    result = Result.createUnsuccessfulResult(CANNOT_CREATE_OBJECT_FILE, e,
+                            destinationPath);
+                }
+            } catch (IOException e) {
+                session.abort();
+                result = Result.createUnsuccessfulResult(DESTINATION_FOLDER_NOT_FOUND, e,
+                        StringUtil.format(SAVE_OBJECTS, destinationPath));
+            }
+
+            // Tables read while the file was being written may not be the ones committed
+            ObjectContainer.invalidate(destinationFile);
+            result.setPreviousVersionKept(session.isPreviousVersionKept());
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Loads a single object from a container file written by
+     * {@link #saveObjects(Map, Path, WriteOptions)}. See {@link #loadObject(String, String)}.
+     *
+     * @param container Path to the container.
+     * @param key       Key the object was saved with.
+     * @param <T>       Object's type.
+     * @return A {@code Result} containing the object retrieved or {@code null} if it couldn't be
+     * retrieved.
+     */
+    public static <T> Result<T> loadObject(@NonNull Path container, @NonNull String key) {
+
+        Result<T> result;
+
+        ValidationInfoInterface info = Validator.validateLoadObject(container, key);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = loadObject(container.getPath(), key);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Loads a single object from a container file written by
+     * {@link #saveObjects(Map, String, WriteOptions)} without reading the others. The table of
+     * the last containers used is kept in memory, so this takes a single read while the container
+     * doesn't change.
+     *
+     * @param container Path to the container.
+     * @param key       Key the object was saved with.
+     * @param <T>       Object's type.
+     * @return A {@code Result} containing the object retrieved or {@code null} if it couldn't be
+     * retrieved or the container has no object with that key.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Result<T> loadObject(@NonNull String container, @NonNull String key) {
+
+        Result<T> result;
+
+        ValidationInfoInterface info = Validator.validateLoadObject(container, key);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            try {
+                T object = (T) ObjectContainer.read(new File(container), key);
+                if (object == null) {
+                    result = Result.createNoExceptionResult(KEY_NOT_IN_CONTAINER,
+                            StringUtil.format(LOAD_CONTAINED_OBJECT, key, container));
+                } else {
+                    result = Result.createSuccessfulResult(object, CONTAINED_OBJECT_LOADED, key,
+                            container);
+                }
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                        StringUtil.format(LOAD_CONTAINED_OBJECT, key, container));
+            } catch (ClassNotFoundException e) {
+                result = Result.createUnsuccessfulResult(CLASS_NOT_FOUND, e,
+                        StringUtil.format(LOAD_CONTAINED_OBJECT, key, container));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(CANNOT_READ_OBJECT, e,
+                        StringUtil.format(LOAD_CONTAINED_OBJECT, key, container));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Saves a {@code byte[]} in {@code destinationPath}. Creates the folders necessary to create
+     * the path for you.
+     *
+     * @param byteArray       The {@code byte[]} that you want to save.
+     * @param destinationPath The path to the file where the {@code byteArray} will be saved.
+     * @return A {@code Result<File>} containing the {@code File} where the {@code byteArray} will
+     * be saved.
+     */
+    public static Result<File> saveByteArray(@NonNull byte[] byteArray,
+                                             @NonNull Path destinationPath) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveByteArray(byteArray, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            if (createPath(destinationPath)) {
+                result = saveByteArray(byteArray, destinationPath.getPath());
+            } else {
+                result = Result.createNoExceptionResult(FAILED,
+                        StringUtil.format(SAVE_BYTE_ARRAY, destinationPath.getPath()));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Saves a {@code byte[]} in {@code destinationPath} following {@code options}. Creates the
+     * folders necessary to create the path for you.
+     *
+     * @param byteArray       The {@code byte[]} that you want to save.
+     * @param destinationPath The path to the file where the {@code byteArray} will be saved.
+     * @param options         How to write the file, for instance atomically. Pass {@code null}
+     *                        to use the default ones, see
+     *                        {@link #setDefaultWriteOptions(WriteOptions)}.
+     * @return A {@code Result<File>} containing the {@code File} where the {@code byteArray} will
+     * be saved.
+     */
+    public static Result<File> saveByteArray(@NonNull byte[] byteArray,
+                                             @NonNull Path destinationPath,
+                                             @Nullable WriteOptions options) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveByteArray(byteArray, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = saveByteArray(byteArray, destinationPath.getPath(), options);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(SAVE_BYTE_ARRAY, destinationPath.getPath()));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Saves a {@code byte[]} in {@code destinationPath}. The folders to the path must exist or else
+     * it will fail.
+     *
+     * @param byteArray       The {@code byte[]} that you want to save.
+     * @param destinationPath The path to the file where the {@code byteArray} will be saved.
+     * @return A {@code Result<File>} containing the {@code File} where the {@code byteArray} will
+     * be saved.
+     */
+    public static Result<File> saveByteArray(@NonNull byte[] byteArray,
+                                             @NonNull String destinationPath) {
+        return saveByteArray(byteArray, destinationPath, null);
+    }
+
+
+    /**
+     * Saves a {@code byte[]} in {@code destinationPath} following {@code options}. The folders to
+     * the path must exist or else it will fail.
+     *
+     * @param byteArray       The {@code byte[]} that you want to save.
+     * @param destinationPath The path to the file where the {@code byteArray} will be saved.
+     * @param options         How to write the file, for instance atomically. Pass {@code null}
+     *                        to use the default ones, see
+     *                        {@link #setDefaultWriteOptions(WriteOptions)}.
+     * @return A {@code Result<File>} containing the {@code File} where the {@code byteArray} will
+     * be saved. If the options skip unchanged files and the file already held the
+     * {@code byteArray}, {@link Result#isUnchanged()} returns {@code true}.
+     */
+    public static Result<File> saveByteArray(@NonNull byte[] byteArray,
+                                             @NonNull String destinationPath,
+                                             @Nullable WriteOptions options) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveByteArray(byteArray, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+
+            File destinationFile = new File(destinationPath);
+            WriteSession session = new WriteSession(destinationFile, options);
+            byte[] digest = session.getOptions().shouldSkipUnchanged() ?
+                    Fingerprints.digest(byteArray, byteArray.length) : null;
+
+            if (digest != null && Fingerprints.matches(destinationFile, byteArray.length, digest)) {
+                result = Result.createSuccessfulResult(destinationFile, BYTE_ARRAY_UNCHANGED,
+                        destinationPath);
+                result.setUnchanged(true);
+            } else {
+                Fingerprints.forget(destinationFile);
+                try {
+                    FileOutputStream streamToDestinationFile = session.open(false);
+                    try {
+                        streamToDestinationFile.write(byteArray, 0, byteArray.length);
+                        session.commit();
+                        if (digest != null) {
+                            Fingerprints.record(destinationFile, digest);
+                        }
+                        result = Result.createSuccessfulResult(destinationFile,
+                                BYTE_ARRAY_SAVED, destinationPath);
+                    } catch (IOException e) {
+                        session.abort();
+                        result = Result.createUnsuccessfulResult(ERROR_WRITING_BYTE_ARRAY, e,
+                                StringUtil.format(SAVE_BYTE_ARRAY, destinationPath));
+                    }
+                } catch (IOException e) {
+                    session.abort();
+                    result = Result.createUnsuccessfulResult(DESTINATION_FOLDER_NOT_FOUND, e,
+                            StringUtil.format(SAVE_BYTE_ARRAY, destinationPath));
+                }
+
+                result.setPreviousVersionKept(session.isPreviousVersionKept());
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Loads the whole content of a file into a {@code byte[]}. See
+     * {@link #loadByteArray(String)}.
+     *
+     * @param originPath The path to the file.
+     * @return A {@code Result<byte[]>} with the content of the file or {@code null} if it could not
+     * be read.
+     */
+    public static Result<byte[]> loadByteArray(@NonNull Path originPath) {
+
+        Result<byte[]> result;
+
+        ValidationInfoInterface info = Validator.validateLoadByteArray(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = loadByteArray(originPath.getPath());
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Loads the whole content of a file into a {@code byte[]}, as saved by
+     * {@link #saveByteArray(byte[], String)}. The array is sized after the length of the file, so
+     * it's usually filled with a single read and never copied. For big files that don't need to be
+     * on the Java heap, see {@link #loadByteArrayMapped(String)}.
+     *
+     * @param originPath The path to the file.
+     * @return A {@code Result<byte[]>} with the content of the file or {@code null} if it could not
+     * be read.
+     */
+    public static Result<byte[]> loadByteArray(@NonNull String originPath) {
+
+        Result<byte[]> result;
+
+        ValidationInfoInterface info = Validator.validateLoadByteArray(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            File file = new File(originPath);
+            try {
+                if (file.length() > IOUtil.MAX_ARRAY_LENGTH) {
+                    result = Result.createNoExceptionResult(BYTE_ARRAY_TOO_BIG,
+                            StringUtil.format(LOAD_BYTE_ARRAY, originPath));
+                } else {
+                    result = Result.createSuccessfulResult(IOUtil.readFully(file),
+                            BYTE_ARRAY_LOADED, originPath);
+                }
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                        StringUtil.format(LOAD_BYTE_ARRAY, originPath));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(ERROR_READING_BYTE_ARRAY, e,
+                        StringUtil.format(LOAD_BYTE_ARRAY, originPath));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Maps the whole content of a file in memory. See {@link #loadByteArrayMapped(String)}.
+     *
+     * @param originPath The path to the file.
+     * @return A {@code Result<MappedByteBuffer>} with the content of the file or {@code null} if
+     * it could not be mapped.
+     */
+    public static Result<MappedByteBuffer> loadByteArrayMapped(@NonNull Path originPath) {
+
+        Result<MappedByteBuffer> result;
+
+        ValidationInfoInterface info = Validator.validateLoadByteArrayMapped(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = loadByteArrayMapped(originPath.getPath());
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Maps the whole content of a file in memory and returns it as a read-only buffer instead of
+     * copying it to a {@code byte[]}. The pages of the file are loaded by the operating system as
+     * they are read and can be dropped under memory pressure, so it's the way to read big files,
+     * such as models or databases, without taking Java heap. For small files
+     * {@link #loadByteArray(String)} is faster, since mapping has a fixed cost.
+     * <p>The buffer reflects later changes to the file, and reading it after the file has been
+     * truncated may crash the app, so map only files that aren't modified meanwhile.</p>
+     *
+     * @param originPath The path to the file.
+     * @return A {@code Result<MappedByteBuffer>} with the content of the file or {@code null} if
+     * it could not be mapped.
+     */
+    public static Result<MappedByteBuffer> loadByteArrayMapped(@NonNull String originPath) {
+
+        Result<MappedByteBuffer> result;
+
+        ValidationInfoInterface info = Validator.validateLoadByteArrayMapped(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            File file = new File(originPath);
+            try {
+                if (file.length() > IOUtil.MAX_ARRAY_LENGTH) {
+                    result = Result.createNoExceptionResult(BYTE_ARRAY_TOO_BIG,
+                            StringUtil.format(LOAD_BYTE_ARRAY_MAPPED, originPath));
+                } else {
+                    result = Result.createSuccessfulResult(IOUtil.map(file), BYTE_ARRAY_MAPPED,
+                            originPath);
+                }
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                        StringUtil.format(LOAD_BYTE_ARRAY_MAPPED, originPath));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(ERROR_READING_BYTE_ARRAY, e,
+                        StringUtil.format(LOAD_BYTE_ARRAY_MAPPED, originPath));
+            }
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Saves a {@code Bitmap} to the device. This method stores a Bitmap in memory as a file, since
+     * it cannot be stored as an object, for it cannot implement {@link Serializable}.
+     *
+     * @param bitmap          The image to be saved.
+     * @param destinationPath The path to the file where it will be saved.
+     * @return Returns a {@code Result} with the {@code File} where the {@code Bitmap} has been
+     * stored or null if there was an error.
+     */
+    public static Result<File> saveBitmap(@NonNull Bitmap bitmap, @NonNull Path destinationPath) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveBitmap(bitmap, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            boolean pathCreated = createPath(destinationPath);
+            if (pathCreated) {
+                result = saveBitmap(bitmap, destinationPath.getPath());
+            } else {
+                result = Result.createNoExceptionResult(FAILED,
+                        StringUtil.format(SAVE_BITMAP, destinationPath.getPath()));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Saves a {@code Bitmap} to the device following {@code options}. It creates the folders
+     * necessary for you.
+     *
+     * @param bitmap          The image to be saved.
+     * @param destinationPath The path to the file where it will be saved.
+     * @param options         How to write the file, for instance atomically. Pass {@code null}
+     *                        to use the default ones, see
+     *                        {@link #setDefaultWriteOptions(WriteOptions)}.
+     * @return Returns a {@code Result} with the {@code File} where the {@code Bitmap} has been
+     * stored or null if there was an error.
+     */
+    public static Result<File> saveBitmap(@NonNull Bitmap bitmap, @NonNull Path destinationPath,
+                                          @Nullable WriteOptions options) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveBitmap(bitmap, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = saveBitmap(bitmap, destinationPath.getPath(), options);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(SAVE_BITMAP, destinationPath.getPath()));
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Saves a {@code Bitmap} to the device. This method stores a Bitmap in memory as a file, since
+     * it cannot be stored as an object, for it cannot implemente {@link Serializable}.
+     *
+     * @param bitmap          The image to be saved.
+     * @param destinationPath The path to the file where it will be saved.
+     * @return Returns a {@code Result} with the {@code File} where the {@code Bitmap} has been
+     * stored or null if there was an error.
+     */
+    public static Result<File> saveBitmap(@NonNull Bitmap bitmap, @NonNull String destinationPath) {
+        return saveBitmap(bitmap, destinationPath, null);
+    }
+
+
+    /**
+     * Saves a {@code Bitmap} to the device following {@code options}. The folders to the path
+     * must exist or else it will fail.
+     *
+     * @param bitmap          The image to be saved.
+     * @param destinationPath The path to the file where it will be saved.
+     * @param options         How to write the file, for instance atomically. Pass {@code null}
+     *                        to use the default ones, see
+     *                        {@link #setDefaultWriteOptions(WriteOptions)}.
+     * @return Returns a {@code Result} with the {@code File} where the {@code Bitmap} has been
+     * stored or null if there was an error.
+     */
+    public static Result<File> saveBitmap(@NonNull Bitmap bitmap, @NonNull String destinationPath,
+                                          @Nullable WriteOptions options) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveBitmap(bitmap, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+
+            WriteSession session = new WriteSession(new File(destinationPath), options);
+
+            try {
+                OutputStream streamToFile = session.open(false);
+                if (bitmap.compress(Bitmap.CompressFormat.JPEG, 100, streamToFile)) {
+                    session.commit();
+                    result = Result.createSuccessfulResult(new File(destinationPath),
+                            BITMAP_SAVED, destinationPath);
+                } else {
+                    session.abort();
+                    result = Result.createNoExceptionResult(CANNOT_COMPRESS_BITMAP,
+                            StringUtil.format(SAVE_BITMAP, destinationPath));
+                }
+            } catch (IOException e) {
+                session.abort();
+                result = Result.createUnsuccessfulResult(UNEXPECTED_IO_ERROR, e,
+                        StringUtil.format(SAVE_BITMAP, destinationPath));
+            }
+
+            result.setPreviousVersionKept(session.isPreviousVersionKept());
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Loads an image file from the device.
+     *
+     * @param originPath The path to the file where the image is stored.
+     * @return Returns a {@code Result} with the {@code Bitmap} obtained.
+     */
+    public static Result<Bitmap> loadBitmap(@NonNull Path originPath) {
+
+        Result<Bitmap> result;
+
+        ValidationInfoInterface info = Validator.validateLoadBitmap(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = loadBitmap(originPath.getPath());
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Loads an image file from the device.
+     *
+     * @param originPath The path to the file where the image is stored.
+     * @return Returns a {@code Result} with the {@code Bitmap} obtained.
+     */
+    public static Result<Bitmap> loadBitmap(@NonNull String originPath) {
+
+        Result<Bitmap> result;
+
+        ValidationInfoInterface info = Validator.validateLoadBitmap(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            try {
+                InputStream streamFromFile = new FileInputStream(new File(originPath));
+                Bitmap bitmap = BitmapFactory.decodeStream(streamFromFile);
+                if (bitmap == null) {
+                    ExceptionManager.throwNotAnImageException(LOAD_BITMAP, originPath);
+                    result = Result.createNoExceptionResult(CANNOT_CONVERT_TO_BITMAP,
+                            StringUtil.format(LOAD_BITMAP, originPath));
+                } else {
+                    result = Result.createSuccessfulResult(bitmap, BITMAP_LOADED, originPath);
+                }
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                        StringUtil.format(LOAD_BITMAP, originPath));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Loads a {@code Bitmap} from a {@code Uri}.
+     *
+     * @param context   A {@code Context} to call contentResolver.
+     * @param originUri The image identifier.
+     * @return A {@code Result} containing the {@code Bitmap} referenced by the {@code originUri} or
+     * {@code null} if the {@code originUri} references a non-existing file.
+     */
+    public static Result<Bitmap> loadBitmap(Context context, Uri originUri) {
+
+        Result<Bitmap> result;
+
+        ValidationInfoInterface info = Validator.validateLoadBitmap(context, originUri);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            try {
+                InputStream is = context.getContentResolver().openInputStream(originUri);
+                Bitmap bitmap = BitmapFactory.decodeStream(is);
+                if (bitmap == null) {
+                    result = Result.createNoExceptionResult(
+                            StringUtil.format(NULL_FILE_FROM_URI,
+                                    StringUtil.format(LOAD_BITMAP_FROM_URI, originUri.getPath())));
+                } else {
+                    result = Result.createSuccessfulResult(bitmap, BITMAP_LOADED_FROM_URI,
+                            originUri.getPath());
+                }
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(FILE_NOT_FOUND, e,
+                        StringUtil.format(LOAD_BITMAP_FROM_URI, originUri.getPath()));
+            }
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Saves every preference in the {@code SharedPreferences} object received to a file as a
+     * {@code Map<String, ?}. It will create the intermediate folders for you.
+     *
+     * @param sharedPreferences Object containing the preferences to be saved.
+     * @param destinationPath   Path to the file were the preferences will be saved. Don't assign an
+     *                          extension to the file parameter.
+     * @return A{@code Result<File>} containing the {@code File} where the mapped preferences are
+     * stored.
+     */
+    public static Result<File> saveSharedPreferences(@NonNull SharedPreferences sharedPreferences,
+                                                     @NonNull Path destinationPath) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateSaveSharedPreferences(sharedPreferences, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            if (createPath(destinationPath)) {
+                result = MemoryUtil.saveSharedPreferences(sharedPreferences, destinationPath.getPath());
+            } else {
+                result = Result.createNoExceptionResult(FAILED,
+                        StringUtil.format(SAVE_SHARED_PREFERENCES, destinationPath.getPath()));
+            }
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Saves every preference in the {@code SharedPreferences} object received to a file as a
+     * {@code Map<String, ?}. You must make sure that you have created every intermediate folder in
+     * the path or else the saving will fail.
+     *
+     * @param sharedPreferences Object containing the preferences to be saved.
+     * @param destinationPath   Path to the file were the preferences will be saved. Don't assign an
+     *                          extension to the file parameter.
+     * @return A{@code Result<File>} containing the {@code File} where the mapped preferences are
+     * stored.
+     */
+    public static Result<File> saveSharedPreferences(@NonNull SharedPreferences sharedPreferences,
+                                                     @NonNull String destinationPath) {
+
+        Result<File> result;
 
         ValidationInfoInterface info = Validator.validateSaveSharedPreferences(sharedPreferences, destinationPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            result = MemoryUtil.saveObject(sharedPreferences.getAll(), destinationPath);
+            result = MemoryUtil.saveObject(sharedPreferences.getAll(), destinationPath);
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Retrieves a {@code Map<String, Object>} object with mapped shared preferences stored
+     * previously in a file. Use this method if you want to retrieve the preferences and store them
+     * your own way.
+     *
+     * @param originPath Path to the file were the preferences were saved.
+     * @return A {@code Result<Map<String, Object>>} containing the mapped shared preferences.
+     */
+    public static Result<Map<String, Object>> loadSharedPreferences(@NonNull Path originPath) {
+
+        Result<Map<String, Object>> result;
+
+        ValidationInfoInterface info = Validator.validateLoadSharedPreferences(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = loadSharedPreferences(originPath.getPath());
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Retrieves a {@code Map<String, Object>} object with mapped shared preferences stored
+     * previously in a file. Use this method if you want to retrieve the preferences and store them
+     * your own way.
+     *
+     * @param originPath Path to the file were the preferences were saved.
+     * @return A {@code Result<Map<String, Object>>} containing the mapped shared preferences.
+     */
+    @SuppressWarnings("unchecked")
+    public static Result<Map<String, Object>> loadSharedPreferences(@NonNull String originPath) {
+
+        Result<Map<String, Object>> result;
+
+        ValidationInfoInterface info = Validator.validateLoadSharedPreferences(originPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = MemoryUtil.loadObject(originPath, Map.class);
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Retrieves a {@code Map<String, Object>} object with mapped shared preferences stored
+     * previously in a file and loads them in {@code sharedPreferences} .
+     *
+     * @param originPath        {@code Path} object pointing to the file were the preferences were saved.
+     * @param sharedPreferences The {@code SharedPreferences} object where the preferences will be
+     *                          restored to.
+     * @return A {@code Result<SharedPreferences>} containing preferences retrieved.
+     */
+    public static Result<SharedPreferences> loadSharedPreferences(@NonNull Path originPath,
+                                                                  @NonNull SharedPreferences sharedPreferences) {
+
+        Result<SharedPreferences> result;
+
+        ValidationInfoInterface info = Validator.validateLoadSharedPreferences(originPath, sharedPreferences);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            result = loadSharedPreferences(originPath.getPath(), sharedPreferences);
+        }
+
+        return result;
+    }
+
+    // INCLUDED
+
+    /**
+     * Retrieves a {@code Map<String, Object>} object with mapped shared preferences stored
+     * previously in a file and loads them in the given {@code sharedPreferences}.
+     *
+     * @param originPath        Path to the file were the preferences were saved.
+     * @param sharedPreferences The {@code SharedPreferences} object where the preferences will be
+     *                          restored to.
+     * @return A {@code Result<SharedPreferences>} containing the preferences retrieved or else
+     * null.
+     */
+    @SuppressWarnings("unchecked")
+    public static Result<SharedPreferences> loadSharedPreferences(@NonNull String originPath,
+                                                                  @NonNull SharedPreferences sharedPreferences) {
+
+        Result<SharedPreferences> result;
+
+        ValidationInfoInterface info = Validator.validateLoadSharedPreferences(originPath,
+                sharedPreferences);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            // Loads the preferences
+            Result<Map<String, Object>> loadPreferencesResult = loadSharedPreferences(originPath);
+            String preferencesSummary;
+
+            if (!loadPreferencesResult.isSuccessful()) {
+                result = Result.createNoExceptionResult(SHARED_PREFERENCES_NOT_RESTORED, originPath);
+            } else {
+                SharedPreferences.Editor editor = sharedPreferences.edit();
+                Map<String, ?> mappedPreferences = loadPreferencesResult.getResult();
+
+                String loadedPreferences = "Retrieved preferences:\n";
+                String unparseablePreferences = "Unparseable preferences:\n";
+                int unparsedPreferences = 0;
+
+                // Loads the preferences retrieved in the SharedPreferences object.
+                for (Map.Entry<String, ?> singlePreference : mappedPreferences.entrySet()) {
+
+                    String preferenceKey = singlePreference.getKey();
+                    Object preferenceValue = singlePreference.getValue();
+                    boolean parseable = true;
+
+                    if (preferenceValue instanceof Boolean) {
+                        editor.putBoolean(preferenceKey, ((Boolean) preferenceValue));
+                    } else if (preferenceValue instanceof Float) {
+                        editor.putFloat(preferenceKey, ((Float) preferenceValue));
+                    } else if (preferenceValue instanceof Integer) {
+                        editor.putInt(preferenceKey, ((Integer) preferenceValue));
+                    } else if (preferenceValue instanceof Long) {
+                        editor.putLong(preferenceKey, ((Long) preferenceValue));
+                    } else if (preferenceValue instanceof String) {
+                        editor.putString(preferenceKey, ((String) preferenceValue));
+                    } else if (preferenceValue instanceof Set) {
+                        editor.putStringSet(preferenceKey, ((Set<String>) preferenceValue));
+                    } else {
+                        parseable = false;
+                        unparsedPreferences++;
+                    }
+
+                    // Adds a line indicating if the preference could be restored or not
+                    if (!parseable) {
+                        unparseablePreferences += preferenceKey + "\n";
+                    } else {
+                        loadedPreferences += preferenceKey + ": " + String.valueOf(preferenceValue) + "\n";
+                    }
+                }
+
+                // Creates the preferences report.
+                preferencesSummary = loadedPreferences;
+                if (unparsedPreferences > 0) {
+                    preferencesSummary += unparseablePreferences;
+                }
+
+                // Creates the result to be returned
+                if (unparsedPreferences == mappedPreferences.size()) {
+                    result = Result.createNoExceptionResult(NO_PREFERENCES_RESTORED, originPath);
+                } else {
+                    editor.apply();
+                    result = Result.createSuccessfulResult(sharedPreferences,
+                            unparsedPreferences == 0 ?
+                                    ALL_PREFERENCES_RESTORED : PREFERENCES_PARTIALLY_RESTORED,
+                            originPath, preferencesSummary);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // INCLUDED
+
+    /**
+     * Checks whether a file exists or not. Throws a {@code RuntimeException} if {@code pathToFile}
+     * is {@code null}.
+     *
+     * @param pathToFile {@code Path} to the file to be checked.
+     * @return {@code true} if the file exists or else {@code false}. Throws a
+     * {@code RuntimeException} if {@code pathToFile} is {@code null}.
+     */
+    public static boolean exists(@NonNull Path pathToFile) {
+
+        boolean exists;
+        ValidationInfoInterface info = Validator.validateExists(pathToFile);
+        if (!info.isValid()) {
+            reportInvalidParameter(info);
+            exists = false;
+        } else {
+            exists = exists(new File(pathToFile.getPath()));
+        }
+
+        return exists;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Checks whether a file exists or not. Throws an exception if {@code pathToFile} is null or empty.
+     *
+     * @param pathToFile Path to the file to be checked.
+     * @return {@code true} if the file exists or else {@code false}.
+     */
+    public static boolean exists(@NonNull String pathToFile) {
+
+        boolean exists;
+
+        ValidationInfoInterface info = Validator.validateExists(pathToFile);
+        if (!info.isValid()) {
+            reportInvalidParameter(info);
+            exists = false;
+        } else {
+            exists = exists(new File(pathToFile));
+        }
+
+        return exists;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Checks whether a file exists or not. Throws an exception if {@code file} is null or empty.
+     *
+     * @param file File to be checked.
+     * @return {@code true} if {@code file} exists or else {@code false}.
+     */
+    public static boolean exists(@NonNull File file) {
+
+        boolean exists;
+        ValidationInfoInterface info = Validator.validateExists(file);
+        if (!info.isValid()) {
+            reportInvalidParameter(info);
+            exists = false;
+        } else {
+            exists = file.exists();
+            if (exists) {
+                log(StringUtil.format(FILE_EXISTS, file.getPath()), true);
+            } else {
+                log(StringUtil.format(STATEMENT_FILE_DOESNT_EXISTS, file.getPath()), false);
+            }
+        }
+
+        return exists;
+    }
+
+
+    /**
+     * Checks whether {@code file} can be created. This is doesn't exists and the folder that
+     * will contain it does or if it does exist and it's not a folder. This method is used when you
+     * want to check if something can be saved to that place.
+     *
+     * @param path      Path to the file to be checked.
+     * @param isFolder  Pass true if the path refers to a folder
+     * @param parameter The paramater type that you are passing. Must be one of
+     *                  {@link melerospaw.memoryutil.InvalidParameterException.InvalidParameter}.
+     * @return {@code true} if the file exists or else {@code false}.
+     */
+    public static Result<ValidForSavingInfoInterface> isValidForSaving(
+            @NonNull String path, boolean isFolder,
+            @InvalidParameterException.InvalidParameter String parameter) {
+
+        Result<ValidForSavingInfoInterface> result;
+
+        ValidationInfoInterface info = Validator.validateIsValidForSaving(path);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            ValidForSavingInfoInterface.Invalidity invalidity;
+            boolean isValid;
+            File file = new File(path);
+
+            // If the file exists
+            if (file.exists()) {
+                // It if should be a folder, verifies it's a folder
+                if (isFolder) {
+                    if (file.isDirectory()) {
+                        invalidity = ValidForSavingInfoInterface.Invalidity.NONE;
+                    } else {
+                        invalidity = ValidForSavingInfoInterface.Invalidity.NOT_A_DIRECTORY;
+                    }
+                    // If it should be a file, verifies it's a file
+                } else {
+                    if (!file.isDirectory()) {
+                        invalidity = ValidForSavingInfoInterface.Invalidity.NONE;
+                    } else {
+                        invalidity = ValidForSavingInfoInterface.Invalidity.IS_A_DIRECTORY;
+                    }
+                }
+                // If the file doesn't exists, verifies that the folder that's going to contain it exists
+            } else {
+                File containerFolder = new File(getContainerFolder(file.getPath()));
+                if (containerFolder.exists()) {
+                    invalidity = ValidForSavingInfoInterface.Invalidity.NONE;
+                } else {
+                    invalidity = ValidForSavingInfoInterface.Invalidity.CONTAINER_FOLDER_DOESNT_EXIST;
+                }
+            }
+
+            isValid = invalidity == ValidForSavingInfoInterface.Invalidity.NONE;
+            ValidForSavingInfoInterface validInfo = new ValidForSavingInfo(parameter, isValid,
+                    invalidity);
+            result = Result.createSuccessfulResult(validInfo, IS_VALID_FOR_SAVING, path);
+        }
+
+        return result;
+    }
+
+
+    // INCLUDED
+
+    /**
+     * Duplicates a file. Creates the destination folders for you.
+     *
+     * @param originPath      Path to file to be copied.
+     * @param destinationPath Path where the file will be copied to.
+     * @return A {@code Result} containing the duplicated {@code File} or null if duplication was
+     * not possible.
+     */
+    public static Result<File> duplicateFile(@NonNull Path originPath,
+                                             @NonNull Path destinationPath) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateDuplicateFile(originPath, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = duplicateFile(originPath.getPath(), destinationPath.getPath());
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(DUPLICATE_FILE, originPath.getPath()));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Duplicates a file reporting the progress to {@code handle}. Creates the destination folders
+     * for you.
+     *
+     * @param originPath      Path to file to be copied.
+     * @param destinationPath Path where the file will be copied to.
+     * @param handle          Handle to follow and cancel the copy. Pass {@code null} if you don't
+     *                        need it.
+     * @return A {@code Result} containing the duplicated {@code File} or null if duplication was
+     * not possible.
+     */
+    public static Result<File> duplicateFile(@NonNull Path originPath,
+                                             @NonNull Path destinationPath,
+                                             @Nullable CopyHandle handle) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateDuplicateFile(originPath, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationPath)) {
+            result = duplicateFile(originPath.getPath(), destinationPath.getPath(), handle);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(DUPLICATE_FILE, originPath.getPath()));
         }
 
         return result;
@@ -930,164 +3179,257 @@ public class MemoryUtil {
     // INCLUDED
 
     /**
-     * Retrieves a {@code Map<String, Object>} object with mapped shared preferences stored
-     * previously in a file. Use this method if you want to retrieve the preferences and store them
-     * your own way.
+     * Duplicates a file. The destination folders must exist or else copy will fail. The content
+     * is transferred between {@code FileChannel}s, so it never goes through the Java heap.
      *
-     * @param originPath Path to the file were the preferences were saved.
-     * @return A {@code Result<Map<String, Object>>} containing the mapped shared preferences.
+     * @param originPath      Path to file to be copied.
+     * @param destinationPath Path where the file will be copied to.
+     * @return A {@code Result} containing the duplicated {@code File} or null if duplication was
+     * not possible.
      */
-    public static Result<Map<String, Object>> loadSharedPreferences(@NonNull Path originPath) {
+    public static Result<File> duplicateFile(@NonNull String originPath,
+                                             @NonNull String destinationPath) {
+        return duplicateFile(originPath, destinationPath, null);
+    }
 
-        Result<Map<String, Object>> result;
 
-        ValidationInfoInterface info = Validator.validateLoadSharedPreferences(originPath);
+    /**
+     * Duplicates a file reporting the progress to {@code handle}. The destination folders must
+     * exist or else copy will fail. If {@code handle} is cancelled, the partial copy is deleted
+     * and an unsuccessful {@code Result} is returned.
+     *
+     * @param originPath      Path to file to be copied.
+     * @param destinationPath Path where the file will be copied to.
+     * @param handle          Handle to follow and cancel the copy. Pass {@code null} if you don't
+     *                        need it.
+     * @return A {@code Result} containing the duplicated {@code File} or null if duplication was
+     * not possible.
+     */
+    public static Result<File> duplicateFile(@NonNull String originPath,
+                                             @NonNull String destinationPath,
+                                             @Nullable CopyHandle handle) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateDuplicateFile(originPath, destinationPath);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            result = loadSharedPreferences(originPath.getPath());
+            try {
+                FileInputStream streamToOriginFile = new FileInputStream(new File(originPath));
+                result = copyFromInputStream(originPath, streamToOriginFile, destinationPath,
+                        handle);
+            } catch (FileNotFoundException e) {
+                result = Result.createUnsuccessfulResult(DESTINATION_FILE_NOT_FOUND, e,
+                        StringUtil.format(DUPLICATE_FILE, originPath), destinationPath);
+            }
         }
 
         return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Retrieves a {@code Map<String, Object>} object with mapped shared preferences stored
-     * previously in a file. Use this method if you want to retrieve the preferences and store them
-     * your own way.
+     * Duplicates a folder and all its content. Intermediate folders will created for you.
      *
-     * @param originPath Path to the file were the preferences were saved.
-     * @return A {@code Result<Map<String, Object>>} containing the mapped shared preferences.
+     * @param originFolder      Folder to be copied.
+     * @param destinationFolder The resulting folder. It isn't the folder that will contain the
+     *                          {@code originFolder} copy, but the originFolder copy itself.
+     * @return A {@code Result} containing the resulting destination {@code File}.
      */
-    @SuppressWarnings("unchecked")
-    public static Result<Map<String, Object>> loadSharedPreferences(@NonNull String originPath) {
+    public static Result<File> duplicateFolder(@NonNull Path originFolder,
+                                               @NonNull Path destinationFolder) {
 
-        Result<Map<String, Object>> result;
+        Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateLoadSharedPreferences(originPath);
+        ValidationInfoInterface info = Validator.validateDuplicateFolder(originFolder,
+                destinationFolder);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
+        } else if (createPath(destinationFolder)){
+            result = MemoryUtil.duplicateFolder(originFolder.getPath(), destinationFolder.getPath());
         } else {
-            result = MemoryUtil.loadObject(originPath, Map.class);
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(DUPLICATE_FOLDER, originFolder.getPath()));
         }
 
         return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Retrieves a {@code Map<String, Object>} object with mapped shared preferences stored
-     * previously in a file and loads them in {@code sharedPreferences} .
+     * Duplicates a folder and all its content.
      *
-     * @param originPath        {@code Path} object pointing to the file were the preferences were saved.
-     * @param sharedPreferences The {@code SharedPreferences} object where the preferences will be
-     *                          restored to.
-     * @return A {@code Result<SharedPreferences>} containing preferences retrieved.
+     * @param originFolder      Folder to be copied.
+     * @param destinationFolder The resulting folder. It isn't the folder that will contain the
+     *                          {@code originFolder} copy, but the originFolder copy itself. You
+     *                          must make sure that intermediate folders exist or else this method
+     *                          will fail.
+     * @return A {@code Result} containing the resulting destination {@code File}.
      */
-    public static Result<SharedPreferences> loadSharedPreferences(@NonNull Path originPath,
-                                                                  @NonNull SharedPreferences sharedPreferences) {
+    public static Result<File> duplicateFolder(@NonNull File originFolder,
+                                               @NonNull File destinationFolder) {
 
-        Result<SharedPreferences> result;
+        Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateLoadSharedPreferences(originPath, sharedPreferences);
+        ValidationInfoInterface info = Validator.validateDuplicateFolder(originFolder,
+                destinationFolder);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            result = loadSharedPreferences(originPath.getPath(), sharedPreferences);
+            result = MemoryUtil.duplicateFolder(originFolder.getPath(), destinationFolder.getPath());
         }
 
         return result;
     }
 
-    // INCLUDED
 
     /**
-     * Retrieves a {@code Map<String, Object>} object with mapped shared preferences stored
-     * previously in a file and loads them in the given {@code sharedPreferences}.
+     * Duplicates a folder and all its content.
      *
-     * @param originPath        Path to the file were the preferences were saved.
-     * @param sharedPreferences The {@code SharedPreferences} object where the preferences will be
-     *                          restored to.
-     * @return A {@code Result<SharedPreferences>} containing the preferences retrieved or else
-     * null.
+     * @param originFolder      Folder to be copied.
+     * @param destinationFolder The resulting folder. It isn't the folder that will contain the
+     *                          {@code originFolder} copy, but the originFolder copy itself. You
+     *                          must make sure that intermediate folders exist or else this method
+     *                          will fail.
+     * @return A {@code Result} containing the resulting destination {@code File}.
      */
-    @SuppressWarnings("unchecked")
-    public static Result<SharedPreferences> loadSharedPreferences(@NonNull String originPath,
-                                                                  @NonNull SharedPreferences sharedPreferences) {
+    public static Result<File> duplicateFolder(String originFolder, String destinationFolder) {
 
-        Result<SharedPreferences> result;
+        Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateLoadSharedPreferences(originPath,
-                sharedPreferences);
+        ValidationInfoInterface info = Validator.validateDuplicateFolder(originFolder,
+                destinationFolder);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            // Loads the preferences
-            Result<Map<String, Object>> loadPreferencesResult = loadSharedPreferences(originPath);
-            String preferencesSummary;
-
-            if (!loadPreferencesResult.isSuccessful()) {
-                result = Result.createNoExceptionResult(SHARED_PREFERENCES_NOT_RESTORED, originPath);
-            } else {
-                SharedPreferences.Editor editor = sharedPreferences.edit();
-                Map<String, ?> mappedPreferences = loadPreferencesResult.getResult();
 
-                String loadedPreferences = "Retrieved preferences:\n";
-                String unparseablePreferences = "Unparseable preferences:\n";
-                int unparsedPreferences = 0;
+            File originFile = new File(originFolder);
+            File destinationFile = new File(destinationFolder);
+            File[] originFiles;
 
-                // Loads the preferences retrieved in the SharedPreferences object.
-                for (Map.Entry<String, ?> singlePreference : mappedPreferences.entrySet()) {
+            destinationFile.mkdir();
+            if (!destinationFile.exists()) {
+                result = Result.createNoExceptionResult(CANNOT_CREATE_DESTIONATION_FOLDER,
+                        StringUtil.format(DUPLICATE_FOLDER, originFolder), destinationFolder);
+            } else if ((originFiles = originFile.listFiles()) == null || originFiles.length == 0) {
+                result = Result.createSuccessfulResult(destinationFile, FOLDER_DUPLICATED,
+                        originFolder, destinationFolder);
+            } else {
 
-                    String preferenceKey = singlePreference.getKey();
-                    Object preferenceValue = singlePreference.getValue();
-                    boolean parseable = true;
+                boolean fileCopied;
+                String currentFilePath;
+                int i = 0;
 
-                    if (preferenceValue instanceof Boolean) {
-                        editor.putBoolean(preferenceKey, ((Boolean) preferenceValue));
-                    } else if (preferenceValue instanceof Float) {
-                        editor.putFloat(preferenceKey, ((Float) preferenceValue));
-                    } else if (preferenceValue instanceof Integer) {
-                        editor.putInt(preferenceKey, ((Integer) preferenceValue));
-                    } else if (preferenceValue instanceof Long) {
-                        editor.putLong(preferenceKey, ((Long) preferenceValue));
-                    } else if (preferenceValue instanceof String) {
-                        editor.putString(preferenceKey, ((String) preferenceValue));
-                    } else if (preferenceValue instanceof Set) {
-                        editor.putStringSet(preferenceKey, ((Set<String>) preferenceValue));
+                do {
+                    File file = originFiles[i];
+                    currentFilePath = file.getPath();
+                    File newDestinationFile = new File(destinationFile.getPath()
+                            + File.separator + file.getName());
+                    if (file.isDirectory()) {
+                        fileCopied = duplicateFolder(file.getPath(), newDestinationFile.getPath()).isSuccessful();
                     } else {
-                        parseable = false;
-                        unparsedPreferences++;
+                        fileCopied = MemoryUtil.duplicateFile(file.getPath(),
+                                newDestinationFile.getPath()).isSuccessful();
                     }
 
-                    // Adds a line indicating if the preference could be restored or not
-                    if (!parseable) {
-                        unparseablePreferences += preferenceKey + "\n";
-                    } else {
-                        loadedPreferences += preferenceKey + ": " + String.valueOf(preferenceValue) + "\n";
-                    }
-                }
+                    i++;
 
-                // Creates the preferences report.
-                preferencesSummary = loadedPreferences;
-                if (unparsedPreferences > 0) {
-                    preferencesSummary += unparseablePreferences;
+                } while (fileCopied && i < originFiles.length);
+
+                if (fileCopied) {
+                    result = Result.createSuccessfulResult(destinationFile, FOLDER_DUPLICATED,
+                            originFolder, destinationFolder);
+                } else {
+                    result = Result.createNoExceptionResult(CANNOT_DUPLICATE_FILE,
+                            StringUtil.format(DUPLICATE_FOLDER, originFolder),
+                            currentFilePath);
                 }
+            }
+        }
 
-                // Creates the result to be returned
-                if (unparsedPreferences == mappedPreferences.size()) {
-                    result = Result.createNoExceptionResult(NO_PREFERENCES_RESTORED, originPath);
+        return result;
+    }
+
+
+    /**
+     * Duplicates a folder and all its content copying up to {@code concurrency} files at the same
+     * time. Use it for folders containing lots of files, whose copy time is dominated by the
+     * latency of every single file rather than by the amount of bytes. Intermediate folders will
+     * be created for you.
+     *
+     * @param originFolder      Folder to be copied.
+     * @param destinationFolder The resulting folder. It isn't the folder that will contain the
+     *                          {@code originFolder} copy, but the originFolder copy itself.
+     * @param concurrency       Maximum amount of files copied at the same time. Must be greater
+     *                          than 0.
+     * @return A {@code Result} containing the resulting destination {@code File}.
+     */
+    public static Result<File> duplicateFolder(@NonNull Path originFolder,
+                                               @NonNull Path destinationFolder, int concurrency) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateDuplicateFolder(originFolder,
+                destinationFolder, concurrency);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else if (createPath(destinationFolder)) {
+            result = MemoryUtil.duplicateFolder(originFolder.getPath(),
+                    destinationFolder.getPath(), concurrency);
+        } else {
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(DUPLICATE_FOLDER, originFolder.getPath()));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Duplicates a folder and all its content copying up to {@code concurrency} files at the same
+     * time. The folder tree is walked listing every folder only once. If a file cannot be copied,
+     * no more copies are started and the {@code Result} reports the file that failed.
+     *
+     * @param originFolder      Folder to be copied.
+     * @param destinationFolder The resulting folder. It isn't the folder that will contain the
+     *                          {@code originFolder} copy, but the originFolder copy itself. You
+     *                          must make sure that intermediate folders exist or else this method
+     *                          will fail.
+     * @param concurrency       Maximum amount of files copied at the same time. Must be greater
+     *                          than 0.
+     * @return A {@code Result} containing the resulting destination {@code File}.
+     */
+    public static Result<File> duplicateFolder(@NonNull String originFolder,
+                                               @NonNull String destinationFolder,
+                                               int concurrency) {
+
+        Result<File> result;
+
+        ValidationInfoInterface info = Validator.validateDuplicateFolder(originFolder,
+                destinationFolder, concurrency);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+
+            File destinationFile = new File(destinationFolder);
+
+            destinationFile.mkdir();
+            if (!destinationFile.exists()) {
+                result = Result.createNoExceptionResult(CANNOT_CREATE_DESTIONATION_FOLDER,
+                        StringUtil.format(DUPLICATE_FOLDER, originFolder), destinationFolder);
+            } else {
+                FolderDuplicator duplicator = new FolderDuplicator(new File(originFolder),
+                        destinationFile, concurrency);
+
+                if (duplicator.duplicate()) {
+                    result = Result.createSuccessfulResult(destinationFile,
+                            FOLDER_DUPLICATED_IN_PARALLEL, originFolder, destinationFolder,
+                            String.valueOf(duplicator.getFilesCopied()));
                 } else {
-                    editor.apply();
-                    result = Result.createSuccessfulResult(sharedPreferences,
-                            unparsedPreferences == 0 ?
-                                    ALL_PREFERENCES_RESTORED : PREFERENCES_PARTIALLY_RESTORED,
-                            originPath, preferencesSummary);
+                    result = Result.createNoExceptionResult(CANNOT_DUPLICATE_FILE,
+                            StringUtil.format(DUPLICATE_FOLDER, originFolder),
+                            duplicator.getFailedPath());
                 }
             }
         }
@@ -1095,200 +3437,183 @@ public class MemoryUtil {
         return result;
     }
 
-    // INCLUDED
 
     /**
-     * Checks whether a file exists or not. Throws a {@code RuntimeException} if {@code pathToFile}
-     * is {@code null}.
+     * Searches the files of a folder tree for lines containing {@code text}. See
+     * {@link #searchFolder(String, FilenameFilter, Pattern, int, SearchCallback)}.
      *
-     * @param pathToFile {@code Path} to the file to be checked.
-     * @return {@code true} if the file exists or else {@code false}. Throws a
-     * {@code RuntimeException} if {@code pathToFile} is {@code null}.
+     * @param rootFolder  Folder to be searched.
+     * @param filter      Filter choosing which files are searched by name, or {@code null} to
+     *                    search all of them.
+     * @param text        Literal text the lines must contain.
+     * @param concurrency Maximum amount of files read at the same time. Must be greater than 0.
+     * @param callback    Object receiving the matching lines as they are found.
+     * @return A {@code Result<Long>} containing the amount of matching lines found.
      */
-    public static boolean exists(@NonNull Path pathToFile) {
+    public static Result<Long> searchFolder(@NonNull Path rootFolder,
+                                            @Nullable FilenameFilter filter,
+                                            @NonNull String text, int concurrency,
+                                            @NonNull SearchCallback callback) {
 
-        boolean exists;
-        ValidationInfoInterface info = Validator.validateExists(pathToFile);
+        Result<Long> result;
+
+        ValidationInfoInterface info = Validator.validateSearchFolder(rootFolder, text,
+                concurrency, callback);
         if (!info.isValid()) {
-            reportInvalidParameter(info);
-            exists = false;
+            result = reportInvalidParameter(info);
         } else {
-            exists = exists(new File(pathToFile.getPath()));
+            result = searchFolder(rootFolder.getPath(), filter, text, concurrency, callback);
         }
 
-        return exists;
+        return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Checks whether a file exists or not. Throws an exception if {@code pathToFile} is null or empty.
+     * Searches the files of a folder tree for lines containing a match of {@code pattern}. See
+     * {@link #searchFolder(String, FilenameFilter, Pattern, int, SearchCallback)}.
      *
-     * @param pathToFile Path to the file to be checked.
-     * @return {@code true} if the file exists or else {@code false}.
+     * @param rootFolder  Folder to be searched.
+     * @param filter      Filter choosing which files are searched by name, or {@code null} to
+     *                    search all of them.
+     * @param pattern     Regular expression the lines must contain a match of.
+     * @param concurrency Maximum amount of files read at the same time. Must be greater than 0.
+     * @param callback    Object receiving the matching lines as they are found.
+     * @return A {@code Result<Long>} containing the amount of matching lines found.
      */
-    public static boolean exists(@NonNull String pathToFile) {
+    public static Result<Long> searchFolder(@NonNull Path rootFolder,
+                                            @Nullable FilenameFilter filter,
+                                            @NonNull Pattern pattern, int concurrency,
+                                            @NonNull SearchCallback callback) {
 
-        boolean exists;
+        Result<Long> result;
 
-        ValidationInfoInterface info = Validator.validateExists(pathToFile);
+        ValidationInfoInterface info = Validator.validateSearchFolder(rootFolder, pattern,
+                concurrency, callback);
         if (!info.isValid()) {
-            reportInvalidParameter(info);
-            exists = false;
+            result = reportInvalidParameter(info);
         } else {
-            exists = exists(new File(pathToFile));
+            result = searchFolder(rootFolder.getPath(), filter, pattern, concurrency, callback);
         }
 
-        return exists;
+        return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Checks whether a file exists or not. Throws an exception if {@code file} is null or empty.
+     * Searches the files of a folder tree for lines containing {@code text}, which is looked for
+     * as is, faster than a regular expression. See
+     * {@link #searchFolder(String, FilenameFilter, Pattern, int, SearchCallback)}.
      *
-     * @param file File to be checked.
-     * @return {@code true} if {@code file} exists or else {@code false}.
+     * @param rootFolder  Folder to be searched.
+     * @param filter      Filter choosing which files are searched by name, or {@code null} to
+     *                    search all of them.
+     * @param text        Literal text the lines must contain.
+     * @param concurrency Maximum amount of files read at the same time. Must be greater than 0.
+     * @param callback    Object receiving the matching lines as they are found.
+     * @return A {@code Result<Long>} containing the amount of matching lines found.
      */
-    public static boolean exists(@NonNull File file) {
+    public static Result<Long> searchFolder(@NonNull String rootFolder,
+                                            @Nullable FilenameFilter filter,
+                                            @NonNull String text, int concurrency,
+                                            @NonNull SearchCallback callback) {
 
-        boolean exists;
-        ValidationInfoInterface info = Validator.validateExists(file);
+        Result<Long> result;
+
+        ValidationInfoInterface info = Validator.validateSearchFolder(rootFolder, text,
+                concurrency, callback);
         if (!info.isValid()) {
-            reportInvalidParameter(info);
-            exists = false;
+            result = reportInvalidParameter(info);
         } else {
-            exists = file.exists();
-            if (exists) {
-                log(StringUtil.format(FILE_EXISTS, file.getPath()), true);
-            } else {
-                log(StringUtil.format(STATEMENT_FILE_DOESNT_EXISTS, file.getPath()), false);
-            }
+            result = searchFolder(new FolderSearcher(new File(rootFolder), filter, text, null,
+                    concurrency, callback), rootFolder);
         }
 
-        return exists;
+        return result;
     }
 
 
     /**
-     * Checks whether {@code file} can be created. This is doesn't exists and the folder that
-     * will contain it does or if it does exist and it's not a folder. This method is used when you
-     * want to check if something can be saved to that place.
+     * Searches the text files of a folder tree for lines containing a match of
+     * {@code pattern}, reading up to {@code concurrency} files at the same time. The folder tree
+     * is walked listing every folder only once, and files are read line by line, so big files
+     * are never loaded whole. Every matching line is handed to {@code callback} as soon as it's
+     * found, and the search stops when the callback returns {@code false}. If a file cannot be
+     * read, no more files are searched and the {@code Result} reports the file that failed.
      *
-     * @param path      Path to the file to be checked.
-     * @param isFolder  Pass true if the path refers to a folder
-     * @param parameter The paramater type that you are passing. Must be one of
-     *                  {@link melerospaw.memoryutil.InvalidParameterException.InvalidParameter}.
-     * @return {@code true} if the file exists or else {@code false}.
+     * @param rootFolder  Folder to be searched.
+     * @param filter      Filter choosing which files are searched by name, or {@code null} to
+     *                    search all of them.
+     * @param pattern     Regular expression the lines must contain a match of.
+     * @param concurrency Maximum amount of files read at the same time. Must be greater than 0.
+     * @param callback    Object receiving the matching lines as they are found.
+     * @return A {@code Result<Long>} containing the amount of matching lines found.
      */
-    public static Result<ValidForSavingInfoInterface> isValidForSaving(
-            @NonNull String path, boolean isFolder,
-            @InvalidParameterException.InvalidParameter String parameter) {
+    public static Result<Long> searchFolder(@NonNull String rootFolder,
+                                            @Nullable FilenameFilter filter,
+                                            @NonNull Pattern pattern, int concurrency,
+                                            @NonNull SearchCallback callback) {
 
-        Result<ValidForSavingInfoInterface> result;
+        Result<Long> result;
 
-        ValidationInfoInterface info = Validator.validateIsValidForSaving(path);
+        ValidationInfoInterface info = Validator.validateSearchFolder(rootFolder, pattern,
+                concurrency, callback);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
-            ValidForSavingInfoInterface.Invalidity invalidity;
-            boolean isValid;
-            File file = new File(path);
-
-            // If the file exists
-            if (file.exists()) {
-                // It if should be a folder, verifies it's a folder
-                if (isFolder) {
-                    if (file.isDirectory()) {
-                        invalidity = ValidForSavingInfoInterface.Invalidity.NONE;
-                    } else {
-                        invalidity = ValidForSavingInfoInterface.Invalidity.NOT_A_DIRECTORY;
-                    }
-                    // If it should be a file, verifies it's a file
-                } else {
-                    if (!file.isDirectory()) {
-                        invalidity = ValidForSavingInfoInterface.Invalidity.NONE;
-                    } else {
-                        invalidity = ValidForSavingInfoInterface.Invalidity.IS_A_DIRECTORY;
-                    }
-                }
-                // If the file doesn't exists, verifies that the folder that's going to contain it exists
-            } else {
-                File containerFolder = new File(getContainerFolder(file.getPath()));
-                if (containerFolder.exists()) {
-                    invalidity = ValidForSavingInfoInterface.Invalidity.NONE;
-                } else {
-                    invalidity = ValidForSavingInfoInterface.Invalidity.CONTAINER_FOLDER_DOESNT_EXIST;
-                }
-            }
-
-            isValid = invalidity == ValidForSavingInfoInterface.Invalidity.NONE;
-            ValidForSavingInfoInterface validInfo = new ValidForSavingInfo(parameter, isValid,
-                    invalidity);
-            result = Result.createSuccessfulResult(validInfo, IS_VALID_FOR_SAVING, path);
+            result = searchFolder(new FolderSearcher(new File(rootFolder), filter, null, pattern,
+                    concurrency, callback), rootFolder);
         }
 
         return result;
     }
 
 
-    // INCLUDED
-
-    /**
-     * Duplicates a file. Creates the destination folders for you.
-     *
-     * @param originPath      Path to file to be copied.
-     * @param destinationPath Path where the file will be copied to.
-     * @return A {@code Result} containing the duplicated {@code File} or null if duplication was
-     * not possible.
-     */
-    public static Result<File> duplicateFile(@NonNull Path originPath,
-                                             @NonNull Path destinationPath) {
+    private static Result<Long> searchFolder(@NonNull FolderSearcher searcher,
+                                             @NonNull String rootFolder) {
 
-        Result<File> result;
+        Result<Long> result;
 
-        ValidationInfoInterface info = Validator.validateDuplicateFile(originPath, destinationPath);
-        if (!info.isValid()) {
-            result = reportInvalidParameter(info);
-        } else if (createPath(destinationPath)) {
-            result = duplicateFile(originPath.getPath(), destinationPath.getPath());
+        if (searcher.search()) {
+            result = Result.createSuccessfulResult(searcher.getMatches(), FOLDER_SEARCHED,
+                    String.valueOf(searcher.getMatches()),
+                    String.valueOf(searcher.getFilesSearched()), rootFolder);
         } else {
-            result = Result.createNoExceptionResult(FAILED,
-                    StringUtil.format(DUPLICATE_FILE, originPath.getPath()));
+            result = Result.createUnsuccessfulResult(CANNOT_SEARCH_FILE, searcher.getFailure(),
+                    StringUtil.format(SEARCH_FOLDER, rootFolder), searcher.getFailedPath());
         }
 
         return result;
     }
 
 
-    // INCLUDED
-
     /**
-     * Duplicates a file. The destination folders must exist or else copy will fail.
+     * Duplicates a folder and all its content reporting the progress to {@code handle}.
+     * Intermediate folders will be created for you.
      *
-     * @param originPath      Path to file to be copied.
-     * @param destinationPath Path where the file will be copied to.
-     * @return A {@code Result} containing the duplicated {@code File} or null if duplication was
-     * not possible.
+     * @param originFolder      Folder to be copied.
+     * @param destinationFolder The resulting folder. It isn't the folder that will contain the
+     *                          {@code originFolder} copy, but the originFolder copy itself.
+     * @param handle            Handle to follow and cancel the copy. Pass {@code null} if you
+     *                          don't need it.
+     * @return A {@code Result} containing the resulting destination {@code File}.
      */
-    public static Result<File> duplicateFile(@NonNull String originPath,
-                                             @NonNull String destinationPath) {
+    public static Result<File> duplicateFolder(@NonNull Path originFolder,
+                                               @NonNull Path destinationFolder,
+                                               @Nullable CopyHandle handle) {
 
         Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateDuplicateFile(originPath, destinationPath);
+        ValidationInfoInterface info = Validator.validateDuplicateFolder(originFolder,
+                destinationFolder);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
+        } else if (createPath(destinationFolder)) {
+            result = MemoryUtil.duplicateFolder(originFolder.getPath(),
+                    destinationFolder.getPath(), handle);
         } else {
-            try {
-                FileInputStream streamToOriginFile = new FileInputStream(new File(originPath));
-                result = copyFromInputStream(originPath, streamToOriginFile, destinationPath);
-            } catch (FileNotFoundException e) {
-                result = Result.createUnsuccessfulResult(DESTINATION_FILE_NOT_FOUND, e,
-                        StringUtil.format(DUPLICATE_FILE, originPath), destinationPath);
-            }
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(DUPLICATE_FOLDER, originFolder.getPath()));
         }
 
         return result;
@@ -1296,15 +3621,23 @@ public class MemoryUtil {
 
 
     /**
-     * Duplicates a folder and all its content. Intermediate folders will created for you.
+     * Duplicates a folder and all its content reporting the progress to {@code handle}. The
+     * folder tree is measured before copying anything so the progress reports the total amount
+     * of bytes to copy. If {@code handle} is cancelled, the file being copied is deleted and so
+     * is {@code destinationFolder} if this call created it.
      *
      * @param originFolder      Folder to be copied.
      * @param destinationFolder The resulting folder. It isn't the folder that will contain the
-     *                          {@code originFolder} copy, but the originFolder copy itself.
+     *                          {@code originFolder} copy, but the originFolder copy itself. You
+     *                          must make sure that intermediate folders exist or else this method
+     *                          will fail.
+     * @param handle            Handle to follow and cancel the copy. Pass {@code null} if you
+     *                          don't need it.
      * @return A {@code Result} containing the resulting destination {@code File}.
      */
-    public static Result<File> duplicateFolder(@NonNull Path originFolder,
-                                               @NonNull Path destinationFolder) {
+    public static Result<File> duplicateFolder(@NonNull String originFolder,
+                                               @NonNull String destinationFolder,
+                                               @Nullable CopyHandle handle) {
 
         Result<File> result;
 
@@ -1312,11 +3645,81 @@ public class MemoryUtil {
                 destinationFolder);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
-        } else if (createPath(destinationFolder)){
-            result = MemoryUtil.duplicateFolder(originFolder.getPath(), destinationFolder.getPath());
+        } else if (handle == null) {
+            result = duplicateFolder(originFolder, destinationFolder);
         } else {
-            result = Result.createNoExceptionResult(FAILED,
-                    StringUtil.format(DUPLICATE_FOLDER, originFolder.getPath()));
+
+            final File originFile = new File(originFolder);
+            final File destinationFile = new File(destinationFolder);
+            final CopyHandle copyHandle = handle;
+            final long[] totalBytes = new long[1];
+            final String[] failedPath = new String[1];
+            final boolean[] cancelled = new boolean[1];
+            boolean destinationCreated = destinationFile.mkdir();
+
+            if (!destinationFile.exists()) {
+                result = Result.createNoExceptionResult(CANNOT_CREATE_DESTIONATION_FOLDER,
+                        StringUtil.format(DUPLICATE_FOLDER, originFolder), destinationFolder);
+            } else {
+                FolderWalker.walk(originFile, new FolderWalker.Visitor() {
+                    @Override
+                    public boolean onFolder(@NonNull File folder, @NonNull String relativePath) {
+                        return true;
+                    }
+
+                    @Override
+                    public boolean onFile(@NonNull File file, @NonNull String relativePath) {
+                        totalBytes[0] += file.length();
+                        return true;
+                    }
+                });
+
+                handle.begin(totalBytes[0]);
+                boolean duplicated = FolderWalker.walk(originFile, new FolderWalker.Visitor() {
+                    @Override
+                    public boolean onFolder(@NonNull File folder, @NonNull String relativePath) {
+                        File newFolder = new File(destinationFile, relativePath);
+                        boolean created = newFolder.isDirectory() || newFolder.mkdir();
+                        if (!created) {
+                            failedPath[0] = folder.getPath();
+                        }
+                        return created;
+                    }
+
+                    @Override
+                    public boolean onFile(@NonNull File file, @NonNull String relativePath) {
+                        boolean copied;
+                        try {
+                            CopyEngine.copyFile(file, new File(destinationFile, relativePath),
+                                    copyHandle);
+                            copied = true;
+                        } catch (CopyCancelledException e) {
+                            cancelled[0] = true;
+                            copied = false;
+                        } catch (IOException e) {
+                            failedPath[0] = file.getPath();
+                            copied = false;
+                        }
+                        return copied;
+                    }
+                });
+
+                if (duplicated) {
+                    handle.finish();
+                    result = Result.createSuccessfulResult(destinationFile, FOLDER_DUPLICATED,
+                            originFolder, destinationFolder);
+                } else if (cancelled[0]) {
+                    if (destinationCreated) {
+                        deleteFile(destinationFile, true);
+                    }
+                    result = Result.createNoExceptionResult(COPY_CANCELLED, originFolder,
+                            destinationFolder);
+                } else {
+                    result = Result.createNoExceptionResult(CANNOT_DUPLICATE_FILE,
+                            StringUtil.format(DUPLICATE_FOLDER, originFolder),
+                            failedPath[0] != null ? failedPath[0] : originFolder);
+                }
+            }
         }
 
         return result;
@@ -1324,26 +3727,51 @@ public class MemoryUtil {
 
 
     /**
-     * Duplicates a folder and all its content.
+     * Makes {@code destinationFolder} a mirror of {@code originFolder} copying only the files
+     * whose size or modification time differ. Files in {@code destinationFolder} that don't exist
+     * in {@code originFolder} are kept. Intermediate folders will be created for you.
      *
-     * @param originFolder      Folder to be copied.
-     * @param destinationFolder The resulting folder. It isn't the folder that will contain the
-     *                          {@code originFolder} copy, but the originFolder copy itself. You
-     *                          must make sure that intermediate folders exist or else this method
-     *                          will fail.
+     * @param originFolder      Folder to be mirrored.
+     * @param destinationFolder The mirror. It isn't the folder that will contain the
+     *                          {@code originFolder} mirror, but the mirror itself.
      * @return A {@code Result} containing the resulting destination {@code File}.
      */
-    public static Result<File> duplicateFolder(@NonNull File originFolder,
-                                               @NonNull File destinationFolder) {
+    public static Result<File> mirrorFolder(@NonNull Path originFolder,
+                                            @NonNull Path destinationFolder) {
+        return mirrorFolder(originFolder, destinationFolder, false, false);
+    }
+
+
+    /**
+     * Makes {@code destinationFolder} a mirror of {@code originFolder} copying only the files
+     * that changed. Intermediate folders will be created for you.
+     *
+     * @param originFolder      Folder to be mirrored.
+     * @param destinationFolder The mirror. It isn't the folder that will contain the
+     *                          {@code originFolder} mirror, but the mirror itself.
+     * @param compareContent    If {@code true}, files with the same size are compared by their
+     *                          content instead of by their modification time. Slower, since both
+     *                          files have to be read, but it doesn't rely on modification times.
+     * @param deleteExtraneous  If {@code true}, files and folders in {@code destinationFolder}
+     *                          that don't exist in {@code originFolder} will be deleted.
+     * @return A {@code Result} containing the resulting destination {@code File}.
+     */
+    public static Result<File> mirrorFolder(@NonNull Path originFolder,
+                                            @NonNull Path destinationFolder,
+                                            boolean compareContent, boolean deleteExtraneous) {
 
         Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateDuplicateFolder(originFolder,
+        ValidationInfoInterface info = Validator.validateMirrorFolder(originFolder,
                 destinationFolder);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
+        } else if (createPath(destinationFolder)) {
+            result = MemoryUtil.mirrorFolder(originFolder.getPath(), destinationFolder.getPath(),
+                    compareContent, deleteExtraneous);
         } else {
-            result = MemoryUtil.duplicateFolder(originFolder.getPath(), destinationFolder.getPath());
+            result = Result.createNoExceptionResult(FAILED,
+                    StringUtil.format(MIRROR_FOLDER, originFolder.getPath()));
         }
 
         return result;
@@ -1351,64 +3779,68 @@ public class MemoryUtil {
 
 
     /**
-     * Duplicates a folder and all its content.
+     * Makes {@code destinationFolder} a mirror of {@code originFolder} copying only the files
+     * whose size or modification time differ. Files in {@code destinationFolder} that don't exist
+     * in {@code originFolder} are kept.
      *
-     * @param originFolder      Folder to be copied.
-     * @param destinationFolder The resulting folder. It isn't the folder that will contain the
-     *                          {@code originFolder} copy, but the originFolder copy itself. You
-     *                          must make sure that intermediate folders exist or else this method
-     *                          will fail.
+     * @param originFolder      Folder to be mirrored.
+     * @param destinationFolder The mirror. You must make sure that intermediate folders exist or
+     *                          else this method will fail.
      * @return A {@code Result} containing the resulting destination {@code File}.
      */
-    public static Result<File> duplicateFolder(String originFolder, String destinationFolder) {
+    public static Result<File> mirrorFolder(@NonNull String originFolder,
+                                            @NonNull String destinationFolder) {
+        return mirrorFolder(originFolder, destinationFolder, false, false);
+    }
+
+
+    /**
+     * Makes {@code destinationFolder} a mirror of {@code originFolder} copying only the files
+     * that changed. Copies get the modification time of their originals, so the next call only
+     * has to copy what changed in between.
+     *
+     * @param originFolder      Folder to be mirrored.
+     * @param destinationFolder The mirror. You must make sure that intermediate folders exist or
+     *                          else this method will fail.
+     * @param compareContent    If {@code true}, files with the same size are compared by their
+     *                          content instead of by their modification time. Slower, since both
+     *                          files have to be read, but it doesn't rely on modification times.
+     * @param deleteExtraneous  If {@code true}, files and folders in {@code destinationFolder}
+     *                          that don't exist in {@code originFolder} will be deleted.
+     * @return A {@code Result} containing the resulting destination {@code File}.
+     */
+    public static Result<File> mirrorFolder(@NonNull String originFolder,
+                                            @NonNull String destinationFolder,
+                                            boolean compareContent, boolean deleteExtraneous) {
 
         Result<File> result;
 
-        ValidationInfoInterface info = Validator.validateDuplicateFolder(originFolder,
+        ValidationInfoInterface info = Validator.validateMirrorFolder(originFolder,
                 destinationFolder);
         if (!info.isValid()) {
             result = reportInvalidParameter(info);
         } else {
 
-            File originFile = new File(originFolder);
             File destinationFile = new File(destinationFolder);
 
             destinationFile.mkdir();
             if (!destinationFile.exists()) {
                 result = Result.createNoExceptionResult(CANNOT_CREATE_DESTIONATION_FOLDER,
-                        StringUtil.format(DUPLICATE_FOLDER, originFolder), destinationFolder);
-            } else if (originFile.listFiles().length == 0) {
-                result = Result.createSuccessfulResult(destinationFile, FOLDER_DUPLICATED,
-                        originFolder, destinationFolder);
+                        StringUtil.format(MIRROR_FOLDER, originFolder), destinationFolder);
             } else {
-
-                boolean fileCopied;
-                String currentFilePath;
-                int i = 0;
-
-                do {
-                    File file = originFile.listFiles()[i];
-                    currentFilePath = file.getPath();
-                    File newDestinationFile = new File(destinationFile.getPath()
-                            + File.separator + file.getName());
-                    if (file.isDirectory()) {
-                        fileCopied = duplicateFolder(file.getPath(), newDestinationFile.getPath()).isSuccessful();
-                    } else {
-                        fileCopied = MemoryUtil.duplicateFile(file.getPath(),
-                                newDestinationFile.getPath()).isSuccessful();
-                    }
-
-                    i++;
-
-                } while (fileCopied && i < originFile.listFiles().length);
-
-                if (fileCopied) {
-                    result = Result.createSuccessfulResult(destinationFile, FOLDER_DUPLICATED,
-                            originFolder, destinationFolder);
+                FolderMirror mirror = new FolderMirror(new File(originFolder), destinationFile,
+                        compareContent, deleteExtraneous);
+
+                if (mirror.mirror()) {
+                    result = Result.createSuccessfulResult(destinationFile, FOLDER_MIRRORED,
+                            originFolder, destinationFolder,
+                            String.valueOf(mirror.getFilesCopied()),
+                            String.valueOf(mirror.getFilesUnchanged()),
+                            String.valueOf(mirror.getFilesDeleted()));
                 } else {
-                    result = Result.createNoExceptionResult(CANNOT_DUPLICATE_FILE,
-                            StringUtil.format(DUPLICATE_FOLDER, originFolder),
-                            currentFilePath);
+                    result = Result.createNoExceptionResult(CANNOT_MIRROR_FILE,
+                            StringUtil.format(MIRROR_FOLDER, originFolder),
+                            mirror.getFailedPath());
                 }
             }
         }
@@ -2048,6 +4480,43 @@ public class MemoryUtil {
     }
 
 
+    /**
+     * Sets the {@link WriteOptions} used by the save methods that receive no options, such as
+     * {@link #saveObject(Object, String)}, and by those receiving {@code null} options. This
+     * allows choosing a durability once for the whole app instead of in every call. They are
+     * {@link WriteOptions#DEFAULT} by default.
+     *
+     * @param options The options. Pass {@code null} to go back to {@link WriteOptions#DEFAULT}.
+     */
+    public static void setDefaultWriteOptions(@Nullable WriteOptions options) {
+        WriteSession.setDefaultOptions(options);
+    }
+
+
+    /**
+     * Sets the cache {@link #loadObject(String, Class)} serves objects from and
+     * {@link #saveObject(Object, String, WriteOptions)} writes through, so objects loaded
+     * repeatedly are deserialized only once. There is none by default.
+     *
+     * @param cache The cache. Pass {@code null} to stop caching.
+     */
+    public static void setObjectCache(@Nullable ObjectCache cache) {
+        ObjectCache.install(cache);
+    }
+
+
+    /**
+     * Returns the cache set with {@link #setObjectCache(ObjectCache)}, for instance to check its
+     * statistics.
+     *
+     * @return The cache or {@code null} if there is none.
+     */
+    @Nullable
+    public static ObjectCache getObjectCache() {
+        return ObjectCache.getInstalled();
+    }
+
+
     /**
      * This method uses {@link Logger#log} to log messages. Logs using this method will not be
      * shown if you disabled logging by calling {@link #setLoggingEnabled(boolean)} passing
@@ -0,0 +1,334 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded in-memory cache of the objects read by {@link MemoryUtil#loadObject(String, Class)},
+ * so objects loaded again and again, such as configuration, are deserialized only once. Install
+ * it with {@link MemoryUtil#setObjectCache(ObjectCache)}:
+ * <pre>{@code
+ * MemoryUtil.setObjectCache(new ObjectCache.Builder()
+ *         .maxEntries(32)
+ *         .maxWeight(512 * 1024)
+ *         .build());
+ * }</pre>
+ * <p>Objects are cached by the absolute path of their file together with its length and
+ * modification time, and are read from the file again once any of them changes. Objects saved
+ * with {@link MemoryUtil#saveObject(Object, String, WriteOptions)} replace the cached ones
+ * straight away, so loading never returns an object older than the last one saved. Files changed
+ * by other means are only detected if their length or modification time changes, and the latter
+ * may have a granularity of up to a few seconds.</p>
+ * <p>Every load of a cached file returns the same instance, which is also the instance saved
+ * last, so cached objects must not be modified. Once the cache holds more entries than allowed or
+ * the files of its objects weigh more than allowed, the least recently used ones are dropped.
+ * Instances are thread safe.</p>
+ */
+public class ObjectCache {
+
+    /** Default maximum amount of cached objects. */
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    /** Default maximum sum of the lengths of the files of the cached objects. */
+    public static final long DEFAULT_MAX_WEIGHT = 1024 * 1024;
+
+    /** Amount of locks the paths of the cached files are spread over, see {@link #getLock}. */
+    private static final int LOCK_STRIPES = 32;
+
+    private static final Object[] locks = createLocks();
+    private static volatile ObjectCache installed;
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, .75f, true);
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+
+    private ObjectCache(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.maxWeight = builder.maxWeight;
+    }
+
+
+    /**
+     * Returns the cache used by {@code loadObject()} and {@code saveObject()}.
+     *
+     * @return The cache or {@code null} if there is none.
+     */
+    @Nullable
+    static ObjectCache getInstalled() {
+        return installed;
+    }
+
+
+    private static Object[] createLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+
+    /**
+     * Returns the lock that {@code saveObject()} holds while it replaces {@code file} and caches
+     * the object written, so that the object cached last for a path is always the one of the file
+     * replaced last, even when the path is saved from several threads at the same time. Paths are
+     * spread over a few locks, so unrelated files rarely wait for each other.
+     */
+    @NonNull
+    static Object getLock(@NonNull File file) {
+        return locks[(file.getAbsolutePath().hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+    }
+
+
+    /**
+     * Sets the cache used by {@code loadObject()} and {@code saveObject()}.
+     *
+     * @param cache The cache. Pass {@code null} to stop caching.
+     */
+    static void install(@Nullable ObjectCache cache) {
+        installed = cache;
+    }
+
+
+    /**
+     * Returns the object cached for {@code file} if the file hasn't changed since it was cached.
+     * Every call counts as a hit or a miss.
+     *
+     * @param file The file the object is stored in.
+     * @return The object or {@code null} if it's not cached or it's stale.
+     */
+    @Nullable
+    synchronized Object get(@NonNull File file) {
+
+        Object object = null;
+        String key = file.getAbsolutePath();
+        Entry entry = entries.get(key);
+
+        if (entry != null) {
+            if (entry.length == file.length() && entry.lastModified == file.lastModified()) {
+                object = entry.object;
+            } else {
+                remove(key);
+            }
+        }
+
+        if (object != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+
+        return object;
+    }
+
+
+    /**
+     * Caches {@code object} as the content of {@code file}.
+     *
+     * @param file         The file the object is stored in.
+     * @param object       The object.
+     * @param length       Length of the file when the object was read or written.
+     * @param lastModified Modification time of the file when the object was read or written.
+     */
+    synchronized void put(@NonNull File file, @NonNull Object object, long length,
+                          long lastModified) {
+
+        String key = file.getAbsolutePath();
+        remove(key);
+        add(key, object, length, lastModified);
+    }
+
+
+    /**
+     * Caches {@code object} as the content of {@code file} unless there is an object cached for
+     * it already. Loads use it so that an object read while the file was being replaced never
+     * takes the place of the one cached by the save that replaced it.
+     *
+     * @param file         The file the object is stored in.
+     * @param object       The object.
+     * @param length       Length of the file before the object was read.
+     * @param lastModified Modification time of the file before the object was read.
+     */
+    synchronized void putIfAbsent(@NonNull File file, @NonNull Object object, long length,
+                                  long lastModified) {
+
+        String key = file.getAbsolutePath();
+        if (!entries.containsKey(key)) {
+            add(key, object, length, lastModified);
+        }
+    }
+
+
+    private void add(@NonNull String key, @NonNull Object object, long length,
+                     long lastModified) {
+        if (length <= maxWeight) {
+            entries.put(key, new Entry(object, length, lastModified));
+            weight += length;
+            trim();
+        }
+    }
+
+
+    /**
+     * Drops the object cached for {@code file}, if any. {@code saveObject()} and
+     * {@code saveObjects()} already do it, but other methods writing files, such as
+     * {@code saveByteArray()}, {@code copyFile()} or the move methods, don't, so call it after
+     * changing the file of a cached object by any of them or by other means, unless its length
+     * or modification time are sure to change.
+     *
+     * @param file The file the object is stored in.
+     */
+    public synchronized void invalidate(@NonNull File file) {
+        remove(file.getAbsolutePath());
+    }
+
+
+    /**
+     * Drops every cached object. Statistics are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+
+    /**
+     * Returns the amount of objects cached.
+     */
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+
+    /**
+     * Returns the sum of the lengths of the files of the cached objects.
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+
+    /**
+     * Returns the amount of loads that were served from the cache.
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+
+    /**
+     * Returns the amount of loads that had to read the file, including those of stale objects.
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+
+    /**
+     * Returns the amount of objects dropped to honor the limits.
+     */
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+
+    /**
+     * Returns the ratio of loads served from the cache.
+     *
+     * @return From 0 to 1, or 0 if nothing was loaded yet.
+     */
+    public synchronized double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+
+    @Override
+    public synchronized String toString() {
+        return "ObjectCache[size=" + entries.size() + "/" + maxEntries + ", weight=" + weight + "/"
+                + maxWeight + ", hits=" + hits + ", misses=" + misses + ", evictions="
+                + evictions + "]";
+    }
+
+
+    private void remove(@NonNull String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            weight -= entry.length;
+        }
+    }
+
+
+    /**
+     * Drops the least recently used entries until the limits are honored.
+     */
+    private void trim() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && iterator.hasNext()) {
+            weight -= iterator.next().getValue().length;
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+
+    private static class Entry {
+
+        final Object object;
+        final long length;
+        final long lastModified;
+
+        Entry(@NonNull Object object, long length, long lastModified) {
+            this.object = object;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+
+
+    public static class Builder {
+
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private long maxWeight = DEFAULT_MAX_WEIGHT;
+
+
+        /**
+         * Sets the maximum amount of cached objects.
+         *
+         * @param maxEntries The maximum. It's {@link #DEFAULT_MAX_ENTRIES} by default. Values
+         *                   lower than 1 are treated as 1.
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = Math.max(1, maxEntries);
+            return this;
+        }
+
+
+        /**
+         * Sets the maximum sum of the lengths of the files of the cached objects, which stands
+         * for the memory they take. Objects whose file is longer are never cached.
+         *
+         * @param bytes The maximum. It's {@link #DEFAULT_MAX_WEIGHT} by default. Negative values
+         *              are treated as 0.
+         */
+        public Builder maxWeight(long bytes) {
+            this.maxWeight = Math.max(0, bytes);
+            return this;
+        }
+
+
+        public ObjectCache build() {
+            return new ObjectCache(this);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Writes and reads the files of {@link MemoryUtil#saveObject(Object, String)} choosing the
+ * {@link Serializer} through {@link Serializers}.
+ * <p>Objects saved with Java serialization and no compression are written as they always were,
+ * so they start with its own {@code 0xACED} magic number. Any other file is preceded by an 8
+ * bytes header made of {@link #MAGIC}, the format version, a flags byte telling whether the rest
+ * is deflated and the id of the serializer, which tells all kinds of files apart when
+ * loading.</p>
+ * <p>Serializers usually write and read a few bytes at a time, so both directions are buffered
+ * to turn them into few large file operations.</p>
+ */
+class ObjectCodec {
+
+    static final short MAGIC = 0x4D55;
+    static final int VERSION = 1;
+
+    /** Flag telling that what follows the header is deflated. */
+    static final int FLAG_DEFLATED = 1;
+
+    static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final short JAVA_MAGIC = (short) 0xACED;
+
+
+    private ObjectCodec() {
+    }
+
+
+    /**
+     * Writes {@code object} to {@code output} with the serializer chosen for it.
+     *
+     * @param object           The object.
+     * @param output           The stream. It's flushed but not closed.
+     * @param compressionLevel Deflate level, or {@link WriteOptions#NO_COMPRESSION}.
+     * @throws IOException If the serializer fails.
+     */
+    static void write(@NonNull Object object, @NonNull OutputStream output, int compressionLevel)
+            throws IOException {
+
+        Serializers.Registration registration = Serializers.find(object);
+        boolean deflated = compressionLevel != WriteOptions.NO_COMPRESSION;
+        BufferedOutputStream buffered = new BufferedOutputStream(output, BUFFER_SIZE);
+
+        if (registration.id != Serializers.JAVA_ID || deflated) {
+            DataOutputStream header = new DataOutputStream(buffered);
+            header.writeShort(MAGIC);
+            header.writeByte(VERSION);
+            header.writeByte(deflated ? FLAG_DEFLATED : 0);
+            header.writeInt(registration.id);
+        }
+
+        if (deflated) {
+            Deflater deflater = new Deflater(compressionLevel);
+            try {
+                DeflaterOutputStream deflating =
+                        new DeflaterOutputStream(buffered, deflater, BUFFER_SIZE);
+                registration.serializer.write(object, deflating);
+                deflating.finish();
+            } finally {
+                deflater.end();
+            }
+        } else {
+            registration.serializer.write(object, buffered);
+        }
+
+        buffered.flush();
+    }
+
+
+    /**
+     * Reads an object written by {@link #write(Object, OutputStream, int)}.
+     *
+     * @param input The stream, which must support marks, as {@code BufferedInputStream} does. It's
+     *              not closed.
+     * @return The object.
+     * @throws IOException            If the stream can't be read or holds no known format.
+     * @throws ClassNotFoundException If Java serialization can't find the class of the object.
+     */
+    static Object read(@NonNull InputStream input)
+            throws IOException, ClassNotFoundException {
+
+        Object object;
+        DataInputStream header = new DataInputStream(input);
+
+        input.mark(2);
+        short magic = header.readShort();
+
+        if (magic == JAVA_MAGIC) {
+            input.reset();
+            object = JavaSerializer.readObject(input);
+        } else if (magic == MAGIC) {
+            int version = header.readUnsignedByte();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("Unsupported object file version " + version);
+            }
+            int flags = header.readUnsignedByte();
+            if ((flags & ~FLAG_DEFLATED) != 0) {
+                throw new StreamCorruptedException("Unsupported object file flags " + flags);
+            }
+            int id = header.readInt();
+            Serializers.Registration registration = Serializers.find(id);
+            if (registration == null) {
+                throw new StreamCorruptedException("No serializer registered with id " + id);
+            }
+
+            if ((flags & FLAG_DEFLATED) != 0) {
+                Inflater inflater = new Inflater();
+                try {
+                    object = read(registration, new BufferedInputStream(
+                            new InflaterInputStream(input, inflater, BUFFER_SIZE), BUFFER_SIZE));
+                } finally {
+                    inflater.end();
+                }
+            } else {
+                object = read(registration, input);
+            }
+        } else {
+            throw new StreamCorruptedException("Not an object file");
+        }
+
+        return object;
+    }
+
+
+    /**
+     * Reads the object after the header, letting Java serialization report missing classes.
+     */
+    private static Object read(@NonNull Serializers.Registration registration,
+                               @NonNull InputStream input)
+            throws IOException, ClassNotFoundException {
+        return registration.id == Serializers.JAVA_ID ?
+                JavaSerializer.readObject(input) : registration.serializer.read(input);
+    }
+}
@@ -0,0 +1,297 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes and reads container files, which hold many objects by key so that any of them can be
+ * loaded without reading the others. A container is an 8 bytes header, the objects one after the
+ * other as written by {@link ObjectCodec}, a table with the key, offset and length of every object
+ * and a trailer telling where the table is.
+ * <p>The tables of the last containers read are kept in memory together with the length and
+ * modification time of their files, so loading an object from a known container takes a single
+ * positional read. Since both may stay the same when a container is rewritten, the table of a
+ * container must be dropped with {@link #invalidate(File)} whenever it's written. Loads that
+ * opened a file before an invalidation may be reading a file renamed over since, so they don't
+ * use or cache tables.</p>
+ */
+class ObjectContainer {
+
+    private static final int MAGIC = 0x4D55434F;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int TRAILER_SIZE = 16;
+    private static final int MAX_CACHED_TABLES = 16;
+
+    private static final Map<String, Table> tables =
+            new LinkedHashMap<String, Table>(16, .75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Table> eldest) {
+                    return size() > MAX_CACHED_TABLES;
+                }
+            };
+    private static long invalidations;
+
+
+    private ObjectContainer() {
+    }
+
+
+    /**
+     * Writes {@code objects} to {@code output} as a container.
+     *
+     * @param objects          The objects by key, written in iteration order.
+     * @param output           The stream. It's flushed but not closed.
+     * @param compressionLevel Deflate level of every object, or
+     *                         {@link WriteOptions#NO_COMPRESSION}.
+     * @throws IOException If any object can't be serialized or a key is longer than 65535 bytes.
+     */
+    static void write(@NonNull Map<String, ?> objects, @NonNull OutputStream output,
+                      int compressionLevel) throws IOException {
+
+        BufferedOutputStream buffered = new BufferedOutputStream(output, ObjectCodec.BUFFER_SIZE);
+        CountingOutputStream counter = new CountingOutputStream(buffered);
+        DataOutputStream data = new DataOutputStream(counter);
+        String[] keys = new String[objects.size()];
+        long[] offsets = new long[keys.length];
+        int i = 0;
+
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.write(new byte[HEADER_SIZE - 5]);
+
+        for (Map.Entry<String, ?> entry : objects.entrySet()) {
+            keys[i] = entry.getKey();
+            offsets[i] = counter.getCount();
+            ObjectCodec.write(entry.getValue(), counter, compressionLevel);
+            i++;
+        }
+
+        long tableOffset = counter.getCount();
+        data.writeInt(keys.length);
+        for (i = 0; i < keys.length; i++) {
+            long end = i + 1 < keys.length ? offsets[i + 1] : tableOffset;
+            data.writeUTF(keys[i]);
+            data.writeLong(offsets[i]);
+            data.writeInt((int) (end - offsets[i]));
+        }
+
+        long tableLength = counter.getCount() - tableOffset;
+        data.writeLong(tableOffset);
+        data.writeInt((int) tableLength);
+        data.writeInt(MAGIC);
+        buffered.flush();
+    }
+
+
+    /**
+     * Reads the object stored with {@code key} in the container {@code file}.
+     *
+     * @param file The container.
+     * @param key  The key.
+     * @return The object or {@code null} if the container has no object with that key.
+     * @throws IOException            If the file can't be read or is not a container.
+     * @throws ClassNotFoundException If Java serialization can't find the class of the object.
+     */
+    @Nullable
+    static Object read(@NonNull File file, @NonNull String key)
+            throws IOException, ClassNotFoundException {
+
+        Object object = null;
+        long invalidation = getInvalidations();
+        FileInputStream stream = new FileInputStream(file);
+
+        try {
+            FileChannel channel = stream.getChannel();
+            Table table = getTable(file, channel, invalidation);
+            Entry entry = table.entries.get(key);
+
+            if (entry != null) {
+                byte[] bytes = new byte[entry.length];
+                readFully(channel, ByteBuffer.wrap(bytes), entry.offset);
+                object = ObjectCodec.read(new ByteArrayInputStream(bytes));
+            }
+        } finally {
+            IOUtil.closeQuietly(stream);
+        }
+
+        return object;
+    }
+
+
+    /**
+     * Drops the cached table of {@code file}, so that it's read again on the next load. Call it
+     * before and after writing the file.
+     */
+    static void invalidate(@NonNull File file) {
+        synchronized (tables) {
+            tables.remove(file.getAbsolutePath());
+            invalidations++;
+        }
+    }
+
+
+    private static long getInvalidations() {
+        synchronized (tables) {
+            return invalidations;
+        }
+    }
+
+
+    /**
+     * Returns the table of {@code file}, reading it if it's not cached or the file changed.
+     *
+     * @param invalidation Value of {@link #invalidations} before {@code channel} was opened.
+     */
+    @NonNull
+    private static Table getTable(@NonNull File file, @NonNull FileChannel channel,
+                                  long invalidation) throws IOException {
+
+        String path = file.getAbsolutePath();
+        long length = channel.size();
+        long lastModified = file.lastModified();
+        Table table = null;
+
+        synchronized (tables) {
+            if (invalidations == invalidation) {
+                table = tables.get(path);
+            }
+        }
+
+        if (table == null || table.length != length || table.lastModified != lastModified) {
+            table = readTable(channel, length, lastModified);
+            // The channel may still be the file replaced by a save that renamed a new one over
+            // it, whose table must not be cached for the path
+            if (file.length() == length && file.lastModified() == lastModified) {
+                synchronized (tables) {
+                    if (invalidations == invalidation) {
+                        tables.put(path, table);
+                    }
+                }
+            }
+        }
+
+        return table;
+    }
+
+
+    @NonNull
+    private static Table readTable(@NonNull FileChannel channel, long length, long lastModified)
+            throws IOException {
+
+        if (length < HEADER_SIZE + TRAILER_SIZE) {
+            throw new StreamCorruptedException("Not a container file");
+        }
+
+        ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+        readFully(channel, trailer, length - TRAILER_SIZE);
+        long tableOffset = trailer.getLong(0);
+        int tableLength = trailer.getInt(8);
+
+        if (trailer.getInt(12) != MAGIC || tableOffset < HEADER_SIZE || tableLength < 4
+                || tableOffset + tableLength != length - TRAILER_SIZE) {
+            throw new StreamCorruptedException("Not a container file");
+        }
+
+        byte[] bytes = new byte[tableLength];
+        readFully(channel, ByteBuffer.wrap(bytes), tableOffset);
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+
+        int count = input.readInt();
+        Map<String, Entry> entries = new HashMap<>(Math.max(16, (int) (count / .75f) + 1));
+        for (int i = 0; i < count; i++) {
+            String key = input.readUTF();
+            long offset = input.readLong();
+            int entryLength = input.readInt();
+            if (offset < HEADER_SIZE || entryLength < 0 || offset + entryLength > tableOffset) {
+                throw new StreamCorruptedException("Corrupt container table");
+            }
+            entries.put(key, new Entry(offset, entryLength));
+        }
+
+        return new Table(entries, length, lastModified);
+    }
+
+
+    private static void readFully(@NonNull FileChannel channel, @NonNull ByteBuffer buffer,
+                                  long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+
+    private static class Table {
+
+        final Map<String, Entry> entries;
+        final long length;
+        final long lastModified;
+
+        Table(@NonNull Map<String, Entry> entries, long length, long lastModified) {
+            this.entries = entries;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+
+
+    private static class Entry {
+
+        final long offset;
+        final int length;
+
+        Entry(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+
+    /**
+     * Tells how many bytes have been written, which are the offsets of the objects. Flushes are
+     * ignored, so that those done after every object don't turn into file writes.
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private final OutputStream output;
+        private long count;
+
+        CountingOutputStream(@NonNull OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            output.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(@NonNull byte[] bytes, int offset, int length) throws IOException {
+            output.write(bytes, offset, length);
+            count += length;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,773 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Stores any amount of objects by key in a folder holding a few segment files, instead of one
+ * file per object as {@link MemoryUtil#saveObject(Object, String)} does. Open it with
+ * {@link MemoryUtil#openObjectStore(String, ObjectStoreOptions)}:
+ * <pre>{@code
+ * ObjectStore store = MemoryUtil.openObjectStore(path).getResult();
+ * store.put("user.42", user);
+ * User user = store.<User>get("user.42").getResult();
+ * store.close();
+ * }</pre>
+ * <p>Objects are serialized as {@code saveObject()} does, so any object it accepts can be stored,
+ * and appended to the newest segment, while an index in memory tells where the last object of
+ * every key is. Writing or reading an object takes a single file operation, whatever the amount
+ * of objects. The index is rebuilt from the segments when the store is opened, discarding the
+ * last write if the app died while doing it.</p>
+ * <p>Replaced and removed objects keep taking space until the store is compacted, which copies
+ * the objects still in use from the older segments to a new one and deletes the older ones.
+ * Compaction happens in the background once obsolete objects take enough space, see
+ * {@link ObjectStoreOptions.Builder#compactionRatio(double)}, without blocking reads and writes
+ * but for an instant at the end. A store must be opened only once at the same time. Instances
+ * are thread safe.</p>
+ */
+public class ObjectStore implements Closeable {
+
+    private static final String CANNOT_READ_STORED_OBJECT = "Cannot %1$s because it could not be read.";
+    private static final String CANNOT_WRITE_STORE = "Cannot %1$s because the store could not be written.";
+    private static final String CLASS_NOT_FOUND = "Cannot %1$s because its class was not found.";
+    private static final String COMPACT_STORE = "compact store %1$s";
+    private static final String GET_STORED_OBJECT = "get object %1$s from store %2$s";
+    private static final String KEY_NOT_FOUND = "Cannot %1$s because there is no object with that key.";
+    private static final String PUT_STORED_OBJECT = "put object %1$s in store %2$s";
+    private static final String REMOVE_STORED_OBJECT = "remove object %1$s from store %2$s";
+    private static final String STORE_CLOSED = "Cannot %1$s because the store is closed.";
+    private static final String STORE_COMPACTED = "Store %1$s was compacted, %2$s bytes were reclaimed.";
+    private static final String STORED_OBJECT_PUT = "Object %1$s was put in store %2$s.";
+    private static final String STORED_OBJECT_READ = "Object %1$s was read from store %2$s.";
+    private static final String STORED_OBJECT_REMOVED = "Object %1$s was removed from store %2$s.";
+
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private static final ExecutorService compactionExecutor = IoExecutors.newBoundedExecutor(1);
+
+    private final File folder;
+    private final ObjectStoreOptions options;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Condition published = lock.writeLock().newCondition();
+    private final LinkedList<PendingRecord> unpublished = new LinkedList<>();
+    private final ReentrantLock compactionLock = new ReentrantLock();
+    private final List<StoreSegment> segments = new ArrayList<>();
+    private final Map<String, Location> index = new HashMap<>();
+    private StoreSegment activeSegment;
+    private long recordBytes;
+    private long liveBytes;
+    private Future<?> backgroundCompaction;
+    private boolean closed;
+
+
+    /**
+     * Opens the store in {@code folder}, reading every segment to rebuild the index.
+     *
+     * @param folder  Folder holding the store. It must exist.
+     * @param options How to write.
+     * @throws IOException If the segments can't be read.
+     */
+    ObjectStore(@NonNull File folder, @NonNull ObjectStoreOptions options) throws IOException {
+        this.folder = folder;
+        this.options = options;
+        try {
+            load();
+        } catch (IOException e) {
+            closeSegments();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Stores {@code object} with {@code key}, replacing the object stored with it before.
+     *
+     * @param key    The key. Its UTF-8 form can't be longer than 65535 bytes.
+     * @param object The object. It must be {@code Serializable} or have a serializer registered
+     *               in {@link Serializers}.
+     * @return A {@code Result<Boolean>} containing {@code true} if the object replaced another
+     * one or {@code false} if the key was new.
+     */
+    public Result<Boolean> put(@NonNull String key, @NonNull Object object) {
+
+        Result<Boolean> result;
+
+        ValidationInfoInterface info = Validator.validatePutStoredObject(key, object);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            try {
+                ByteBuffer record = StoreSegment.createRecord(StoreSegment.PUT, key, object);
+                Boolean replaced = write(key, record, true);
+                result = replaced == null ?
+                        Result.<Boolean>createNoExceptionResult(STORE_CLOSED,
+                                StringUtil.format(PUT_STORED_OBJECT, key, folder.getPath())) :
+                        Result.createSuccessfulResult(replaced, STORED_OBJECT_PUT, key,
+                                folder.getPath());
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(CANNOT_WRITE_STORE, e,
+                        StringUtil.format(PUT_STORED_OBJECT, key, folder.getPath()));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Reads the object stored with {@code key}.
+     *
+     * @param key The key.
+     * @param <T> Type of the object.
+     * @return A {@code Result<T>} containing the object or {@code null} if there is no object
+     * with that key or it could not be read.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> get(@NonNull String key) {
+
+        Result<T> result;
+
+        ValidationInfoInterface info = Validator.validateGetStoredObject(key);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            lock.readLock().lock();
+            try {
+                Location location = index.get(key);
+                if (closed) {
+                    result = Result.createNoExceptionResult(STORE_CLOSED,
+                            StringUtil.format(GET_STORED_OBJECT, key, folder.getPath()));
+                } else if (location == null) {
+                    result = Result.createNoExceptionResult(KEY_NOT_FOUND,
+                            StringUtil.format(GET_STORED_OBJECT, key, folder.getPath()));
+                } else {
+                    T object = (T) location.segment.readObject(location.offset,
+                            location.length);
+                    result = Result.createSuccessfulResult(object, STORED_OBJECT_READ, key,
+                            folder.getPath());
+                }
+            } catch (ClassNotFoundException e) {
+                result = Result.createUnsuccessfulResult(CLASS_NOT_FOUND, e,
+                        StringUtil.format(GET_STORED_OBJECT, key, folder.getPath()));
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(CANNOT_READ_STORED_OBJECT, e,
+                        StringUtil.format(GET_STORED_OBJECT, key, folder.getPath()));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Removes the object stored with {@code key}.
+     *
+     * @param key The key.
+     * @return A {@code Result<Boolean>} containing {@code true} if there was an object with that
+     * key or {@code false} if there wasn't.
+     */
+    public Result<Boolean> remove(@NonNull String key) {
+
+        Result<Boolean> result;
+
+        ValidationInfoInterface info = Validator.validateRemoveStoredObject(key);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            try {
+                ByteBuffer record = StoreSegment.createRecord(StoreSegment.REMOVE, key, null);
+                Boolean removed = write(key, record, false);
+                result = removed == null ?
+                        Result.<Boolean>createNoExceptionResult(STORE_CLOSED,
+                                StringUtil.format(REMOVE_STORED_OBJECT, key, folder.getPath())) :
+                        Result.createSuccessfulResult(removed, STORED_OBJECT_REMOVED, key,
+                                folder.getPath());
+            } catch (IOException e) {
+                result = Result.createUnsuccessfulResult(CANNOT_WRITE_STORE, e,
+                        StringUtil.format(REMOVE_STORED_OBJECT, key, folder.getPath()));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Tells whether there is an object stored with {@code key}.
+     */
+    public boolean contains(@NonNull String key) {
+        lock.readLock().lock();
+        try {
+            return index.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Returns a copy of the keys of the stored objects.
+     */
+    @NonNull
+    public Set<String> keys() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(index.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Returns the amount of stored objects.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Returns the bytes taken by replaced and removed objects, which compacting reclaims.
+     */
+    public long getObsoleteSize() {
+        lock.readLock().lock();
+        try {
+            return recordBytes - liveBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Compacts the store now, waiting for a background compaction to end first if there is one.
+     * Objects can still be read and written meanwhile.
+     *
+     * @return A {@code Result<Long>} containing the amount of bytes reclaimed or {@code null} if
+     * the store could not be compacted.
+     */
+    public Result<Long> compact() {
+
+        Result<Long> result;
+
+        try {
+            Long reclaimed = compactNow();
+            result = reclaimed == null ?
+                    Result.<Long>createNoExceptionResult(STORE_CLOSED,
+                            StringUtil.format(COMPACT_STORE, folder.getPath())) :
+                    Result.createSuccessfulResult(reclaimed, STORE_COMPACTED, folder.getPath(),
+                            String.valueOf(reclaimed));
+        } catch (IOException e) {
+            result = Result.createUnsuccessfulResult(CANNOT_WRITE_STORE, e,
+                    StringUtil.format(COMPACT_STORE, folder.getPath()));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Returns the folder holding the store.
+     */
+    @NonNull
+    public File getFolder() {
+        return folder;
+    }
+
+
+    /**
+     * Waits for a background compaction to end and closes the segment files. It can be called
+     * more than once.
+     */
+    @Override
+    public void close() {
+
+        Future<?> compaction;
+
+        lock.writeLock().lock();
+        try {
+            closed = true;
+            // Writes being synced must end before their segments are closed
+            while (!unpublished.isEmpty()) {
+                published.awaitUninterruptibly();
+            }
+            compaction = backgroundCompaction;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (compaction != null) {
+            try {
+                compaction.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                // The compaction was abandoned, the segments are still consistent
+            }
+        }
+
+        compactionLock.lock();
+        try {
+            closeSegments();
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+
+    /**
+     * Appends a record to the active segment, syncs it and updates the index.
+     * <p>Only the append is done holding the write lock. The sync is done after releasing it, so
+     * reads don't wait for the storage and syncs of concurrent writes overlap, which lets
+     * {@link WriteOptions.Durability#GROUP_COMMIT} group them. Records are added to the index only
+     * once synced, and in the order they were appended, so a read never returns an object that
+     * may be lost and the last write of a key always wins.</p>
+     *
+     * @param key    Key of the record.
+     * @param record The record.
+     * @param put    Whether the record stores an object or removes it.
+     * @return Whether the key had an object, or {@code null} if the store is closed.
+     */
+    @Nullable
+    private Boolean write(@NonNull String key, @NonNull ByteBuffer record, boolean put)
+            throws IOException {
+
+        Boolean existed = null;
+        PendingRecord pending = null;
+
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                if (activeSegment.getSize() + record.limit() > options.getSegmentSize()
+                        && activeSegment.getSize() > StoreSegment.HEADER_SIZE) {
+                    startSegment();
+                }
+
+                int length = record.limit();
+                long offset = activeSegment.append(record);
+                recordBytes += length;
+                pending = new PendingRecord(key, put, new Location(activeSegment, offset, length));
+                unpublished.add(pending);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (pending != null) {
+            IOException error = null;
+            try {
+                pending.location.segment.sync(options.getDurability());
+            } catch (IOException e) {
+                error = e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                pending.synced = true;
+                pending.failed = error != null;
+                publishSynced();
+                while (!pending.published) {
+                    published.awaitUninterruptibly();
+                }
+                existed = pending.existed;
+                if (!closed) {
+                    scheduleCompactionIfNeeded();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        return existed;
+    }
+
+
+    /**
+     * Adds to the index the synced records at the head of {@link #unpublished}, stopping at the
+     * first one still being synced. Records whose sync failed are dropped. Must be called holding
+     * the write lock.
+     */
+    private void publishSynced() {
+
+        boolean any = false;
+
+        while (!unpublished.isEmpty() && unpublished.getFirst().synced) {
+            PendingRecord record = unpublished.removeFirst();
+            if (!record.failed) {
+                Location previous = record.put ?
+                        index.put(record.key, record.location) :
+                        index.remove(record.key);
+                if (previous != null) {
+                    liveBytes -= previous.length;
+                }
+                if (record.put) {
+                    liveBytes += record.location.length;
+                }
+                record.existed = previous != null;
+            }
+            record.published = true;
+            any = true;
+        }
+
+        if (any) {
+            published.signalAll();
+        }
+    }
+
+
+    /**
+     * Tells whether a record appended to a segment other than the active one is still waiting to
+     * be synced or published. Must be called holding the write lock.
+     */
+    private boolean hasUnpublishedInactiveRecords() {
+        for (PendingRecord record : unpublished) {
+            if (record.location.segment != activeSegment) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Starts compacting in the background if obsolete records take enough space. Must be called
+     * holding the write lock.
+     */
+    private void scheduleCompactionIfNeeded() {
+
+        long obsoleteBytes = recordBytes - liveBytes;
+        double ratio = options.getCompactionRatio();
+
+        if (ratio > 0 && obsoleteBytes >= options.getCompactionMinSize()
+                && obsoleteBytes >= recordBytes * ratio
+                && (backgroundCompaction == null || backgroundCompaction.isDone())) {
+            backgroundCompaction = compactionExecutor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws IOException {
+                    compactNow();
+                    return null;
+                }
+            });
+        }
+    }
+
+
+    /**
+     * Copies the records in use of every segment but the active one to a new segment that
+     * replaces them.
+     * <p>The new segment is written to a temporary file and renamed to the name of the newest
+     * segment it replaces, with a flag in its header telling that every older segment can be
+     * deleted. So if the app dies before deleting them, {@link #load()} deletes them, and if it
+     * dies before renaming, the temporary file is deleted instead.</p>
+     *
+     * @return The amount of bytes reclaimed, or {@code null} if the store is closed.
+     */
+    @Nullable
+    private Long compactNow() throws IOException {
+
+        compactionLock.lock();
+        try {
+            List<StoreSegment> compacted;
+
+            lock.writeLock().lock();
+            try {
+                if (closed) {
+                    return null;
+                }
+                if (activeSegment.getSize() > StoreSegment.HEADER_SIZE) {
+                    startSegment();
+                }
+                // Records not published yet would be left out of the new segment
+                while (hasUnpublishedInactiveRecords()) {
+                    published.awaitUninterruptibly();
+                }
+                compacted = new ArrayList<>(segments.subList(0, segments.size() - 1));
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            return compacted.isEmpty() ? Long.valueOf(0) : compact(compacted);
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+
+    /**
+     * Replaces {@code compacted}, which must be the oldest segments and not include the active
+     * one, with a single segment.
+     */
+    @NonNull
+    private Long compact(@NonNull List<StoreSegment> compacted) throws IOException {
+
+        StoreSegment newest = compacted.get(compacted.size() - 1);
+        File temporaryFile = new File(folder, newest.getFile().getName() + TEMPORARY_EXTENSION);
+        final StoreSegment target = new StoreSegment(newest.getId(), temporaryFile,
+                StoreSegment.FLAG_COMPACTED);
+        final List<Move> moves = new ArrayList<>();
+        StoreSegment replacement = null;
+        Long reclaimed = null;
+
+        try {
+            long oldBytes = 0;
+            for (final StoreSegment segment : compacted) {
+                oldBytes += segment.getSize() - StoreSegment.HEADER_SIZE;
+                segment.scan(new StoreSegment.RecordVisitor() {
+                    @Override
+                    public void onRecord(byte type, @NonNull String key, long offset, int length)
+                            throws IOException {
+                        Location location = getLocation(key);
+                        if (location != null && location.segment == segment
+                                && location.offset == offset) {
+                            long newOffset = target.append(segment.readRecord(offset, length));
+                            moves.add(new Move(key, location, newOffset));
+                        }
+                    }
+                });
+            }
+            target.sync(WriteOptions.Durability.DATA);
+            target.close();
+
+            lock.writeLock().lock();
+            try {
+                if (!closed) {
+                    if (!temporaryFile.renameTo(newest.getFile())) {
+                        throw new IOException("Cannot rename " + temporaryFile.getPath());
+                    }
+                    replacement = new StoreSegment(newest.getId(), newest.getFile(), 0);
+                    if (options.getDurability() == WriteOptions.Durability.FULL) {
+                        IOUtil.syncFolder(folder);
+                    }
+
+                    for (Move move : moves) {
+                        if (index.get(move.key) == move.from) {
+                            index.put(move.key, new Location(replacement, move.newOffset,
+                                    move.from.length));
+                        }
+                    }
+
+                    segments.removeAll(compacted);
+                    segments.add(0, replacement);
+                    for (StoreSegment segment : compacted) {
+                        segment.close();
+                        if (segment != newest) {
+                            segment.getFile().delete();
+                        }
+                    }
+
+                    long newBytes = replacement.getSize() - StoreSegment.HEADER_SIZE;
+                    recordBytes += newBytes - oldBytes;
+                    reclaimed = oldBytes - newBytes;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            target.close();
+            if (temporaryFile.exists()) {
+                temporaryFile.delete();
+            }
+        }
+
+        return reclaimed;
+    }
+
+
+    @Nullable
+    private Location getLocation(@NonNull String key) {
+        lock.readLock().lock();
+        try {
+            return index.get(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Opens every segment in order, deleting those left behind by an interrupted compaction, and
+     * rebuilds the index.
+     */
+    private void load() throws IOException {
+
+        List<File> files = new ArrayList<>();
+        File[] children = folder.listFiles();
+        if (children == null) {
+            throw new IOException("Cannot list " + folder.getPath());
+        }
+
+        for (File child : children) {
+            if (child.getName().endsWith(StoreSegment.EXTENSION + TEMPORARY_EXTENSION)) {
+                child.delete();
+            } else if (StoreSegment.getId(child) >= 0) {
+                files.add(child);
+            }
+        }
+
+        File[] sorted = files.toArray(new File[files.size()]);
+        Arrays.sort(sorted, new Comparator<File>() {
+            @Override
+            public int compare(File first, File second) {
+                long difference = StoreSegment.getId(first) - StoreSegment.getId(second);
+                return difference < 0 ? -1 : difference > 0 ? 1 : 0;
+            }
+        });
+
+        int first = 0;
+        for (int i = sorted.length - 1; i > 0 && first == 0; i--) {
+            if ((StoreSegment.readFlags(sorted[i]) & StoreSegment.FLAG_COMPACTED) != 0) {
+                first = i;
+            }
+        }
+        for (int i = 0; i < first; i++) {
+            sorted[i].delete();
+        }
+
+        for (int i = first; i < sorted.length; i++) {
+            final StoreSegment segment =
+                    new StoreSegment(StoreSegment.getId(sorted[i]), sorted[i], 0);
+            segments.add(segment);
+            long end = segment.scan(new StoreSegment.RecordVisitor() {
+                @Override
+                public void onRecord(byte type, @NonNull String key, long offset, int length) {
+                    Location previous = type == StoreSegment.PUT ?
+                            index.put(key, new Location(segment, offset, length)) :
+                            index.remove(key);
+                    if (previous != null) {
+                        liveBytes -= previous.length;
+                    }
+                    if (type == StoreSegment.PUT) {
+                        liveBytes += length;
+                    }
+                    recordBytes += length;
+                }
+            });
+            if (end < segment.getSize()) {
+                segment.truncate(end);
+            }
+            activeSegment = segment;
+        }
+
+        if (activeSegment == null) {
+            startSegment();
+        }
+    }
+
+
+    /**
+     * Makes a new empty segment the active one.
+     */
+    private void startSegment() throws IOException {
+        long id = activeSegment == null ? 1 : activeSegment.getId() + 1;
+        StoreSegment segment = new StoreSegment(id, new File(folder, StoreSegment.getFileName(id)),
+                0);
+        segments.add(segment);
+        activeSegment = segment;
+        if (options.getDurability() == WriteOptions.Durability.FULL) {
+            IOUtil.syncFolder(folder);
+        }
+    }
+
+
+    private void closeSegments() {
+        for (StoreSegment segment : segments) {
+            segment.close();
+        }
+    }
+
+
+    private static <T> Result<T> reportInvalidParameter(ValidationInfoInterface validationInfo) {
+        ExceptionManager.throwValidationInfoException(validationInfo);
+        return Result.createInfoResult(validationInfo);
+    }
+
+
+    /**
+     * Where the last record of a key is.
+     */
+    private static class Location {
+
+        final StoreSegment segment;
+        final long offset;
+        final int length;
+
+        Location(@NonNull StoreSegment segment, long offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+
+    /**
+     * A record appended by {@link #write(String, ByteBuffer, boolean)} that isn't in the index
+     * yet. Guarded by the write lock.
+     */
+    private static class PendingRecord {
+
+        final String key;
+        final boolean put;
+        final Location location;
+        boolean synced;
+        boolean failed;
+        boolean published;
+        boolean existed;
+
+        PendingRecord(@NonNull String key, boolean put, @NonNull Location location) {
+            this.key = key;
+            this.put = put;
+            this.location = location;
+        }
+    }
+
+
+    /**
+     * A record copied by a compaction.
+     */
+    private static class Move {
+
+        final String key;
+        final Location from;
+        final long newOffset;
+
+        Move(@NonNull String key, @NonNull Location from, long newOffset) {
+            this.key = key;
+            this.from = from;
+            this.newOffset = newOffset;
+        }
+    }
+}
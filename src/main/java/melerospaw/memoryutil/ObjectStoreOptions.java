@@ -0,0 +1,165 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Tells an {@link ObjectStore} how to write. Create it with a {@link Builder}:
+ * <pre>{@code
+ * ObjectStoreOptions options = new ObjectStoreOptions.Builder()
+ *         .segmentSize(8 * 1024 * 1024)
+ *         .durability(WriteOptions.Durability.DATA)
+ *         .build();
+ * ObjectStore store = MemoryUtil.openObjectStore(path, options).getResult();
+ * }</pre>
+ * {@code ObjectStoreOptions} are immutable, so the same instance can be shared by any amount of
+ * stores.
+ */
+public class ObjectStoreOptions {
+
+    /** Default size in bytes a segment file grows to before a new one is started. */
+    public static final long DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    /** Default ratio of obsolete bytes that starts a background compaction. */
+    public static final double DEFAULT_COMPACTION_RATIO = .5;
+
+    /** Default amount of obsolete bytes needed to start a background compaction. */
+    public static final long DEFAULT_COMPACTION_MIN_SIZE = 1024 * 1024;
+
+    /** Options used when none are specified. */
+    public static final ObjectStoreOptions DEFAULT = new Builder().build();
+
+    private final long segmentSize;
+    private final double compactionRatio;
+    private final long compactionMinSize;
+    private final WriteOptions.Durability durability;
+
+
+    private ObjectStoreOptions(Builder builder) {
+        this.segmentSize = builder.segmentSize;
+        this.compactionRatio = builder.compactionRatio;
+        this.compactionMinSize = builder.compactionMinSize;
+        this.durability = builder.durability;
+    }
+
+
+    /**
+     * Returns the size in bytes a segment file grows to before a new one is started.
+     */
+    public long getSegmentSize() {
+        return segmentSize;
+    }
+
+
+    /**
+     * Returns the ratio of obsolete bytes that starts a background compaction, or 0 if the store
+     * is only compacted by {@link ObjectStore#compact()}.
+     */
+    public double getCompactionRatio() {
+        return compactionRatio;
+    }
+
+
+    /**
+     * Returns the amount of obsolete bytes needed to start a background compaction.
+     */
+    public long getCompactionMinSize() {
+        return compactionMinSize;
+    }
+
+
+    /**
+     * Returns the durability guaranteed by every write before returning.
+     */
+    @NonNull
+    public WriteOptions.Durability getDurability() {
+        return durability;
+    }
+
+
+    public static class Builder {
+
+        private long segmentSize = DEFAULT_SEGMENT_SIZE;
+        private double compactionRatio = DEFAULT_COMPACTION_RATIO;
+        private long compactionMinSize = DEFAULT_COMPACTION_MIN_SIZE;
+        private WriteOptions.Durability durability = WriteOptions.Durability.NONE;
+
+
+        /**
+         * Creates a builder with the values of {@link ObjectStoreOptions#DEFAULT}.
+         */
+        public Builder() {
+        }
+
+
+        /**
+         * Creates a builder with the values of {@code options}.
+         *
+         * @param options Options to start from.
+         */
+        public Builder(@NonNull ObjectStoreOptions options) {
+            this.segmentSize = options.segmentSize;
+            this.compactionRatio = options.compactionRatio;
+            this.compactionMinSize = options.compactionMinSize;
+            this.durability = options.durability;
+        }
+
+
+        /**
+         * Sets the size in bytes a segment file grows to before a new one is started. Only whole
+         * segments are compacted, so smaller segments let obsolete bytes be reclaimed sooner at
+         * the cost of more files.
+         *
+         * @param bytes The size. It's {@link #DEFAULT_SEGMENT_SIZE} by default. Values lower than
+         *              1024 are treated as 1024.
+         */
+        public Builder segmentSize(long bytes) {
+            this.segmentSize = Math.max(1024, bytes);
+            return this;
+        }
+
+
+        /**
+         * Sets the ratio of obsolete bytes, those of replaced and removed objects, that makes the
+         * store compact itself in the background once there are at least
+         * {@link #compactionMinSize(long)} of them.
+         *
+         * @param ratio From 0 to 1. It's {@link #DEFAULT_COMPACTION_RATIO} by default. Pass 0 to
+         *              compact only when {@link ObjectStore#compact()} is called.
+         */
+        public Builder compactionRatio(double ratio) {
+            this.compactionRatio = Math.max(0, Math.min(1, ratio));
+            return this;
+        }
+
+
+        /**
+         * Sets the amount of obsolete bytes needed to compact in the background, so that small
+         * stores aren't rewritten over and over.
+         *
+         * @param bytes The amount. It's {@link #DEFAULT_COMPACTION_MIN_SIZE} by default.
+         *              Negative values are treated as 0.
+         */
+        public Builder compactionMinSize(long bytes) {
+            this.compactionMinSize = Math.max(0, bytes);
+            return this;
+        }
+
+
+        /**
+         * Sets the durability guaranteed by every write before returning.
+         * {@link WriteOptions.Durability#FULL} also syncs the folder whenever a segment file is
+         * created or replaced.
+         *
+         * @param durability The durability. It's {@link WriteOptions.Durability#NONE} by default.
+         */
+        public Builder durability(@NonNull WriteOptions.Durability durability) {
+            this.durability = durability;
+            return this;
+        }
+
+
+        public ObjectStoreOptions build() {
+            return new ObjectStoreOptions(this);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tells how a save queued in a {@link WriteBehindQueue} ended. It's done once the file has been
+ * written with the object passed to the save or with one passed to a later save to the same path
+ * that replaced it, see {@link #isSuperseded()}. Either way, the file holds the object saved last
+ * when it's done.
+ */
+public class PendingWrite {
+
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile Result<File> result;
+    private volatile boolean superseded;
+
+
+    PendingWrite() {
+    }
+
+
+    /**
+     * Tells whether the save has ended, either successfully or not.
+     */
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+
+    /**
+     * Waits until the save ends.
+     *
+     * @return The {@code Result<File>} returned by
+     * {@link MemoryUtil#saveObject(Object, String, WriteOptions)} when the file was written.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    @NonNull
+    public Result<File> get() throws InterruptedException {
+        done.await();
+        return result;
+    }
+
+
+    /**
+     * Waits up to {@code timeout} until the save ends.
+     *
+     * @param timeout Maximum time to wait.
+     * @param unit    Unit of {@code timeout}.
+     * @return The {@code Result<File>} returned by
+     * {@link MemoryUtil#saveObject(Object, String, WriteOptions)} when the file was written, or
+     * {@code null} if the save hasn't ended yet.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    @Nullable
+    public Result<File> get(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        return done.await(timeout, unit) ? result : null;
+    }
+
+
+    /**
+     * Tells whether the object of this save was never written because a later save to the same
+     * path replaced it before the file was written. It's only meaningful once the save is done.
+     */
+    public boolean isSuperseded() {
+        return superseded;
+    }
+
+
+    void complete(@NonNull Result<File> result, boolean superseded) {
+        this.result = result;
+        this.superseded = superseded;
+        done.countDown();
+    }
+}
@@ -14,6 +14,12 @@ import android.support.annotation.Nullable;
  * been saved. If you retrieve something, you'll get that something.</li>
  * <li>{@code message}: a {@code String} containing the reason why the method called was not
  * successful. Can be obtained by calling {@link #getMessage()}.</li>
+ * <li>{@code previousVersionKept}: when saving to a file that already existed fails, tells whether
+ * the file still holds its previous content. Can be obtained by calling
+ * {@link #isPreviousVersionKept()}.</li>
+ * <li>{@code unchanged}: when saving with {@link WriteOptions.Builder#skipUnchanged(boolean)},
+ * tells whether the file already held the content and nothing was written. Can be obtained by
+ * calling {@link #isUnchanged()}.</li>
  * </ul>
  *
  * @param <T> The type of the object that will result from the method call. If the call results
@@ -32,6 +38,8 @@ public class Result<T> {
     private boolean successful;
     private T result;
     private String message;
+    private boolean previousVersionKept;
+    private boolean unchanged;
 
 
     /**
@@ -88,6 +96,38 @@ public class Result<T> {
         this.message = message;
     }
 
+
+    /**
+     * When saving to a file that already existed fails, tells whether the file still holds the
+     * content it had before the call. It's always the case for atomic writes (see
+     * {@link WriteOptions.Builder#atomic(boolean)}), and for non atomic writes that failed before
+     * the file was opened.
+     *
+     * @return {@code true} if the previous version of the file survived the failed save, or
+     * {@code false} if the save was successful, the file didn't exist or it may be corrupt.
+     */
+    public boolean isPreviousVersionKept() {
+        return previousVersionKept;
+    }
+
+    void setPreviousVersionKept(boolean previousVersionKept) {
+        this.previousVersionKept = previousVersionKept;
+    }
+
+    /**
+     * Tells whether a save with {@link WriteOptions.Builder#skipUnchanged(boolean)} found that
+     * the file already held the content to save, so it was left untouched.
+     *
+     * @return {@code true} if nothing was written because the file was up to date.
+     */
+    public boolean isUnchanged() {
+        return unchanged;
+    }
+
+    void setUnchanged(boolean unchanged) {
+        this.unchanged = unchanged;
+    }
+
     /**
      * Creates a {@link Result} object with the object resulting from a call to a
      * {@code MemoryUtils}' method specified. It will format the message and log it.
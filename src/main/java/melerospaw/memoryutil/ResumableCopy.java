@@ -0,0 +1,273 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * Copies an {@code InputStream} to a file in a way that survives the process being killed. The
+ * content is written to a sidecar {@code .part} file next to the destination and renamed over it
+ * once complete, so the destination never holds a half-copied file. While copying from a
+ * {@code FileInputStream}, the amount of bytes safely written is recorded every
+ * {@link #CHECKPOINT_INTERVAL} bytes in a {@code .checkpoint} file, so a later copy of the same
+ * origin to the same destination continues from there instead of from the first byte. Other
+ * streams cannot be repositioned, so their copies always start over.
+ * <p>Checkpoints also hold a fingerprint of the bytes copied so far, chained chunk by chunk so
+ * it's built as the copy goes. A copy is only resumed if the origin still starts with those
+ * bytes, so a changed origin, or a different one with the same length, is copied from the first
+ * byte instead of being joined to the old partial copy.</p>
+ */
+class ResumableCopy {
+
+    static final String PART_EXTENSION = ".part";
+    static final String CHECKPOINT_EXTENSION = ".checkpoint";
+
+    /** Amount of bytes copied between two checkpoints. */
+    static final long CHECKPOINT_INTERVAL = 4 * 1024 * 1024;
+
+    private final InputStream inputStream;
+    private final File destinationFile;
+    private final File partFile;
+    private final File checkpointFile;
+    private long resumedFrom;
+
+
+    /**
+     * @param inputStream     Stream to copy from. It won't be closed.
+     * @param destinationFile File where the content will be copied. The folder containing it
+     *                        must exist.
+     */
+    ResumableCopy(@NonNull InputStream inputStream, @NonNull File destinationFile) {
+        this.inputStream = inputStream;
+        this.destinationFile = destinationFile;
+        this.partFile = new File(destinationFile.getPath() + PART_EXTENSION);
+        this.checkpointFile = new File(destinationFile.getPath() + CHECKPOINT_EXTENSION);
+    }
+
+
+    /**
+     * Copies the stream, resuming a previous copy if possible, and renames the result over the
+     * destination file. If it fails, the partial copy and its checkpoint are kept so that the
+     * next attempt can resume it.
+     *
+     * @throws IOException If reading, writing or renaming fails.
+     */
+    void copy() throws IOException {
+
+        if (inputStream instanceof FileInputStream) {
+            RandomAccessFile part = new RandomAccessFile(partFile, "rw");
+            try {
+                copyFromChannel(((FileInputStream) inputStream).getChannel(), part.getChannel());
+                part.close();
+            } finally {
+                IOUtil.closeQuietly(part);
+            }
+        } else {
+            FileOutputStream streamToPart = new FileOutputStream(partFile);
+            try {
+                CopyEngine.streamCopy(inputStream, streamToPart, 0);
+                streamToPart.getChannel().force(false);
+                streamToPart.close();
+            } finally {
+                IOUtil.closeQuietly(streamToPart);
+            }
+        }
+
+        if (!partFile.renameTo(destinationFile)) {
+            throw new IOException("Cannot rename " + partFile.getPath() + " to "
+                    + destinationFile.getPath());
+        }
+
+        checkpointFile.delete();
+    }
+
+
+    /**
+     * Returns the amount of bytes that were already copied by a previous attempt and didn't
+     * need to be copied again.
+     */
+    long getResumedFrom() {
+        return resumedFrom;
+    }
+
+
+    private void copyFromChannel(@NonNull FileChannel origin, @NonNull FileChannel part)
+            throws IOException {
+
+        long start = origin.position();
+        long length = origin.size() - start;
+        long copied = 0;
+        byte[] fingerprint = new byte[0];
+        byte[] buffer = BufferPool.acquireHeapBuffer(BufferPool.MAX_BUFFER_SIZE);
+
+        try {
+            Checkpoint checkpoint = readCheckpoint(length);
+
+            // Whatever was written after the last checkpoint may not have reached the disk
+            if (checkpoint != null && checkpoint.copied <= part.size()) {
+                byte[] originFingerprint = fingerprint;
+                long position = 0;
+                while (position < checkpoint.copied) {
+                    long chunkEnd = Math.min(position + CHECKPOINT_INTERVAL, checkpoint.copied);
+                    originFingerprint = fingerprint(origin, start + position, chunkEnd - position,
+                            originFingerprint, buffer);
+                    position = chunkEnd;
+                }
+                if (Arrays.equals(originFingerprint, checkpoint.fingerprint)) {
+                    copied = checkpoint.copied;
+                    fingerprint = originFingerprint;
+                }
+            }
+
+            part.truncate(copied);
+            part.position(copied);
+            resumedFrom = copied;
+
+            while (copied < length) {
+                long chunkStart = copied;
+                long chunkEnd = Math.min(copied + CHECKPOINT_INTERVAL, length);
+
+                while (copied < chunkEnd) {
+                    long count = origin.transferTo(start + copied, chunkEnd - copied, part);
+                    if (count <= 0) {
+                        throw new IOException("Origin file was truncated while copying it");
+                    }
+                    copied += count;
+                }
+
+                fingerprint = fingerprint(origin, start + chunkStart, chunkEnd - chunkStart,
+                        fingerprint, buffer);
+                part.force(false);
+                writeCheckpoint(length, copied, fingerprint);
+            }
+        } finally {
+            BufferPool.releaseHeapBuffer(buffer);
+        }
+
+        origin.position(start + copied);
+    }
+
+
+    /**
+     * Chains the fingerprint of the bytes before a chunk with the bytes of the chunk.
+     *
+     * @param origin   Channel to read the chunk from.
+     * @param position Position of the chunk in {@code origin}.
+     * @param count    Length of the chunk.
+     * @param previous Fingerprint of the bytes before the chunk, empty for the first one.
+     * @param buffer   Buffer to read the chunk with.
+     * @return The fingerprint of the bytes up to the end of the chunk.
+     * @throws IOException If the chunk cannot be read.
+     */
+    @NonNull
+    private static byte[] fingerprint(@NonNull FileChannel origin, long position, long count,
+                                      @NonNull byte[] previous, @NonNull byte[] buffer)
+            throws IOException {
+
+        MessageDigest digest = IOUtil.newDigest();
+        ByteBuffer wrappedBuffer = ByteBuffer.wrap(buffer);
+        long end = position + count;
+
+        digest.update(previous);
+        while (position < end) {
+            wrappedBuffer.clear();
+            wrappedBuffer.limit((int) Math.min(buffer.length, end - position));
+            int read = origin.read(wrappedBuffer, position);
+            if (read <= 0) {
+                throw new IOException("Origin file was truncated while copying it");
+            }
+            digest.update(buffer, 0, read);
+            position += read;
+        }
+
+        return digest.digest();
+    }
+
+
+    /**
+     * Reads the amount of bytes that a previous copy recorded as written and their fingerprint.
+     *
+     * @param length Length of the content being copied. The checkpoint is ignored if it was
+     *               recorded for content with a different length.
+     * @return The checkpoint, or {@code null} if there's no usable one.
+     */
+    private Checkpoint readCheckpoint(long length) {
+
+        Checkpoint checkpoint = null;
+
+        if (checkpointFile.exists()) {
+            DataInputStream streamToCheckpoint = null;
+            try {
+                streamToCheckpoint = new DataInputStream(new FileInputStream(checkpointFile));
+                long recordedLength = streamToCheckpoint.readLong();
+                long recordedCopied = streamToCheckpoint.readLong();
+                byte[] fingerprint = new byte[streamToCheckpoint.readUnsignedByte()];
+                streamToCheckpoint.readFully(fingerprint);
+                if (recordedLength == length && recordedCopied <= length) {
+                    checkpoint = new Checkpoint(recordedCopied, fingerprint);
+                }
+            } catch (IOException e) {
+                // A corrupt checkpoint, or one written before fingerprints, just means starting
+                // over
+                checkpoint = null;
+            } finally {
+                IOUtil.closeQuietly(streamToCheckpoint);
+            }
+        }
+
+        return checkpoint;
+    }
+
+
+    /**
+     * Records that {@code copied} bytes of content of {@code length} bytes, whose fingerprint is
+     * {@code fingerprint}, have been written. The checkpoint is written to a temporary file and
+     * renamed so it's never left half written.
+     */
+    private void writeCheckpoint(long length, long copied, @NonNull byte[] fingerprint)
+            throws IOException {
+
+        File temporaryCheckpoint = new File(checkpointFile.getPath() + PART_EXTENSION);
+        FileOutputStream streamToCheckpoint = new FileOutputStream(temporaryCheckpoint);
+
+        try {
+            DataOutputStream checkpoint = new DataOutputStream(streamToCheckpoint);
+            checkpoint.writeLong(length);
+            checkpoint.writeLong(copied);
+            checkpoint.writeByte(fingerprint.length);
+            checkpoint.write(fingerprint);
+            checkpoint.flush();
+            streamToCheckpoint.getFD().sync();
+            streamToCheckpoint.close();
+        } finally {
+            IOUtil.closeQuietly(streamToCheckpoint);
+        }
+
+        if (!temporaryCheckpoint.renameTo(checkpointFile)) {
+            throw new IOException("Cannot record checkpoint " + checkpointFile.getPath());
+        }
+    }
+
+
+    private static class Checkpoint {
+
+        final long copied;
+        final byte[] fingerprint;
+
+        Checkpoint(long copied, @NonNull byte[] fingerprint) {
+            this.copied = copied;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
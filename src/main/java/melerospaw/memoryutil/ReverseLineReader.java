@@ -0,0 +1,266 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the lines of a text file backward, from the last one to the first, reading blocks from
+ * the end of the file, so the last lines of a big file are read without touching the rest. Get
+ * one from {@link MemoryUtil#openTextFileReversed(String)}.
+ * <pre>{@code
+ * ReverseLineReader reader = MemoryUtil.openTextFileReversed(path).getResult();
+ * try {
+ *     for (CharSequence line : reader) {
+ *         if (line.toString().startsWith("Session started")) {
+ *             break;
+ *         }
+ *     }
+ * } finally {
+ *     reader.close();
+ * }
+ * }</pre>
+ * <p>Lines are the same ones {@link TextFileReader} returns, in reverse order. Line terminators
+ * are looked for as bytes, so the charset of the file must encode {@code \n} and {@code \r} as
+ * single bytes, as UTF-8 and ISO-8859-1 do. As in {@code TextFileReader}, the same
+ * {@code CharSequence} is reused for every line, a read error ends the iteration and is returned
+ * by {@link #getError()}, and instances are not thread safe.</p>
+ */
+public class ReverseLineReader implements Closeable, Iterable<CharSequence> {
+
+    /** Amount of bytes read at once. */
+    static final int BLOCK_SIZE = 8 * 1024;
+
+    private final File file;
+    private final Charset charset;
+    private final RandomAccessFile randomAccessFile;
+    private final byte[] block = new byte[BLOCK_SIZE];
+    private final StringBuilder line = new StringBuilder();
+    private byte[] lineBytes = new byte[256];
+    private long blockStart;
+    private int blockLength;
+    private long position;
+    private boolean lineLeft;
+    private boolean closed;
+    private boolean iterated;
+    private IOException error;
+
+
+    /**
+     * @param file    The file to be read.
+     * @param charset Charset the file is encoded with.
+     * @throws IOException If the file cannot be opened.
+     */
+    ReverseLineReader(@NonNull File file, @NonNull Charset charset) throws IOException {
+        this.file = file;
+        this.charset = charset;
+        this.randomAccessFile = new RandomAccessFile(file, "r");
+
+        try {
+            position = randomAccessFile.length();
+            lineLeft = position > 0;
+
+            // A terminator at the end of the file doesn't start another line
+            if (lineLeft) {
+                skipTerminator();
+            }
+        } catch (IOException e) {
+            randomAccessFile.close();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Returns the file being read.
+     */
+    @NonNull
+    public File getFile() {
+        return file;
+    }
+
+
+    /**
+     * Returns an iterator over the lines left, from the last one backward. Only one iterator can
+     * be requested, since the lines are read as the iterator advances.
+     *
+     * @return The iterator.
+     * @throws IllegalStateException If an iterator was already requested.
+     */
+    @NonNull
+    @Override
+    public Iterator<CharSequence> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("The lines of " + file.getPath()
+                    + " can only be iterated once");
+        }
+        iterated = true;
+        return new LineIterator();
+    }
+
+
+    /**
+     * Reads the previous line into {@code destination}, replacing its content.
+     *
+     * @param destination Where the line will be written, without its terminator.
+     * @return {@code true} if a line was read or {@code false} if the beginning of the file was
+     * reached.
+     * @throws IOException If the file cannot be read or the reader is closed.
+     */
+    public boolean readLine(@NonNull StringBuilder destination) throws IOException {
+
+        ensureOpen();
+        destination.setLength(0);
+
+        boolean lineRead = lineLeft;
+
+        if (lineLeft) {
+            // Bytes are stored from the end of lineBytes backward, as they are found
+            int start = lineBytes.length;
+            boolean terminatorFound = false;
+
+            while (!terminatorFound && position > 0) {
+                byte b = byteAt(position - 1);
+                if (b == '\n' || b == '\r') {
+                    terminatorFound = true;
+                } else {
+                    if (start == 0) {
+                        start = growLineBytes();
+                    }
+                    lineBytes[--start] = b;
+                    position--;
+                }
+            }
+
+            destination.append(new String(lineBytes, start, lineBytes.length - start, charset));
+
+            if (terminatorFound) {
+                skipTerminator();
+            } else {
+                lineLeft = false;
+            }
+        }
+
+        return lineRead;
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            randomAccessFile.close();
+        }
+    }
+
+
+    /**
+     * Returns the exception that ended the iteration of the lines early, if any.
+     *
+     * @return The exception or {@code null} if the lines were read without errors.
+     */
+    @Nullable
+    public IOException getError() {
+        return error;
+    }
+
+
+    /**
+     * Moves the position before the terminator it's right after, if any, taking {@code \r\n}
+     * as a single terminator.
+     */
+    private void skipTerminator() throws IOException {
+        byte last = byteAt(position - 1);
+        if (last == '\n' || last == '\r') {
+            position--;
+            if (last == '\n' && position > 0 && byteAt(position - 1) == '\r') {
+                position--;
+            }
+        }
+    }
+
+
+    /**
+     * Returns the byte at {@code index}, reading the block that ends with it if it's not in the
+     * current one.
+     */
+    private byte byteAt(long index) throws IOException {
+
+        if (index < blockStart || index >= blockStart + blockLength) {
+            long start = Math.max(0, index + 1 - BLOCK_SIZE);
+            int length = (int) (index + 1 - start);
+            randomAccessFile.seek(start);
+            randomAccessFile.readFully(block, 0, length);
+            blockStart = start;
+            blockLength = length;
+        }
+
+        return block[(int) (index - blockStart)];
+    }
+
+
+    /**
+     * Doubles the size of {@code lineBytes}, keeping its content at the end.
+     *
+     * @return The new position of the first byte.
+     */
+    private int growLineBytes() {
+        byte[] bigger = new byte[lineBytes.length * 2];
+        System.arraycopy(lineBytes, 0, bigger, lineBytes.length, lineBytes.length);
+        int start = lineBytes.length;
+        lineBytes = bigger;
+        return start;
+    }
+
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Reader of " + file.getPath() + " is closed");
+        }
+    }
+
+
+    private class LineIterator implements Iterator<CharSequence> {
+
+        private boolean fetched;
+        private boolean hasLine;
+
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                try {
+                    hasLine = error == null && readLine(line);
+                } catch (IOException e) {
+                    error = e;
+                    hasLine = false;
+                }
+                fetched = true;
+            }
+            return hasLine;
+        }
+
+
+        @Override
+        public CharSequence next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            fetched = false;
+            return line;
+        }
+
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
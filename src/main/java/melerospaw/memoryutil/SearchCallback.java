@@ -0,0 +1,25 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.File;
+
+/**
+ * Receives the lines found by
+ * {@link MemoryUtil#searchFolder(String, java.io.FilenameFilter, java.util.regex.Pattern, int,
+ * SearchCallback)} as soon as they are found.
+ */
+public interface SearchCallback {
+
+    /**
+     * Called for every line matching the search. It's called from the threads searching the
+     * files, but never from two of them at the same time, so it needs no synchronization. Lines
+     * of the same file are received in order, while lines of different files may be interleaved.
+     *
+     * @param file       The file containing the line.
+     * @param lineNumber Number of the line in the file, starting at 1.
+     * @param line       The line, without its terminator.
+     * @return {@code true} to keep on searching or {@code false} to stop.
+     */
+    boolean onMatch(@NonNull File file, long lineNumber, @NonNull String line);
+}
@@ -0,0 +1,53 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Turns objects of type {@code T} into bytes and back, so that
+ * {@link MemoryUtil#saveObject(Object, String)} and {@link MemoryUtil#loadObject(String, Class)}
+ * can store them without Java serialization. Register implementations in {@link Serializers}.
+ * <pre>{@code
+ * Serializers.register(Point.class, 100, new Serializer<Point>() {
+ *     public void write(Point point, OutputStream output) throws IOException {
+ *         DataOutputStream data = new DataOutputStream(output);
+ *         data.writeInt(point.x);
+ *         data.writeInt(point.y);
+ *         data.flush();
+ *     }
+ *
+ *     public Point read(InputStream input) throws IOException {
+ *         DataInputStream data = new DataInputStream(input);
+ *         return new Point(data.readInt(), data.readInt());
+ *     }
+ * });
+ * }</pre>
+ * <p>Implementations must be thread safe, since the same instance is used for every save and load,
+ * and must not close the streams.</p>
+ *
+ * @param <T> Type of the objects serialized.
+ */
+public interface Serializer<T> {
+
+    /**
+     * Writes {@code object} to {@code output}.
+     *
+     * @param object The object to be written.
+     * @param output The stream to write to. Flush anything you buffer, but don't close it.
+     * @throws IOException If writing fails or the object cannot be serialized.
+     */
+    void write(@NonNull T object, @NonNull OutputStream output) throws IOException;
+
+    /**
+     * Reads an object written by {@link #write(Object, OutputStream)}.
+     *
+     * @param input The stream to read from. Don't close it.
+     * @return The object read.
+     * @throws IOException If reading fails or the bytes don't hold a valid object.
+     */
+    @NonNull
+    T read(@NonNull InputStream input) throws IOException;
+}
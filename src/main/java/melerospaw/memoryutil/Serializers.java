@@ -0,0 +1,203 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the {@link Serializer}s used by {@link MemoryUtil#saveObject(Object, String)} and
+ * {@link MemoryUtil#loadObject(String, Class)}.
+ * <p>An object is saved with the serializer registered for its class or, if there is none, for
+ * its closest superclass or interface. Objects with no registered serializer are saved with Java
+ * serialization, exactly as before serializers existed, unless
+ * {@link #setCompactByDefault(boolean)} is enabled and {@link #COMPACT} can handle them.</p>
+ * <p>Files written with a registered serializer start with a small header holding its id, which
+ * {@code loadObject()} uses to pick the serializer back, so ids must never change once files
+ * have been written with them. Files written with Java serialization have no header, so those
+ * saved by older versions keep loading.</p>
+ */
+public final class Serializers {
+
+    /** Lowest id that can be registered. Lower ones are reserved for built-in serializers. */
+    public static final int MIN_ID = 16;
+
+    /** Java serialization, used by default. */
+    public static final Serializer<Object> JAVA = new JavaSerializer();
+
+    /**
+     * Compact binary serializer for {@code null}, boxed primitives, {@code String},
+     * {@code byte[]}, {@code ArrayList}, {@code LinkedList}, {@code HashMap},
+     * {@code LinkedHashMap}, {@code HashSet}, {@code LinkedHashSet}, and {@code TreeMap} and
+     * {@code TreeSet} with natural ordering, containing only those types. Objects are read back
+     * with their original classes. It's several times faster and smaller than Java
+     * serialization for them, but fails with any other type or with collections appearing more
+     * than once in the object graph.
+     */
+    public static final Serializer<Object> COMPACT = new CompactSerializer();
+
+    static final int JAVA_ID = 0;
+    static final int COMPACT_ID = 1;
+
+    private static final Registration NONE = new Registration(-1, JAVA);
+
+    private static final ConcurrentMap<Class<?>, Registration> byClass =
+            new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Integer, Registration> byId = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, Registration> resolved =
+            new ConcurrentHashMap<>();
+    private static volatile boolean compactByDefault;
+
+    static {
+        byId.put(JAVA_ID, new Registration(JAVA_ID, JAVA));
+        byId.put(COMPACT_ID, new Registration(COMPACT_ID, COMPACT));
+    }
+
+
+    private Serializers() {
+    }
+
+
+    /**
+     * Registers {@code serializer} for {@code type} and its subclasses, replacing any serializer
+     * registered before for the same type.
+     *
+     * @param type       The type of the objects to serialize.
+     * @param id         Id written to the files so they can be loaded with the same serializer.
+     *                   Must be at least {@link #MIN_ID}, and must not change between versions
+     *                   of your app.
+     * @param serializer The serializer. It can be {@link #JAVA} or {@link #COMPACT} too.
+     * @param <T>        The type of the objects to serialize.
+     * @throws IllegalArgumentException If the id is lower than {@link #MIN_ID} or already
+     *                                  belongs to a different serializer.
+     */
+    public static synchronized <T> void register(@NonNull Class<T> type, int id,
+                                                 @NonNull Serializer<? super T> serializer) {
+
+        if (id < MIN_ID) {
+            throw new IllegalArgumentException("Serializer ids lower than " + MIN_ID
+                    + " are reserved");
+        }
+
+        Registration registered = byId.get(id);
+        if (registered != null && registered.serializer != serializer) {
+            throw new IllegalArgumentException("Id " + id + " already belongs to "
+                    + registered.serializer);
+        }
+
+        Registration registration = new Registration(id, serializer);
+        byId.put(id, registration);
+        byClass.put(type, registration);
+        resolved.clear();
+    }
+
+
+    /**
+     * Makes objects with no registered serializer be saved with {@link #COMPACT} whenever it can
+     * handle them, instead of with Java serialization. It's disabled by default.
+     *
+     * @param enabled Whether to use the compact serializer by default.
+     */
+    public static void setCompactByDefault(boolean enabled) {
+        compactByDefault = enabled;
+    }
+
+
+    /**
+     * Tells whether objects of {@code type} can be saved, that is, whether they are
+     * {@code Serializable} or have a registered serializer.
+     *
+     * @param type The type.
+     * @return {@code true} if they can be saved.
+     */
+    public static boolean canSerialize(@NonNull Class<?> type) {
+        return Serializable.class.isAssignableFrom(type) || resolve(type) != NONE;
+    }
+
+
+    /**
+     * Returns the serializer that must be used to save {@code object}.
+     *
+     * @param object The object to be saved.
+     * @return The registration holding the serializer and its id.
+     */
+    @NonNull
+    static Registration find(@Nullable Object object) {
+
+        Registration registration = object == null ? NONE : resolve(object.getClass());
+
+        if (registration == NONE) {
+            registration = compactByDefault && CompactSerializer.canWrite(object) ?
+                    byId.get(COMPACT_ID) : byId.get(JAVA_ID);
+        }
+
+        return registration;
+    }
+
+
+    /**
+     * Returns the serializer registered with {@code id}.
+     *
+     * @param id The id read from a file.
+     * @return The registration or {@code null} if no serializer has that id.
+     */
+    @Nullable
+    static Registration find(int id) {
+        return byId.get(id);
+    }
+
+
+    /**
+     * Looks for the serializer registered for {@code type}, its superclasses or its interfaces,
+     * in that order, remembering the answer.
+     */
+    @NonNull
+    private static Registration resolve(@NonNull Class<?> type) {
+
+        Registration registration = resolved.get(type);
+
+        if (registration == null) {
+            registration = NONE;
+            Deque<Class<?>> pending = new ArrayDeque<>();
+            pending.add(type);
+
+            while (registration == NONE && !pending.isEmpty()) {
+                Class<?> candidate = pending.poll();
+                Registration found = byClass.get(candidate);
+                if (found != null) {
+                    registration = found;
+                } else {
+                    if (candidate.getSuperclass() != null) {
+                        pending.add(candidate.getSuperclass());
+                    }
+                    Collections.addAll(pending, candidate.getInterfaces());
+                }
+            }
+
+            resolved.put(type, registration);
+        }
+
+        return registration;
+    }
+
+
+    /**
+     * A serializer together with the id written to the files it produces.
+     */
+    static class Registration {
+
+        final int id;
+        final Serializer<Object> serializer;
+
+        @SuppressWarnings("unchecked")
+        Registration(int id, @NonNull Serializer<?> serializer) {
+            this.id = id;
+            this.serializer = (Serializer<Object>) serializer;
+        }
+    }
+}
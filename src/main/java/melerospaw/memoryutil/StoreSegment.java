@@ -0,0 +1,384 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * A segment file of an {@link ObjectStore}: an 8 bytes header followed by records that are only
+ * ever appended. Every record is the length of its body, the CRC32 of its body and the body,
+ * which holds its type, the key and, for {@link #PUT} records, the object as written by
+ * {@link ObjectCodec}.
+ * <p>A record is written with a single positional write and read with a single positional read,
+ * which may happen from several threads at the same time.</p>
+ */
+class StoreSegment {
+
+    static final String EXTENSION = ".seg";
+
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_HEADER_SIZE = 8;
+
+    static final byte PUT = 1;
+    static final byte REMOVE = 2;
+
+    /** Flag telling that the segment is the result of a compaction, see {@link ObjectStore}. */
+    static final int FLAG_COMPACTED = 1;
+
+    private static final int MAGIC = 0x4D55534F;
+    private static final int VERSION = 1;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final long id;
+    private final File file;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final int flags;
+    private long size;
+
+
+    /**
+     * Opens the segment in {@code file}, writing its header if the file is new or too short to
+     * hold one, which happens if the app died while creating it.
+     *
+     * @param id    Id of the segment, which orders segments from oldest to newest.
+     * @param file  The segment file.
+     * @param flags Flags written to the header of a new segment.
+     * @throws IOException If the file can't be opened or isn't a segment.
+     */
+    StoreSegment(long id, @NonNull File file, int flags) throws IOException {
+
+        this.id = id;
+        this.file = file;
+        this.randomAccessFile = new RandomAccessFile(file, "rw");
+        this.channel = randomAccessFile.getChannel();
+
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).put((byte) VERSION).put((byte) flags).putShort((short) 0);
+                header.flip();
+                channel.truncate(0);
+                writeFully(header, 0);
+                this.flags = flags;
+                this.size = HEADER_SIZE;
+            } else {
+                this.flags = readFlags(file);
+                this.size = channel.size();
+            }
+        } catch (IOException e) {
+            IOUtil.closeQuietly(randomAccessFile);
+            throw e;
+        }
+    }
+
+
+    /**
+     * Returns the name of the file of the segment with {@code id}.
+     */
+    @NonNull
+    static String getFileName(long id) {
+        return id + EXTENSION;
+    }
+
+
+    /**
+     * Returns the id of the segment stored in {@code file}.
+     *
+     * @return The id or -1 if the file is not a segment.
+     */
+    static long getId(@NonNull File file) {
+
+        long id = -1;
+        String name = file.getName();
+
+        if (name.endsWith(EXTENSION)) {
+            try {
+                id = Long.parseLong(name.substring(0, name.length() - EXTENSION.length()));
+            } catch (NumberFormatException e) {
+                id = -1;
+            }
+        }
+
+        return id;
+    }
+
+
+    /**
+     * Reads the flags of the segment in {@code file} without opening it for writing.
+     *
+     * @return The flags or 0 if the file is too short to have a header.
+     * @throws IOException If the file can't be read or isn't a segment.
+     */
+    static int readFlags(@NonNull File file) throws IOException {
+
+        int flags = 0;
+
+        if (file.length() >= HEADER_SIZE) {
+            DataInputStream input = new DataInputStream(new FileInputStream(file));
+            try {
+                if (input.readInt() != MAGIC) {
+                    throw new StreamCorruptedException(file.getPath() + " is not a segment");
+                }
+                int version = input.readUnsignedByte();
+                if (version != VERSION) {
+                    throw new StreamCorruptedException("Unsupported segment version " + version);
+                }
+                flags = input.readUnsignedByte();
+            } finally {
+                IOUtil.closeQuietly(input);
+            }
+        }
+
+        return flags;
+    }
+
+
+    /**
+     * Builds a record.
+     *
+     * @param type   {@link #PUT} or {@link #REMOVE}.
+     * @param key    The key.
+     * @param object The object of a {@link #PUT} record.
+     * @return The record, ready to be written.
+     * @throws IOException If the key is too long or the object can't be serialized.
+     */
+    @NonNull
+    static ByteBuffer createRecord(byte type, @NonNull String key, @Nullable Object object)
+            throws IOException {
+
+        RecordBuffer buffer = new RecordBuffer();
+        DataOutputStream output = new DataOutputStream(buffer);
+
+        output.writeLong(0);
+        output.writeByte(type);
+        output.writeUTF(key);
+        if (object != null) {
+            ObjectCodec.write(object, output, WriteOptions.NO_COMPRESSION);
+        }
+
+        byte[] array = buffer.getArray();
+        int bodyLength = buffer.size() - RECORD_HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(array, RECORD_HEADER_SIZE, bodyLength);
+
+        ByteBuffer record = ByteBuffer.wrap(array, 0, buffer.size());
+        record.putInt(0, bodyLength);
+        record.putInt(4, (int) crc.getValue());
+        return record;
+    }
+
+
+    /**
+     * Appends {@code record} to the end of the segment.
+     *
+     * @return The offset it was written at.
+     */
+    long append(@NonNull ByteBuffer record) throws IOException {
+        long offset = size;
+        writeFully(record, offset);
+        size = offset + record.limit();
+        return offset;
+    }
+
+
+    /**
+     * Reads the object of the {@link #PUT} record at {@code offset}.
+     *
+     * @param offset Offset of the record.
+     * @param length Length of the whole record.
+     * @return The object.
+     * @throws IOException            If the record can't be read or is corrupt.
+     * @throws ClassNotFoundException If Java serialization can't find the class of the object.
+     */
+    @NonNull
+    Object readObject(long offset, int length) throws IOException, ClassNotFoundException {
+
+        ByteBuffer record = readRecord(offset, length);
+        byte[] array = record.array();
+        CRC32 crc = new CRC32();
+        crc.update(array, RECORD_HEADER_SIZE, length - RECORD_HEADER_SIZE);
+        if (record.getInt(4) != (int) crc.getValue()) {
+            throw new StreamCorruptedException("Corrupt record at " + offset + " in "
+                    + file.getPath());
+        }
+
+        ByteArrayInputStream input = new ByteArrayInputStream(array, RECORD_HEADER_SIZE,
+                length - RECORD_HEADER_SIZE);
+        DataInputStream body = new DataInputStream(input);
+        body.readByte();
+        body.readUTF();
+        return ObjectCodec.read(input);
+    }
+
+
+    /**
+     * Reads the record at {@code offset} as it is, ready to be appended to another segment.
+     *
+     * @param offset Offset of the record.
+     * @param length Length of the whole record.
+     * @return The record.
+     * @throws IOException If the record can't be read.
+     */
+    @NonNull
+    ByteBuffer readRecord(long offset, int length) throws IOException {
+
+        ByteBuffer record = ByteBuffer.allocate(length);
+        while (record.hasRemaining()) {
+            if (channel.read(record, offset + record.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+
+        record.flip();
+        return record;
+    }
+
+
+    /**
+     * Reads every record from the beginning, stopping at the first one that is incomplete or
+     * corrupt, which is where the app died while writing.
+     *
+     * @param visitor Object receiving the records.
+     * @return The offset where valid records end.
+     * @throws IOException If the file can't be read.
+     */
+    long scan(@NonNull RecordVisitor visitor) throws IOException {
+
+        DataInputStream input = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(file), SCAN_BUFFER_SIZE));
+        long offset = HEADER_SIZE;
+        byte[] body = new byte[256];
+        CRC32 crc = new CRC32();
+
+        try {
+            long skipped = input.skip(HEADER_SIZE);
+            boolean valid = skipped == HEADER_SIZE;
+
+            while (valid && offset + RECORD_HEADER_SIZE <= size) {
+                int bodyLength = input.readInt();
+                int checksum = input.readInt();
+                valid = bodyLength > 0 && bodyLength <= size - offset - RECORD_HEADER_SIZE;
+                if (valid) {
+                    if (body.length < bodyLength) {
+                        body = new byte[Math.max(bodyLength, body.length * 2)];
+                    }
+                    input.readFully(body, 0, bodyLength);
+                    crc.reset();
+                    crc.update(body, 0, bodyLength);
+                    valid = checksum == (int) crc.getValue();
+                }
+                if (valid) {
+                    DataInputStream record = new DataInputStream(
+                            new ByteArrayInputStream(body, 0, bodyLength));
+                    byte type = record.readByte();
+                    String key = record.readUTF();
+                    int length = RECORD_HEADER_SIZE + bodyLength;
+                    visitor.onRecord(type, key, offset, length);
+                    offset += length;
+                }
+            }
+        } finally {
+            IOUtil.closeQuietly(input);
+        }
+
+        return offset;
+    }
+
+
+    /**
+     * Drops everything after {@code length}, such as a record left incomplete.
+     */
+    void truncate(long length) throws IOException {
+        channel.truncate(length);
+        size = length;
+    }
+
+
+    /**
+     * Syncs the written records as required by {@code durability}.
+     */
+    void sync(@NonNull WriteOptions.Durability durability) throws IOException {
+        WriteSession.sync(channel, durability);
+    }
+
+
+    long getId() {
+        return id;
+    }
+
+
+    @NonNull
+    File getFile() {
+        return file;
+    }
+
+
+    boolean isCompacted() {
+        return (flags & FLAG_COMPACTED) != 0;
+    }
+
+
+    /**
+     * Returns the length of the file, including its header.
+     */
+    long getSize() {
+        return size;
+    }
+
+
+    void close() {
+        IOUtil.closeQuietly(randomAccessFile);
+    }
+
+
+    private void writeFully(@NonNull ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+
+    /**
+     * Receives the records read by {@link #scan(RecordVisitor)}.
+     */
+    interface RecordVisitor {
+
+        /**
+         * @param type   {@link #PUT} or {@link #REMOVE}.
+         * @param key    The key of the record.
+         * @param offset Offset of the record in the segment.
+         * @param length Length of the whole record.
+         */
+        void onRecord(byte type, @NonNull String key, long offset, int length) throws IOException;
+    }
+
+
+    /**
+     * Byte array output stream whose array can be wrapped without copying it.
+     */
+    private static class RecordBuffer extends ByteArrayOutputStream {
+
+        RecordBuffer() {
+            super(256);
+        }
+
+        byte[] getArray() {
+            return buf;
+        }
+    }
+}
@@ -2,12 +2,17 @@ package melerospaw.memoryutil;
 
 import android.support.annotation.NonNull;
 
+import java.nio.charset.Charset;
+
 /**
  * Created by Juan José Melero on 26/08/2016.
  */
 class StringUtil {
 
     public static final String EMPTY = "";
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final Charset US_ASCII = Charset.forName("US-ASCII");
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
     private static final String formatPlaceholderRegEx = "\\%[0-9]*\\$(s|d)";
 
     /**
@@ -62,4 +67,40 @@ class StringUtil {
     public static String getContainerFolder(@NonNull String path){
         return path.substring(0, path.lastIndexOf("/"));
     }
+
+
+    /**
+     * Decodes the first {@code length} bytes of {@code bytes} in a single pass. Text encoded in
+     * UTF-8 or US-ASCII that only contains ASCII characters, as most config and JSON files do, is
+     * decoded as ISO-8859-1, which maps every byte to a char without any decoding logic.
+     *
+     * @param bytes   The encoded text.
+     * @param length  Amount of bytes to decode.
+     * @param charset Charset the text is encoded with.
+     * @return The decoded text.
+     */
+    static String decode(@NonNull byte[] bytes, int length, @NonNull Charset charset) {
+
+        String text;
+
+        if ((charset.equals(UTF_8) || charset.equals(US_ASCII)) && isAscii(bytes, length)) {
+            text = new String(bytes, 0, length, ISO_8859_1);
+        } else {
+            text = new String(bytes, 0, length, charset);
+        }
+
+        return text;
+    }
+
+
+    private static boolean isAscii(@NonNull byte[] bytes, int length) {
+
+        boolean isAscii = true;
+
+        for (int i = 0; isAscii && i < length; i++) {
+            isAscii = bytes[i] >= 0;
+        }
+
+        return isAscii;
+    }
 }
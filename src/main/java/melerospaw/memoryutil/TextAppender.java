@@ -0,0 +1,422 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends text to a file that stays open, so that appending many small texts, such as log lines,
+ * doesn't open and close the file every time. Get one from
+ * {@link MemoryUtil#openTextAppender(String, AppenderOptions)} and close it when you're done.
+ * <p>Appended text is encoded into a memory buffer shared by every thread using the appender,
+ * and the whole buffer is written at once when it reaches the flush size, when the flush interval
+ * elapses or when {@link #flush()} or {@link #close()} are called. While a buffer is being
+ * written, other threads keep appending to a second one, so they are never blocked by the
+ * storage unless they fill it too.</p>
+ * <p>If the {@link AppenderOptions} say so, the file is rotated when it reaches a size or an age:
+ * it's renamed to {@code name.1}, older generations are shifted and the oldest one is deleted,
+ * all through renames, so readers never find a half rotated file. Since the size is tracked in
+ * memory, checking it costs nothing. When rotating by age, the time the file was started is kept
+ * in a hidden file next to it ({@code .name.start}), so its age survives reopening it.</p>
+ * <p>Every call to {@link #append(CharSequence)} or {@link #appendLine(CharSequence)} is written
+ * as a whole and in order with respect to other calls from the same thread. If a write fails,
+ * every later call throws the same {@code IOException}.</p>
+ */
+public class TextAppender implements Closeable, Flushable {
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String START_PREFIX = ".";
+    private static final String START_EXTENSION = ".start";
+    private static final Object SCHEDULER_LOCK = new Object();
+    private static ScheduledExecutorService scheduler;
+
+    private final File file;
+    private final AppenderOptions options;
+    private final byte[] lineSeparator;
+    private final Object appendLock = new Object();
+    private final Object writeLock = new Object();
+    private final int bufferCapacity;
+    private final FileRotator rotator;
+    private ByteBuffer pending;
+    private ByteBuffer writing;
+    private FileChannel channel;
+    private long size;
+    private long segmentStart;
+    private ScheduledFuture<?> flushTask;
+    private volatile boolean closed;
+    private volatile IOException error;
+
+
+    /**
+     * @param file    The file to append to. It's created if it doesn't exist.
+     * @param options How to write.
+     * @throws IOException If the file cannot be opened.
+     */
+    TextAppender(@NonNull File file, @NonNull AppenderOptions options) throws IOException {
+
+        this.file = file;
+        this.options = options;
+        this.lineSeparator = LINE_SEPARATOR.getBytes(options.getCharset());
+        this.bufferCapacity = Math.max(options.getFlushSize() * 2, 1024);
+        this.pending = ByteBuffer.allocate(bufferCapacity);
+        this.writing = ByteBuffer.allocate(bufferCapacity);
+        this.rotator = new FileRotator(file, options.getGenerations(),
+                options.shouldCompressGenerations(), options.getDurability());
+
+        openFile();
+
+        if (options.getFlushInterval() > 0) {
+            flushTask = getScheduler().scheduleWithFixedDelay(new FlushTask(),
+                    options.getFlushInterval(), options.getFlushInterval(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Returns the file being appended to.
+     */
+    @NonNull
+    public File getFile() {
+        return file;
+    }
+
+
+    /**
+     * Returns the size of the file, counting only the bytes already written to it and not those
+     * still pending.
+     */
+    public long getSize() {
+        synchronized (writeLock) {
+            return size;
+        }
+    }
+
+
+    /**
+     * Appends {@code text} to the file.
+     *
+     * @param text The text to be appended.
+     * @throws IOException If the appender is closed or a previous write failed.
+     */
+    public void append(@NonNull CharSequence text) throws IOException {
+        add(text.toString().getBytes(options.getCharset()), new byte[0]);
+    }
+
+
+    /**
+     * Appends {@code line} and a line separator to the file.
+     *
+     * @param line The line to be appended, without line separator.
+     * @throws IOException If the appender is closed or a previous write failed.
+     */
+    public void appendLine(@NonNull CharSequence line) throws IOException {
+        add(line.toString().getBytes(options.getCharset()), lineSeparator);
+    }
+
+
+    /**
+     * Writes every pending byte to the file and syncs it as required by the durability in the
+     * {@link AppenderOptions}.
+     *
+     * @throws IOException If writing fails, the appender is closed or a previous write failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            ensureUsable();
+            writePending();
+        }
+    }
+
+
+    /**
+     * Writes every pending byte and rotates the file right away, whatever its size and age.
+     *
+     * @throws IOException If writing or rotating fails, the appender is closed or a previous
+     *                     write failed.
+     */
+    public void rotate() throws IOException {
+        synchronized (writeLock) {
+            ensureUsable();
+            writePending();
+            rotateFile();
+        }
+    }
+
+
+    /**
+     * Writes every pending byte and closes the file. Calling it more than once has no effect.
+     *
+     * @throws IOException If writing the pending bytes or closing the file fails.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            if (!closed) {
+                synchronized (appendLock) {
+                    closed = true;
+                }
+
+                if (flushTask != null) {
+                    flushTask.cancel(false);
+                }
+
+                try {
+                    if (error == null) {
+                        writePending();
+                    }
+                } finally {
+                    channel.close();
+                }
+            }
+        }
+    }
+
+
+    private void add(@NonNull byte[] bytes, @NonNull byte[] suffix) throws IOException {
+
+        int length = bytes.length + suffix.length;
+        boolean added = false;
+
+        while (!added) {
+            boolean flushNeeded;
+
+            synchronized (appendLock) {
+                ensureUsable();
+                if (length <= pending.remaining()) {
+                    pending.put(bytes);
+                    pending.put(suffix);
+                    added = true;
+                }
+                flushNeeded = !added || pending.position() >= options.getFlushSize();
+            }
+
+            if (flushNeeded) {
+                if (!added && length > bufferCapacity) {
+                    writeDirectly(bytes, suffix);
+                    added = true;
+                } else {
+                    flush();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Writes a text that doesn't fit in the buffers after the pending bytes.
+     */
+    private void writeDirectly(@NonNull byte[] bytes, @NonNull byte[] suffix) throws IOException {
+        synchronized (writeLock) {
+            ensureUsable();
+            writePending();
+            rotateIfNeeded(bytes.length + suffix.length);
+            write(ByteBuffer.wrap(bytes));
+            write(ByteBuffer.wrap(suffix));
+            sync();
+        }
+    }
+
+
+    /**
+     * Swaps the buffers so appending threads can go on while the pending bytes are written. Must
+     * be called holding {@code writeLock}.
+     */
+    private void writePending() throws IOException {
+
+        synchronized (appendLock) {
+            ByteBuffer full = pending;
+            pending = writing;
+            writing = full;
+        }
+
+        writing.flip();
+        try {
+            if (writing.hasRemaining()) {
+                rotateIfNeeded(writing.remaining());
+                write(writing);
+                sync();
+            }
+        } finally {
+            writing.clear();
+        }
+    }
+
+
+    /**
+     * Writes every byte in {@code buffer}. Must be called holding {@code writeLock}.
+     */
+    private void write(@NonNull ByteBuffer buffer) throws IOException {
+        try {
+            while (buffer.hasRemaining()) {
+                size += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            error = e;
+            throw e;
+        }
+    }
+
+
+    /**
+     * Rotates the file if writing {@code length} more bytes would exceed the rotate size, or if
+     * it's older than the rotate age. Empty files are never rotated. Must be called holding
+     * {@code writeLock}.
+     */
+    private void rotateIfNeeded(long length) throws IOException {
+        if (options.isRotating() && size > 0
+                && (options.getRotateSize() > 0 && size + length > options.getRotateSize()
+                || options.getRotateAge() > 0
+                && System.currentTimeMillis() - segmentStart >= options.getRotateAge())) {
+            rotateFile();
+        }
+    }
+
+
+    /**
+     * Closes the file, turns it into the first generation and starts a new one. Must be called
+     * holding {@code writeLock}.
+     */
+    private void rotateFile() throws IOException {
+        try {
+            channel.close();
+            rotator.rotate();
+            openFile();
+        } catch (IOException e) {
+            error = e;
+            throw e;
+        }
+    }
+
+
+    private void sync() throws IOException {
+        try {
+            WriteSession.sync(channel, options.getDurability());
+        } catch (IOException e) {
+            error = e;
+            throw e;
+        }
+    }
+
+
+    private void openFile() throws IOException {
+
+        boolean existed = file.exists();
+
+        channel = new FileOutputStream(file, true).getChannel();
+        size = channel.size();
+        if (options.getRotateAge() > 0) {
+            segmentStart = size > 0 ? readSegmentStart() : -1;
+            if (segmentStart < 0) {
+                segmentStart = System.currentTimeMillis();
+                writeSegmentStart();
+            }
+        }
+
+        if (!existed && options.getDurability() == WriteOptions.Durability.FULL) {
+            IOUtil.syncFolder(file.getAbsoluteFile().getParentFile());
+        }
+    }
+
+
+    /**
+     * Reads when the file was started from its hidden start file.
+     *
+     * @return The time or -1 if it's unknown.
+     */
+    private long readSegmentStart() {
+
+        long start = -1;
+        File startFile = getStartFile();
+
+        if (startFile.length() == 8) {
+            try {
+                DataInputStream inputStream = new DataInputStream(new FileInputStream(startFile));
+                try {
+                    start = inputStream.readLong();
+                } finally {
+                    IOUtil.closeQuietly(inputStream);
+                }
+            } catch (IOException e) {
+                start = -1;
+            }
+        }
+
+        return start;
+    }
+
+
+    /**
+     * Saves {@link #segmentStart} to the hidden start file. If it can't be saved, the age of the
+     * file will be counted from when it's opened next.
+     */
+    private void writeSegmentStart() {
+        try {
+            DataOutputStream outputStream =
+                    new DataOutputStream(new FileOutputStream(getStartFile()));
+            try {
+                outputStream.writeLong(segmentStart);
+            } finally {
+                IOUtil.closeQuietly(outputStream);
+            }
+        } catch (IOException e) {
+            // Not worth failing the append for
+        }
+    }
+
+
+    @NonNull
+    private File getStartFile() {
+        return new File(file.getAbsoluteFile().getParentFile(),
+                START_PREFIX + file.getName() + START_EXTENSION);
+    }
+
+
+    private void ensureUsable() throws IOException {
+        if (error != null) {
+            throw error;
+        } else if (closed) {
+            throw new IOException("Appender to " + file.getPath() + " is closed");
+        }
+    }
+
+
+    private static ScheduledExecutorService getScheduler() {
+        synchronized (SCHEDULER_LOCK) {
+            if (scheduler == null) {
+                scheduler = IoExecutors.newScheduledExecutor();
+            }
+            return scheduler;
+        }
+    }
+
+
+    private class FlushTask implements Runnable {
+
+        @Override
+        public void run() {
+            synchronized (writeLock) {
+                if (!closed && error == null) {
+                    try {
+                        writePending();
+                    } catch (IOException e) {
+                        // Reported to the next caller, since error is set by write() and sync()
+                    }
+                }
+            }
+        }
+    }
+}
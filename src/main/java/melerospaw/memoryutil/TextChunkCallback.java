@@ -0,0 +1,20 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Receives the decoded content of a text file in chunks, as delivered by
+ * {@link MemoryUtil#loadTextFileMapped(String, java.nio.charset.Charset, TextChunkCallback)}.
+ */
+public interface TextChunkCallback {
+
+    /**
+     * Called for every chunk of decoded text, in order. The same {@code CharSequence} is reused
+     * for every chunk, so it's only valid until this method returns. Call {@code toString()} on
+     * the parts you want to keep.
+     *
+     * @param chunk The next chars of the file. Lines may be split between two chunks.
+     * @return {@code true} to keep reading or {@code false} to stop.
+     */
+    boolean onChunk(@NonNull CharSequence chunk);
+}
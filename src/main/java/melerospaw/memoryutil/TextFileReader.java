@@ -0,0 +1,259 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a text file lazily, so files of any size can be processed with constant memory and the
+ * reading can stop at any point. Get one from {@link MemoryUtil#openTextFile(String)}.
+ * <p>It can be used as an {@code Iterable} of lines:</p>
+ * <pre>{@code
+ * TextFileReader reader = MemoryUtil.openTextFile(path).getResult();
+ * try {
+ *     for (CharSequence line : reader) {
+ *         if (isWhatIWasLookingFor(line)) {
+ *             break;
+ *         }
+ *     }
+ * } finally {
+ *     reader.close();
+ * }
+ * }</pre>
+ * <p>Lines are returned without their terminator, which can be {@code \n}, {@code \r} or
+ * {@code \r\n}. To avoid creating an object per line, the same {@code CharSequence} is reused for
+ * every line, so call {@code toString()} on the lines you want to keep.</p>
+ * <p>As a {@link Reader}, it can also be read in chunks of any size with
+ * {@link #read(char[], int, int)}. Both ways of reading share the same position in the file.</p>
+ * <p>Iterators cannot throw {@code IOException}s. If reading fails while iterating, the iteration
+ * ends and {@link #getError()} returns the exception, so check it after the loop if you need to
+ * tell a read error from the end of the file.</p>
+ * <p>The file stays open until {@link #close()} is called, even after iterating all its lines.
+ * Instances are not thread safe.</p>
+ */
+public class TextFileReader extends Reader implements Iterable<CharSequence> {
+
+    /** Amount of chars decoded at once. */
+    static final int BUFFER_SIZE = 8 * 1024;
+
+    private final File file;
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean skipLineFeed;
+    private boolean closed;
+    private boolean iterated;
+    private IOException error;
+
+
+    /**
+     * @param file    The file to be read.
+     * @param charset Charset the file is encoded with.
+     * @throws FileNotFoundException If the file cannot be opened.
+     */
+    TextFileReader(@NonNull File file, @NonNull Charset charset) throws FileNotFoundException {
+        this.file = file;
+        this.reader = new InputStreamReader(new FileInputStream(file), charset);
+    }
+
+
+    /**
+     * Returns the file being read.
+     */
+    @NonNull
+    public File getFile() {
+        return file;
+    }
+
+
+    /**
+     * Returns an iterator over the lines left in the file. Only one iterator can be requested,
+     * since the lines are read as the iterator advances.
+     *
+     * @return The iterator.
+     * @throws IllegalStateException If an iterator was already requested.
+     */
+    @NonNull
+    @Override
+    public Iterator<CharSequence> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("The lines of " + file.getPath()
+                    + " can only be iterated once");
+        }
+        iterated = true;
+        return new LineIterator();
+    }
+
+
+    /**
+     * Reads the next line into {@code destination}, replacing its content.
+     *
+     * @param destination Where the line will be written, without its terminator.
+     * @return {@code true} if a line was read or {@code false} if the end of the file was
+     * reached.
+     * @throws IOException If the file cannot be read or the reader is closed.
+     */
+    public boolean readLine(@NonNull StringBuilder destination) throws IOException {
+
+        boolean lineRead = false;
+        boolean lineEnded = false;
+
+        ensureOpen();
+        destination.setLength(0);
+
+        while (!lineEnded && (position < limit || fill())) {
+
+            // The previous line ended with \r, so a \n right after it is part of its terminator
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                    continue;
+                }
+            }
+
+            lineRead = true;
+            int start = position;
+
+            while (!lineEnded && position < limit) {
+                char c = buffer[position];
+                if (c == '\n' || c == '\r') {
+                    destination.append(buffer, start, position - start);
+                    skipLineFeed = c == '\r';
+                    lineEnded = true;
+                }
+                position++;
+            }
+
+            if (!lineEnded) {
+                destination.append(buffer, start, position - start);
+            }
+        }
+
+        return lineRead;
+    }
+
+
+    @Override
+    public int read(@NonNull char[] destination, int offset, int length) throws IOException {
+
+        int count;
+
+        ensureOpen();
+
+        // The \n ending the last line read with readLine() is not content
+        if (skipLineFeed && (position < limit || fill())) {
+            skipLineFeed = false;
+            if (buffer[position] == '\n') {
+                position++;
+            }
+        }
+
+        if (length == 0) {
+            count = 0;
+        } else if (position >= limit && !fill()) {
+            count = -1;
+        } else {
+            count = Math.min(length, limit - position);
+            System.arraycopy(buffer, position, destination, offset, count);
+            position += count;
+        }
+
+        return count;
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            reader.close();
+        }
+    }
+
+
+    /**
+     * Returns the exception that ended the iteration of the lines early, if any.
+     *
+     * @return The exception or {@code null} if the lines were read without errors.
+     */
+    @Nullable
+    public IOException getError() {
+        return error;
+    }
+
+
+    /**
+     * Decodes more chars into the buffer.
+     *
+     * @return {@code false} if the end of the file was reached.
+     */
+    private boolean fill() throws IOException {
+
+        int count;
+
+        do {
+            count = reader.read(buffer, 0, buffer.length);
+        } while (count == 0);
+
+        position = 0;
+        limit = Math.max(count, 0);
+        return count > 0;
+    }
+
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Reader of " + file.getPath() + " is closed");
+        }
+    }
+
+
+    private class LineIterator implements Iterator<CharSequence> {
+
+        private boolean fetched;
+        private boolean hasLine;
+
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                try {
+                    hasLine = error == null && readLine(line);
+                } catch (IOException e) {
+                    error = e;
+                    hasLine = false;
+                }
+                fetched = true;
+            }
+            return hasLine;
+        }
+
+
+        @Override
+        public CharSequence next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            fetched = false;
+            return line;
+        }
+
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
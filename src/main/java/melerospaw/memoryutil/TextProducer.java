@@ -0,0 +1,22 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.io.IOException;
+
+/**
+ * Writes text piece by piece, as it's generated, so that it never needs to be held in memory as
+ * a whole. Used by
+ * {@link MemoryUtil#saveTextFile(TextProducer, String, boolean, WriteOptions)}.
+ */
+public interface TextProducer {
+
+    /**
+     * Called once to write all the text to {@code output}, which encodes it and writes it to the
+     * file as it goes.
+     *
+     * @param output Where to write the text. Don't keep it after this method returns.
+     * @throws IOException If writing fails, or to abort the save.
+     */
+    void produce(@NonNull Appendable output) throws IOException;
+}
@@ -10,7 +10,10 @@ class ValidationEnums {
     enum Parameter {
         BITMAP("Bitmap", "the bitmap"),
         BYTE_ARRAY("byte[]", "the byte[]"),
+        CALLBACK("callback", "the callback"),
+        CHARSET("Charset", "the charset"),
         CLASS("Class", "the class"),
+        CONCURRENCY("concurrency", "the concurrency"),
         CONTEXT("Context", "the context"),
         DATABASE_NAME("data base name", "the data base name"),
         DESTINATION_FOLDER_FILE(DESTINATION_FOLDER, DESTINATION_FOLDER_DESCRIPTION),
@@ -21,8 +24,12 @@ class ValidationEnums {
         FILE("File", "the file"),
         FILE_NAME("file name", "the file name"),
         FOLDER("folder", "the folder"),
+        FROM_LINE("first line", "the first line"),
         INPUTSTREAM("InputStream", "the InputStream"),
+        KEY("key", "the key"),
+        LINE_COUNT("line count", "the line count"),
         OBJECT("Object", "the object"),
+        OBJECTS("objects", "the map of objects"),
         ORIGIN_FOLDER_FILE(ORIGIN_FOLDER, ORIGIN_FOLDER_DESCRIPTION),
         ORIGIN_FOLDER_PATH(ORIGIN_FOLDER, ORIGIN_FOLDER_DESCRIPTION),
         ORIGIN_FOLDER_PATH_OBJECT(ORIGIN_FOLDER, ORIGIN_FOLDER_DESCRIPTION),
@@ -30,6 +37,9 @@ class ValidationEnums {
         ORIGIN_PATH_OBJECT("origin Path object", "the origin Path object"),
         ORIGIN_URI("origin uri", "the origin uri"),
         PATH("path to file", "the path to file"),
+        PATTERN("Pattern", "the pattern"),
+        PRODUCER("TextProducer", "the producer"),
+        READER("Reader", "the reader"),
         PATH_IN_URI("path in Uri", "the file referenced by the Uri"),
         PATH_OBJECT("Path object", "the Path object"),
         PATH_OBJECT_STRING("String path in origin Path object", "the String path contained in the origin Path object"),
@@ -39,6 +49,7 @@ class ValidationEnums {
         PATH_TO_FOLDER("path to folder", "the path to folder"),
         SHARED_PREFERENCES("SharedPreferences", "the SharedPreferences object"),
         TEXT("text", "the text"),
+        TEXTS("texts", "the texts"),
         UNEXPECTED_PARAMETER("unexpected parameter", "some of the parameters");
 
         public final String parameterName;
@@ -62,10 +73,13 @@ class ValidationEnums {
         CONTAINER_FOLDER_DOESNT_EXIST("would be contained in a folder that still doesn't exist. You must create it first"),
         EXISTS_AS_NOT_DIRECTORY("already exists and is not a directory"),
         FILE_DOESNT_EXIST("doesn't exist"),
+        INVALID_ENTRY("has a null key or a value that is null or not serializable"),
         IS_A_DIRECTORY("is a directory when it should be a file"),
         IS_EMPTY("is empty"),
         IS_NULL("is null"),
+        NEGATIVE("is lower than zero"),
         NOT_A_DIRECTORY("is not a directory"),
+        NOT_POSITIVE("is not greater than zero"),
         NOT_SERIALIZABLE("is not serializable"),
         UNEXPECTED("is unexpected"),
         UNPARSEABLE_URI("refers to a file that couldn't be converted into an InputStream");
@@ -87,12 +101,15 @@ class ValidationEnums {
         DELETE_FILE("deleteFile(pathToFile)"),
         DUPLICATE_FILE("duplicateFile(originPath, destinationPath)"),
         DUPLICATE_FOLDER("duplicateFolder(originFolder, destinationFolder)"),
+        DUPLICATE_FOLDER_PARALLEL("duplicateFolder(originFolder, destinationFolder, concurrency)"),
         EXISTS("exists(pathToFile)"),
         EXISTS_FILE("exists(file)"),
         GET_FILES_IN_DIRECTORY("getFilesInDirectory(folder)"),
         GET_FILE_TREE("getFileTree(folder)"),
         GET_LONGEST_PATH("getLongestPath(path)"),
+        GET_STORED_OBJECT("get(key)"),
         IMPORT_DATABASE_FROM_ASSETS("importDatabaseFromAssets(context, dataBaseName)"),
+        INDEX_TEXT_FILE("indexTextFile(originPath)"),
         IMPORT_FROM_ASSETS("importFromAssets(context, fileName, destinationPath)"),
         IS_DIRECTORY("isDirectory(path)"),
         IS_FOLDER_EMPTY("isFolderEmpty(folder)"),
@@ -100,15 +117,34 @@ class ValidationEnums {
         LOAD_BITMAP("loadBitmap(originPath)"),
         LOAD_BITMAP_FROM_ASSETS("loadBitmapFromAssets(context, fileName)"),
         LOAD_BITMAP_URI("loadBitmap(originUri)"),
+        LOAD_BYTE_ARRAY("loadByteArray(originPath)"),
+        LOAD_BYTE_ARRAY_MAPPED("loadByteArrayMapped(originPath)"),
+        LOAD_CONTAINED_OBJECT("loadObject(container, key)"),
         LOAD_OBJECT("loadObject(originPath, class)"),
         LOAD_SHARED_PREFERENCES("loadSharedPreferences(originPath)"),
         LOAD_SHARED_PREFERENCES_2("loadSharedPreferences(originPath, sharedPreferences)"),
         LOAD_TEXT_FILE("loadTextFile(originPath)"),
+        LOAD_TEXT_FILE_CHARSET("loadTextFile(originPath, charset)"),
+        LOAD_TEXT_FILE_MAPPED("loadTextFileMapped(originPath, charset, callback)"),
+        MIRROR_FOLDER("mirrorFolder(originFolder, destinationFolder)"),
+        OPEN_OBJECT_STORE("openObjectStore(destinationFolder)"),
+        OPEN_TEXT_APPENDER("openTextAppender(destinationPath)"),
+        OPEN_TEXT_FILE("openTextFile(originPath)"),
+        OPEN_TEXT_FILE_REVERSED("openTextFileReversed(originPath)"),
+        PUT_STORED_OBJECT("put(key, object)"),
+        READ_LINES("readLines(originPath, fromLine, count)"),
+        REMOVE_STORED_OBJECT("remove(key)"),
+        SEARCH_FOLDER("searchFolder(rootFolder, filter, pattern, concurrency, callback)"),
         SAVE_BITMAP("saveBitmap(bitmap, destinationPath)"),
         SAVE_BYTE_ARRAY("saveByteArray(byteArray, destinationPath)"),
         SAVE_OBJECT("saveObject(object, destinationPath)"),
+        SAVE_OBJECTS("saveObjects(objects, destinationPath)"),
         SAVE_SHARED_PREFERENCES("saveSharedPreferences(sharedPreferences, destinationPath)"),
-        SAVE_TEXT_FILE("saveTextFile(text, destinationPath)");
+        SAVE_TEXT_FILE("saveTextFile(text, destinationPath)"),
+        SAVE_TEXT_FILE_PRODUCER("saveTextFile(producer, destinationPath)"),
+        SAVE_TEXT_FILE_READER("saveTextFile(reader, destinationPath)"),
+        SAVE_TEXT_FILE_TEXTS("saveTextFile(texts, destinationPath)"),
+        TAIL("tail(originPath, lineCount)");
 
 
         public final String description;
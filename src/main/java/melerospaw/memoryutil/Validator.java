@@ -9,9 +9,12 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.io.Serializable;
+import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import melerospaw.memoryutil.ValidationEnums.Invalidity;
 import melerospaw.memoryutil.ValidationEnums.Method;
@@ -78,12 +81,19 @@ class Validator implements ValidatorInterface {
                     case TEXT:
                     case CLASS:
                     case BYTE_ARRAY:
+                    case CHARSET:
+                    case CALLBACK:
+                    case PATTERN:
+                    case PRODUCER:
+                    case READER:
+                    case TEXTS:
                         info = validateNull(value, info, parameter);
                         break;
                     case PATH_OBJECT_TO_FILE:
                         info = validatePathToFile((Path) value, info);
                         break;
                     case FILE_NAME:
+                    case KEY:
                     case PATH_TO_FILE:
                     case PATH:
                     case DATABASE_NAME:
@@ -96,6 +106,16 @@ class Validator implements ValidatorInterface {
                     case OBJECT:
                         info = validateObject(value, info);
                         break;
+                    case OBJECTS:
+                        info = validateObjects((Map<?, ?>) value, info);
+                        break;
+                    case CONCURRENCY:
+                        info = validatePositive((Integer) value, info, parameter);
+                        break;
+                    case FROM_LINE:
+                    case LINE_COUNT:
+                        info = validateNotNegative((Number) value, info, parameter);
+                        break;
                     default:
                         info.setUnexpectedParamInfo();
                 }
@@ -149,6 +169,8 @@ class Validator implements ValidatorInterface {
             invalidity = invalidityAux;
         } else if (!new File(originPath).exists()) {
             invalidity = Invalidity.FILE_DOESNT_EXIST;
+        } else if (isFileRequired() && new File(originPath).isDirectory()) {
+            invalidity = Invalidity.IS_A_DIRECTORY;
         } else {
             invalidity = Invalidity.NONE;
         }
@@ -308,7 +330,8 @@ class Validator implements ValidatorInterface {
         Invalidity invalidityAux = validateNull(object);
         if (invalidityAux != Invalidity.NONE) {
             invalidity = invalidityAux;
-        } else if (!(object instanceof Serializable)) {
+        } else if (!(object instanceof Serializable)
+                && !Serializers.canSerialize(object.getClass())) {
             invalidity = Invalidity.NOT_SERIALIZABLE;
         } else {
             invalidity = Invalidity.NONE;
@@ -320,6 +343,27 @@ class Validator implements ValidatorInterface {
     }
 
 
+    private ValidationInfoInterface validateObjects(Map<?, ?> objects,
+                                                    ValidationInfoInterface info) {
+
+        Invalidity invalidity = validateNull(objects);
+
+        if (invalidity == Invalidity.NONE) {
+            for (Map.Entry<?, ?> entry : objects.entrySet()) {
+                Object value = entry.getValue();
+                if (entry.getKey() == null || value == null || (!(value instanceof Serializable)
+                        && !Serializers.canSerialize(value.getClass()))) {
+                    invalidity = Invalidity.INVALID_ENTRY;
+                    break;
+                }
+            }
+        }
+
+        setValidationValues(info, Parameter.OBJECTS, invalidity, invalidity == Invalidity.NONE);
+        return info;
+    }
+
+
     private ValidationInfoInterface validateFileName(HashMap<Parameter, Object> parameters,
                                                      ValidationInfoInterface info) {
 
@@ -362,6 +406,8 @@ class Validator implements ValidatorInterface {
         } else {
             if (!new File(stringPath).exists()) {
                 invalidity = Invalidity.FILE_DOESNT_EXIST;
+            } else if (isFileRequired() && new File(stringPath).isDirectory()) {
+                invalidity = Invalidity.IS_A_DIRECTORY;
             } else {
                 invalidity = Invalidity.NONE;
             }
@@ -373,6 +419,15 @@ class Validator implements ValidatorInterface {
     }
 
 
+    /**
+     * Tells whether the origin path of the method must be a file and not a folder, for methods
+     * that would fail reading a folder in a less clear way.
+     */
+    private boolean isFileRequired() {
+        return method == Method.LOAD_BYTE_ARRAY || method == Method.LOAD_BYTE_ARRAY_MAPPED;
+    }
+
+
     private ValidationInfoInterface validateOriginUri(Uri originUri, ValidationInfoInterface info) {
 
         Invalidity invalidity;
@@ -418,6 +473,41 @@ class Validator implements ValidatorInterface {
         return info;
     }
 
+    private ValidationInfoInterface validatePositive(Integer number, ValidationInfoInterface info,
+                                                     Parameter parameter) {
+        Invalidity invalidity;
+
+        if (number == null) {
+            invalidity = Invalidity.IS_NULL;
+        } else if (number <= 0) {
+            invalidity = Invalidity.NOT_POSITIVE;
+        } else {
+            invalidity = Invalidity.NONE;
+        }
+
+        boolean isValid = invalidity == Invalidity.NONE;
+        setValidationValues(info, parameter, invalidity, isValid);
+        return info;
+    }
+
+    private ValidationInfoInterface validateNotNegative(Number number,
+                                                        ValidationInfoInterface info,
+                                                        Parameter parameter) {
+        Invalidity invalidity;
+
+        if (number == null) {
+            invalidity = Invalidity.IS_NULL;
+        } else if (number.longValue() < 0) {
+            invalidity = Invalidity.NEGATIVE;
+        } else {
+            invalidity = Invalidity.NONE;
+        }
+
+        boolean isValid = invalidity == Invalidity.NONE;
+        setValidationValues(info, parameter, invalidity, isValid);
+        return info;
+    }
+
     private Invalidity validateNull(Object object) {
         return object == null ? Invalidity.IS_NULL : Invalidity.NONE;
     }
@@ -440,7 +530,10 @@ class Validator implements ValidatorInterface {
     private Invalidity isValidForSaving(String path, ValidationInfoInterface info) {
 
         boolean isFolder = info.getMethod() == Method.CREATE_FOLDER
-                || info.getMethod() == Method.DUPLICATE_FOLDER;
+                || info.getMethod() == Method.DUPLICATE_FOLDER
+                || info.getMethod() == Method.DUPLICATE_FOLDER_PARALLEL
+                || info.getMethod() == Method.MIRROR_FOLDER
+                || info.getMethod() == Method.OPEN_OBJECT_STORE;
 
         ValidationInfoInterface infoAux =
                 ValidationUtils.isPathValidForSaving(new File(path), isFolder, info);
@@ -537,6 +630,66 @@ class Validator implements ValidatorInterface {
         return validator.assertAreParametersValid();
     }
 
+    public static ValidationInfoInterface validateSaveTextFile(Reader reader,
+                                                               String destinationPath) {
+        Method method = Method.SAVE_TEXT_FILE_READER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.READER, reader);
+        parameters.put(Parameter.DESTINATION_PATH, destinationPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateSaveTextFile(Reader reader,
+                                                               Path destinationPath) {
+        Method method = Method.SAVE_TEXT_FILE_READER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.READER, reader);
+        parameters.put(Parameter.DESTINATION_PATH_OBJECT, destinationPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateSaveTextFile(Iterable<? extends CharSequence> texts,
+                                                               String destinationPath) {
+        Method method = Method.SAVE_TEXT_FILE_TEXTS;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.TEXTS, texts);
+        parameters.put(Parameter.DESTINATION_PATH, destinationPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateSaveTextFile(Iterable<? extends CharSequence> texts,
+                                                               Path destinationPath) {
+        Method method = Method.SAVE_TEXT_FILE_TEXTS;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.TEXTS, texts);
+        parameters.put(Parameter.DESTINATION_PATH_OBJECT, destinationPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateSaveTextFile(TextProducer producer,
+                                                               String destinationPath) {
+        Method method = Method.SAVE_TEXT_FILE_PRODUCER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.PRODUCER, producer);
+        parameters.put(Parameter.DESTINATION_PATH, destinationPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateSaveTextFile(TextProducer producer,
+                                                               Path destinationPath) {
+        Method method = Method.SAVE_TEXT_FILE_PRODUCER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.PRODUCER, producer);
+        parameters.put(Parameter.DESTINATION_PATH_OBJECT, destinationPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
     public static ValidationInfoInterface validateLoadTextFile(Path originPath) {
         Method method = Method.LOAD_TEXT_FILE;
         HashMap<Parameter, Object> parameters = new HashMap<>(1);
@@ -553,6 +706,245 @@ class Validator implements ValidatorInterface {
         return validator.assertAreParametersValid();
     }
 
+    public static ValidationInfoInterface validateLoadTextFile(Path originPath, Charset charset) {
+        Method method = Method.LOAD_TEXT_FILE_CHARSET;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.ORIGIN_PATH_OBJECT, originPath);
+        parameters.put(Parameter.CHARSET, charset);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateLoadTextFile(String originPath, Charset charset) {
+        Method method = Method.LOAD_TEXT_FILE_CHARSET;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.ORIGIN_PATH, originPath);
+        parameters.put(Parameter.CHARSET, charset);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateLoadTextFileMapped(Path originPath,
+                                                                     Charset charset,
+                                                                     TextChunkCallback callback) {
+        Method method = Method.LOAD_TEXT_FILE_MAPPED;
+        HashMap<Parameter, Object> parameters = new HashMap<>(3);
+        parameters.put(Parameter.ORIGIN_PATH_OBJECT, originPath);
+        parameters.put(Parameter.CHARSET, charset);
+        parameters.put(Parameter.CALLBACK, callback);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateLoadTextFileMapped(String originPath,
+                                                                     Charset charset,
+                                                                     TextChunkCallback callback) {
+        Method method = Method.LOAD_TEXT_FILE_MAPPED;
+        HashMap<Parameter, Object> parameters = new HashMap<>(3);
+        parameters.put(Parameter.ORIGIN_PATH, originPath);
+        parameters.put(Parameter.CHARSET, charset);
+        parameters.put(Parameter.CALLBACK, callback);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateIndexTextFile(Path originPath) {
+        Method method = Method.INDEX_TEXT_FILE;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.ORIGIN_PATH_OBJECT, originPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateIndexTextFile(String originPath) {
+        Method method = Method.INDEX_TEXT_FILE;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.ORIGIN_PATH, originPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateReadLines(Path originPath, long fromLine,
+                                                            int count) {
+        Method method = Method.READ_LINES;
+        HashMap<Parameter, Object> parameters = new HashMap<>(3);
+        parameters.put(Parameter.ORIGIN_PATH_OBJECT, originPath);
+        parameters.put(Parameter.FROM_LINE, fromLine);
+        parameters.put(Parameter.LINE_COUNT, count);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateReadLines(String originPath, long fromLine,
+                                                            int count) {
+        Method method = Method.READ_LINES;
+        HashMap<Parameter, Object> parameters = new HashMap<>(3);
+        parameters.put(Parameter.ORIGIN_PATH, originPath);
+        parameters.put(Parameter.FROM_LINE, fromLine);
+        parameters.put(Parameter.LINE_COUNT, count);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validatePutStoredObject(String key, Object object) {
+        Method method = Method.PUT_STORED_OBJECT;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.KEY, key);
+        parameters.put(Parameter.OBJECT, object);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateGetStoredObject(String key) {
+        Method method = Method.GET_STORED_OBJECT;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.KEY, key);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateRemoveStoredObject(String key) {
+        Method method = Method.REMOVE_STORED_OBJECT;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.KEY, key);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateOpenObjectStore(Path destinationFolder) {
+        Method method = Method.OPEN_OBJECT_STORE;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.DESTINATION_FOLDER_PATH_OBJECT, destinationFolder);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateOpenObjectStore(String destinationFolder) {
+        Method method = Method.OPEN_OBJECT_STORE;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.DESTINATION_FOLDER_PATH, destinationFolder);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateOpenTextAppender(Path destinationPath) {
+        Method method = Method.OPEN_TEXT_APPENDER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.DESTINATION_PATH_OBJECT, destinationPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateOpenTextAppender(String destinationPath) {
+        Method method = Method.OPEN_TEXT_APPENDER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.DESTINATION_PATH, destinationPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateOpenTextFile(Path originPath) {
+        Method method = Method.OPEN_TEXT_FILE;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.ORIGIN_PATH_OBJECT, originPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateOpenTextFile(String originPath) {
+        Method method = Method.OPEN_TEXT_FILE;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.ORIGIN_PATH, originPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateOpenTextFileReversed(Path originPath) {
+        Method method = Method.OPEN_TEXT_FILE_REVERSED;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.ORIGIN_PATH_OBJECT, originPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateOpenTextFileReversed(String originPath) {
+        Method method = Method.OPEN_TEXT_FILE_REVERSED;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.ORIGIN_PATH, originPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateTail(Path originPath, int lineCount) {
+        Method method = Method.TAIL;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.ORIGIN_PATH_OBJECT, originPath);
+        parameters.put(Parameter.LINE_COUNT, lineCount);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateTail(String originPath, int lineCount) {
+        Method method = Method.TAIL;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.ORIGIN_PATH, originPath);
+        parameters.put(Parameter.LINE_COUNT, lineCount);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateSearchFolder(Path rootFolder, String text,
+                                                               int concurrency,
+                                                               SearchCallback callback) {
+        Method method = Method.SEARCH_FOLDER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(4);
+        parameters.put(Parameter.ORIGIN_FOLDER_PATH_OBJECT, rootFolder);
+        parameters.put(Parameter.TEXT, text);
+        parameters.put(Parameter.CONCURRENCY, concurrency);
+        parameters.put(Parameter.CALLBACK, callback);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateSearchFolder(Path rootFolder, Pattern pattern,
+                                                               int concurrency,
+                                                               SearchCallback callback) {
+        Method method = Method.SEARCH_FOLDER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(4);
+        parameters.put(Parameter.ORIGIN_FOLDER_PATH_OBJECT, rootFolder);
+        parameters.put(Parameter.PATTERN, pattern);
+        parameters.put(Parameter.CONCURRENCY, concurrency);
+        parameters.put(Parameter.CALLBACK, callback);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateSearchFolder(String rootFolder, String text,
+                                                               int concurrency,
+                                                               SearchCallback callback) {
+        Method method = Method.SEARCH_FOLDER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(4);
+        parameters.put(Parameter.ORIGIN_FOLDER_PATH, rootFolder);
+        parameters.put(Parameter.TEXT, text);
+        parameters.put(Parameter.CONCURRENCY, concurrency);
+        parameters.put(Parameter.CALLBACK, callback);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateSearchFolder(String rootFolder, Pattern pattern,
+                                                               int concurrency,
+                                                               SearchCallback callback) {
+        Method method = Method.SEARCH_FOLDER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(4);
+        parameters.put(Parameter.ORIGIN_FOLDER_PATH, rootFolder);
+        parameters.put(Parameter.PATTERN, pattern);
+        parameters.put(Parameter.CONCURRENCY, concurrency);
+        parameters.put(Parameter.CALLBACK, callback);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
     public static ValidationInfoInterface validateSaveObject(Object object, Path destinationPath) {
         Method method = Method.SAVE_OBJECT;
         HashMap<Parameter, Object> parameters = new HashMap<>(2);
@@ -572,6 +964,44 @@ class Validator implements ValidatorInterface {
         return validator.assertAreParametersValid();
     }
 
+    public static ValidationInfoInterface validateSaveObjects(Map<String, ?> objects,
+                                                              Path destinationPath) {
+        Method method = Method.SAVE_OBJECTS;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.OBJECTS, objects);
+        parameters.put(Parameter.DESTINATION_PATH_OBJECT, destinationPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateSaveObjects(Map<String, ?> objects,
+                                                              String destinationPath) {
+        Method method = Method.SAVE_OBJECTS;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.OBJECTS, objects);
+        parameters.put(Parameter.DESTINATION_PATH, destinationPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateLoadObject(Path container, String key) {
+        Method method = Method.LOAD_CONTAINED_OBJECT;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.ORIGIN_PATH_OBJECT, container);
+        parameters.put(Parameter.KEY, key);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateLoadObject(String container, String key) {
+        Method method = Method.LOAD_CONTAINED_OBJECT;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.ORIGIN_PATH, container);
+        parameters.put(Parameter.KEY, key);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
     public static ValidationInfoInterface validateLoadObject(Path originPath, Class clazz) {
         Method method = Method.LOAD_OBJECT;
         HashMap<Parameter, Object> parameters = new HashMap<>(2);
@@ -610,6 +1040,38 @@ class Validator implements ValidatorInterface {
         return validator.assertAreParametersValid();
     }
 
+    public static ValidationInfoInterface validateLoadByteArray(Path originPath) {
+        Method method = Method.LOAD_BYTE_ARRAY;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.ORIGIN_PATH_OBJECT, originPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateLoadByteArray(String originPath) {
+        Method method = Method.LOAD_BYTE_ARRAY;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.ORIGIN_PATH, originPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateLoadByteArrayMapped(Path originPath) {
+        Method method = Method.LOAD_BYTE_ARRAY_MAPPED;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.ORIGIN_PATH_OBJECT, originPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateLoadByteArrayMapped(String originPath) {
+        Method method = Method.LOAD_BYTE_ARRAY_MAPPED;
+        HashMap<Parameter, Object> parameters = new HashMap<>(1);
+        parameters.put(Parameter.ORIGIN_PATH, originPath);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
     public static ValidationInfoInterface validateSaveBitmap(Bitmap bitmap,
                                                              String destinationPath) {
         Method method = Method.SAVE_BITMAP;
@@ -903,4 +1365,48 @@ class Validator implements ValidatorInterface {
         Validator validator = new Validator(parameters, method);
         return validator.assertAreParametersValid();
     }
+
+    public static ValidationInfoInterface validateDuplicateFolder(Path originFolder,
+                                                                  Path destinationFolder,
+                                                                  int concurrency){
+        Method method = Method.DUPLICATE_FOLDER_PARALLEL;
+        HashMap<Parameter, Object> parameters = new HashMap<>(3);
+        parameters.put(Parameter.ORIGIN_FOLDER_PATH_OBJECT, originFolder);
+        parameters.put(Parameter.DESTINATION_FOLDER_PATH_OBJECT, destinationFolder);
+        parameters.put(Parameter.CONCURRENCY, concurrency);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateDuplicateFolder(String originFolder,
+                                                                  String destinationFolder,
+                                                                  int concurrency){
+        Method method = Method.DUPLICATE_FOLDER_PARALLEL;
+        HashMap<Parameter, Object> parameters = new HashMap<>(3);
+        parameters.put(Parameter.ORIGIN_FOLDER_PATH, originFolder);
+        parameters.put(Parameter.DESTINATION_FOLDER_PATH, destinationFolder);
+        parameters.put(Parameter.CONCURRENCY, concurrency);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateMirrorFolder(Path originFolder,
+                                                               Path destinationFolder){
+        Method method = Method.MIRROR_FOLDER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.ORIGIN_FOLDER_PATH_OBJECT, originFolder);
+        parameters.put(Parameter.DESTINATION_FOLDER_PATH_OBJECT, destinationFolder);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
+
+    public static ValidationInfoInterface validateMirrorFolder(String originFolder,
+                                                               String destinationFolder){
+        Method method = Method.MIRROR_FOLDER;
+        HashMap<Parameter, Object> parameters = new HashMap<>(2);
+        parameters.put(Parameter.ORIGIN_FOLDER_PATH, originFolder);
+        parameters.put(Parameter.DESTINATION_FOLDER_PATH, destinationFolder);
+        Validator validator = new Validator(parameters, method);
+        return validator.assertAreParametersValid();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,376 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saves objects in the background a while after being asked to, so that an object saved again
+ * and again, such as settings saved on every {@code onPause()}, is written once with its last
+ * value instead of every time. Build one and keep it, or use the one behind
+ * {@link MemoryUtil#saveObjectLater(Object, String, WriteOptions)}:
+ * <pre>{@code
+ * WriteBehindQueue queue = new WriteBehindQueue.Builder()
+ *         .debounceWindow(1000)
+ *         .build();
+ * PendingWrite write = queue.saveObject(settings, path).getResult();
+ * ...
+ * queue.flush();
+ * }</pre>
+ * <p>Only the last object queued for every path is kept. It's written with
+ * {@link MemoryUtil#saveObject(Object, String, WriteOptions)} once no other object has been
+ * queued for the path during the debounce window, or once the maximum delay has elapsed since the
+ * first object still pending was queued, so a path saved without pause is still written
+ * regularly. Writes to the same path are never done at the same time, and an object queued while
+ * its path is being written is written after it. The objects are serialized when written, not
+ * when queued, so they must not be modified in the meantime.</p>
+ * <p>Writes are done by a background thread shared by every queue. Call {@link #flush()} to write
+ * every pending object right away, for instance when the app goes to the background, since
+ * objects still pending are lost if the process dies. Instances are thread safe.</p>
+ */
+public class WriteBehindQueue {
+
+    /** Default milliseconds a path must go without saves before its object is written. */
+    public static final long DEFAULT_DEBOUNCE_WINDOW = 500;
+
+    /** Default maximum milliseconds an object waits to be written. */
+    public static final long DEFAULT_MAX_DELAY = 5000;
+
+    private static final String CANNOT_SAVE_OBJECT = "Cannot %1$s because saving it failed.";
+    private static final String OBJECT_QUEUED = "Object was queued to be saved to %1$s.";
+    private static final String QUEUE_CLOSED = "Cannot %1$s because the queue is closed.";
+    private static final String SAVE_OBJECT_LATER = "save object to %1$s later";
+
+    private static final Object SCHEDULER_LOCK = new Object();
+    private static ScheduledExecutorService scheduler;
+    private static WriteBehindQueue defaultQueue;
+
+    private final long debounceWindow;
+    private final long maxDelay;
+    private final Object lock = new Object();
+    private final Map<String, Entry> pending = new HashMap<>();
+    private final Set<String> writing = new HashSet<>();
+    private boolean closed;
+
+
+    private WriteBehindQueue(Builder builder) {
+        this.debounceWindow = builder.debounceWindow;
+        this.maxDelay = builder.maxDelay;
+    }
+
+
+    /**
+     * Returns the queue used by {@code MemoryUtil.saveObjectLater()}, which has the default
+     * settings and is never closed.
+     */
+    @NonNull
+    static WriteBehindQueue getDefault() {
+        synchronized (SCHEDULER_LOCK) {
+            if (defaultQueue == null) {
+                defaultQueue = new Builder().build();
+            }
+            return defaultQueue;
+        }
+    }
+
+
+    /**
+     * Queues {@code object} to be saved to {@code destinationPath} with the default
+     * {@link WriteOptions}. See {@link #saveObject(Object, String, WriteOptions)}.
+     */
+    public Result<PendingWrite> saveObject(@NonNull Object object,
+                                           @NonNull String destinationPath) {
+        return saveObject(object, destinationPath, null);
+    }
+
+
+    /**
+     * Queues {@code object} to be saved to {@code destinationPath} following {@code options},
+     * replacing any object still pending for that path. The folders to the path must exist when
+     * the object is written.
+     *
+     * @param object          Object to save.
+     * @param destinationPath Path in the device where the object will be saved.
+     * @param options         How to write the file. Pass {@code null} to use the default ones, see
+     *                        {@link MemoryUtil#setDefaultWriteOptions(WriteOptions)}.
+     * @return A {@code Result<PendingWrite>} containing the handle telling when and how the save
+     * ends, or {@code null} if the object can't be saved or the queue is closed.
+     */
+    public Result<PendingWrite> saveObject(@NonNull Object object, @NonNull String destinationPath,
+                                           @Nullable WriteOptions options) {
+
+        Result<PendingWrite> result;
+
+        ValidationInfoInterface info = Validator.validateSaveObject(object, destinationPath);
+        if (!info.isValid()) {
+            result = reportInvalidParameter(info);
+        } else {
+            PendingWrite write = enqueue(object, destinationPath, options);
+            result = write == null ?
+                    Result.<PendingWrite>createNoExceptionResult(QUEUE_CLOSED,
+                            StringUtil.format(SAVE_OBJECT_LATER, destinationPath)) :
+                    Result.createSuccessfulResult(write, OBJECT_QUEUED, destinationPath);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Writes every object pending right away and waits until they, and those being written, are
+     * written. Objects queued meanwhile may be written too.
+     *
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    public void flush() throws InterruptedException {
+
+        Set<String> keys;
+
+        synchronized (lock) {
+            keys = new HashSet<>(pending.keySet());
+            keys.addAll(writing);
+        }
+
+        for (String key : keys) {
+            write(key, true);
+        }
+    }
+
+
+    /**
+     * Returns the amount of paths with an object waiting to be written.
+     */
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+
+    /**
+     * Stops accepting objects and writes those still pending, waiting until they are written.
+     *
+     * @throws InterruptedException If the calling thread is interrupted while waiting. Pending
+     *                              objects are still written in the background.
+     */
+    public void close() throws InterruptedException {
+        synchronized (lock) {
+            closed = true;
+        }
+        flush();
+    }
+
+
+    /**
+     * Adds {@code object} to the queue and schedules its write.
+     *
+     * @return The handle of the save or {@code null} if the queue is closed.
+     */
+    @Nullable
+    private PendingWrite enqueue(@NonNull Object object, @NonNull String destinationPath,
+                                 @Nullable WriteOptions options) {
+
+        PendingWrite write = null;
+        String key = new File(destinationPath).getAbsolutePath();
+        long now = now();
+
+        synchronized (lock) {
+            if (!closed) {
+                Entry entry = pending.get(key);
+                if (entry == null) {
+                    entry = new Entry(now + maxDelay);
+                    pending.put(key, entry);
+                }
+                write = new PendingWrite();
+                entry.object = object;
+                entry.path = destinationPath;
+                entry.options = options;
+                entry.writes.add(write);
+                entry.due = Math.min(now + debounceWindow, entry.deadline);
+                if (!writing.contains(key)) {
+                    schedule(key, entry, now);
+                }
+            }
+        }
+
+        return write;
+    }
+
+
+    /**
+     * Writes the object pending for {@code key}, if any, unless it's being written already.
+     *
+     * @param key  Absolute path of the file.
+     * @param wait {@code true} to wait until the file isn't being written instead of returning.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    private void write(@NonNull String key, boolean wait) throws InterruptedException {
+
+        Entry entry = null;
+
+        synchronized (lock) {
+            while (wait && writing.contains(key)) {
+                lock.wait();
+            }
+            if (!writing.contains(key)) {
+                entry = pending.remove(key);
+            }
+            if (entry != null) {
+                if (entry.task != null) {
+                    entry.task.cancel(false);
+                }
+                writing.add(key);
+            }
+        }
+
+        if (entry != null) {
+            Result<File> result = null;
+            try {
+                result = MemoryUtil.saveObject(entry.object, entry.path, entry.options);
+            } catch (RuntimeException e) {
+                result = Result.createUnsuccessfulResult(CANNOT_SAVE_OBJECT, e,
+                        StringUtil.format(SAVE_OBJECT_LATER, entry.path));
+            } finally {
+                synchronized (lock) {
+                    writing.remove(key);
+                    Entry next = pending.get(key);
+                    if (next != null) {
+                        schedule(key, next, now());
+                    }
+                    lock.notifyAll();
+                }
+
+                // Errors are still thrown, but nobody must wait forever for the write
+                if (result == null) {
+                    result = Result.createNoExceptionResult(CANNOT_SAVE_OBJECT,
+                            StringUtil.format(SAVE_OBJECT_LATER, entry.path));
+                }
+                int last = entry.writes.size() - 1;
+                for (int i = 0; i <= last; i++) {
+                    entry.writes.get(i).complete(result, i != last);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Schedules the write of {@code entry}, replacing the one scheduled before. Must be called
+     * holding {@link #lock}.
+     */
+    private void schedule(@NonNull String key, @NonNull Entry entry, long now) {
+        if (entry.task != null) {
+            entry.task.cancel(false);
+        }
+        entry.task = getScheduler().schedule(new WriteTask(key), Math.max(0, entry.due - now),
+                TimeUnit.MILLISECONDS);
+    }
+
+
+    private static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+
+    private static ScheduledExecutorService getScheduler() {
+        synchronized (SCHEDULER_LOCK) {
+            if (scheduler == null) {
+                scheduler = IoExecutors.newScheduledExecutor();
+            }
+            return scheduler;
+        }
+    }
+
+
+    private static <T> Result<T> reportInvalidParameter(ValidationInfoInterface validationInfo) {
+        ExceptionManager.throwValidationInfoException(validationInfo);
+        return Result.createInfoResult(validationInfo);
+    }
+
+
+    /**
+     * The object pending for a path, together with the saves it replaced.
+     */
+    private static class Entry {
+
+        final long deadline;
+        final List<PendingWrite> writes = new ArrayList<>();
+        Object object;
+        String path;
+        WriteOptions options;
+        long due;
+        ScheduledFuture<?> task;
+
+        Entry(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+
+    private class WriteTask implements Runnable {
+
+        private final String key;
+
+        WriteTask(@NonNull String key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            try {
+                write(key, false);
+            } catch (InterruptedException e) {
+                // Never thrown, since write() doesn't wait
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    public static class Builder {
+
+        private long debounceWindow = DEFAULT_DEBOUNCE_WINDOW;
+        private long maxDelay = DEFAULT_MAX_DELAY;
+
+
+        /**
+         * Sets the milliseconds a path must go without saves before its object is written. Longer
+         * windows save more writes but leave objects pending for longer.
+         *
+         * @param milliseconds The window. It's {@link #DEFAULT_DEBOUNCE_WINDOW} by default.
+         *                     Negative values are treated as 0.
+         */
+        public Builder debounceWindow(long milliseconds) {
+            this.debounceWindow = Math.max(0, milliseconds);
+            return this;
+        }
+
+
+        /**
+         * Sets the maximum milliseconds an object waits to be written, even if its path keeps
+         * being saved, as long as the path isn't being written already.
+         *
+         * @param milliseconds The maximum. It's {@link #DEFAULT_MAX_DELAY} by default. Negative
+         *                     values are treated as 0.
+         */
+        public Builder maxDelay(long milliseconds) {
+            this.maxDelay = Math.max(0, milliseconds);
+            return this;
+        }
+
+
+        public WriteBehindQueue build() {
+            return new WriteBehindQueue(this);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+
+import java.util.zip.Deflater;
+
+/**
+ * Tells the save methods of {@link MemoryUtil} how to write a file. Create it with a
+ * {@link Builder}:
+ * <pre>{@code
+ * WriteOptions options = new WriteOptions.Builder()
+ *         .atomic(true)
+ *         .durability(WriteOptions.Durability.DATA)
+ *         .build();
+ * MemoryUtil.saveObject(object, path, options);
+ * }</pre>
+ * {@code WriteOptions} are immutable, so the same instance can be shared by any amount of calls.
+ */
+public class WriteOptions {
+
+    /**
+     * How sure you want to be that the written bytes reached the storage before the save method
+     * returns.
+     */
+    public enum Durability {
+
+        /**
+         * Nothing is synced. The bytes are left to the operating system, which writes them when
+         * it sees fit. It's the fastest option, but a power loss may lose the last writes.
+         */
+        NONE,
+
+        /**
+         * The content of the file is synced before returning, but not necessarily its metadata,
+         * such as its modification time.
+         */
+        DATA,
+
+        /**
+         * The content and the metadata of the file are synced before returning, and so is the
+         * folder containing it if the file was created or renamed, so the file can be found after
+         * a power loss. Syncing folders requires Lollipop or newer.
+         */
+        FULL,
+
+        /**
+         * Like {@link #DATA}, but writes to the same file that ask for a sync while another one
+         * is being synced are synced together once it ends, with a single sync. A write alone
+         * syncs right away. Use it when several threads write to the same file at the same time,
+         * as {@link ObjectStore} and {@link TextAppender} let them do.
+         */
+        GROUP_COMMIT
+    }
+
+
+    /** Compression level that leaves the content uncompressed. */
+    public static final int NO_COMPRESSION = Deflater.NO_COMPRESSION;
+
+    /**
+     * Non atomic writes that aren't synced. They are used when no options are specified unless
+     * others are set with {@link MemoryUtil#setDefaultWriteOptions(WriteOptions)}.
+     */
+    public static final WriteOptions DEFAULT = new Builder().build();
+
+    private final boolean atomic;
+    private final Durability durability;
+    private final int compressionLevel;
+    private final boolean skipUnchanged;
+
+
+    private WriteOptions(Builder builder) {
+        this.atomic = builder.atomic;
+        this.durability = builder.durability;
+        this.compressionLevel = builder.compressionLevel;
+        this.skipUnchanged = builder.skipUnchanged;
+    }
+
+
+    /**
+     * Tells whether the content is written to a temporary file that replaces the destination file
+     * only when it is complete.
+     */
+    public boolean isAtomic() {
+        return atomic;
+    }
+
+
+    /**
+     * Returns the durability to guarantee before returning.
+     */
+    @NonNull
+    public Durability getDurability() {
+        return durability;
+    }
+
+
+    /**
+     * Returns the level saved objects are compressed with, or {@link #NO_COMPRESSION}.
+     */
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+
+    /**
+     * Tells whether files that already hold the content to save are left untouched.
+     */
+    public boolean shouldSkipUnchanged() {
+        return skipUnchanged;
+    }
+
+
+    public static class Builder {
+
+        private boolean atomic;
+        private Durability durability = Durability.NONE;
+        private int compressionLevel = NO_COMPRESSION;
+        private boolean skipUnchanged;
+
+
+        /**
+         * Creates a builder with the values of {@link WriteOptions#DEFAULT}.
+         */
+        public Builder() {
+        }
+
+
+        /**
+         * Creates a builder with the values of {@code options}.
+         *
+         * @param options Options to start from.
+         */
+        public Builder(@NonNull WriteOptions options) {
+            this.atomic = options.atomic;
+            this.durability = options.durability;
+            this.compressionLevel = options.compressionLevel;
+            this.skipUnchanged = options.skipUnchanged;
+        }
+
+
+        /**
+         * Sets whether the content is written to a temporary file in the same folder that is
+         * renamed over the destination file only when it is complete. If the write fails or the
+         * app dies while writing, the previous version of the file is kept untouched.
+         *
+         * @param atomic {@code true} to write atomically. It's {@code false} by default.
+         */
+        public Builder atomic(boolean atomic) {
+            this.atomic = atomic;
+            return this;
+        }
+
+
+        /**
+         * Sets the durability to guarantee before returning. In atomic writes, the temporary file
+         * is synced before being renamed, so use {@link Durability#DATA} or stronger to be sure
+         * the renamed file is never empty after a power loss.
+         *
+         * @param durability The durability. It's {@link Durability#NONE} by default.
+         */
+        public Builder durability(@NonNull Durability durability) {
+            this.durability = durability;
+            return this;
+        }
+
+
+        /**
+         * Sets the level {@link MemoryUtil#saveObject(Object, String, WriteOptions)} compresses
+         * objects with using deflate. Compressed files are marked as such and decompressed by
+         * {@code loadObject()} without any further setting. Other kinds of files are never
+         * compressed.
+         *
+         * @param level From {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}, or
+         *              {@link Deflater#DEFAULT_COMPRESSION}. It's {@link #NO_COMPRESSION} by
+         *              default. Values out of range are clamped.
+         */
+        public Builder compressionLevel(int level) {
+            this.compressionLevel = level == Deflater.DEFAULT_COMPRESSION ?
+                    level : Math.max(NO_COMPRESSION, Math.min(Deflater.BEST_COMPRESSION, level));
+            return this;
+        }
+
+
+        /**
+         * Sets whether {@link MemoryUtil#saveObject(Object, String, WriteOptions)} and
+         * {@link MemoryUtil#saveByteArray(byte[], String, WriteOptions)} compare the content to
+         * save with the one of the destination file and, if they are the same, return straight
+         * away without writing anything, telling so through {@link Result#isUnchanged()}. Use it
+         * for files saved again and again with the same content, such as settings, to save the
+         * writes and the wear of the storage.
+         * <p>The content is hashed before saving, and objects are serialized to memory first to do
+         * so. The fingerprints of the files saved are kept in memory, so the destination file is
+         * only read when its fingerprint isn't known and it has the length of the content.</p>
+         *
+         * @param skipUnchanged {@code true} to skip unchanged files. It's {@code false} by
+         *                      default.
+         */
+        public Builder skipUnchanged(boolean skipUnchanged) {
+            this.skipUnchanged = skipUnchanged;
+            return this;
+        }
+
+
+        public WriteOptions build() {
+            return new WriteOptions(this);
+        }
+    }
+}
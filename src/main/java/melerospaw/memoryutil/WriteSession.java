@@ -0,0 +1,188 @@
+package melerospaw.memoryutil;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * Writes a file following some {@link WriteOptions}. Call {@link #open(boolean)} to get the stream
+ * to write to, and then {@link #commit()} once everything has been written or {@link #abort()} if
+ * writing failed.
+ * <p>In atomic sessions, the stream points to a hidden temporary file in the destination folder
+ * that {@link #commit()} renames over the destination file. A rename within the same folder
+ * either happens completely or doesn't happen at all, so the destination file always holds either
+ * the previous version or the new one.</p>
+ */
+class WriteSession {
+
+    static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private static volatile WriteOptions defaultOptions = WriteOptions.DEFAULT;
+
+    private final File destinationFile;
+    private final WriteOptions options;
+    private final boolean existedBefore;
+    private File temporaryFile;
+    private FileOutputStream stream;
+    private boolean committed;
+
+
+    /**
+     * @param destinationFile File to be written.
+     * @param options         How to write it. Pass {@code null} to use the default options.
+     */
+    WriteSession(@NonNull File destinationFile, @Nullable WriteOptions options) {
+        this.destinationFile = destinationFile.getAbsoluteFile();
+        this.options = options != null ? options : defaultOptions;
+        this.existedBefore = destinationFile.exists();
+    }
+
+
+    /**
+     * Opens the stream to write to.
+     *
+     * @param append Pass {@code true} to keep the current content of the destination file and
+     *               write after it.
+     * @return The stream. Don't close it, {@link #commit()} and {@link #abort()} will.
+     * @throws FileNotFoundException If the folder containing the destination file doesn't exist.
+     * @throws IOException           If the current content cannot be copied to the temporary file
+     *                               to append to it.
+     */
+    @NonNull
+    FileOutputStream open(boolean append) throws IOException {
+
+        if (options.isAtomic()) {
+            temporaryFile = createTemporaryFile();
+            if (append && destinationFile.isFile()) {
+                CopyEngine.copyFile(destinationFile, temporaryFile);
+            }
+            stream = new FileOutputStream(temporaryFile, true);
+        } else {
+            stream = new FileOutputStream(destinationFile, append);
+        }
+
+        return stream;
+    }
+
+
+    /**
+     * Returns the options the file is written with, which are the default ones if none were
+     * given.
+     */
+    @NonNull
+    WriteOptions getOptions() {
+        return options;
+    }
+
+
+    /**
+     * Sets the options used by sessions created without options.
+     *
+     * @param options The options. Pass {@code null} to go back to {@link WriteOptions#DEFAULT}.
+     */
+    static void setDefaultOptions(@Nullable WriteOptions options) {
+        defaultOptions = options != null ? options : WriteOptions.DEFAULT;
+    }
+
+
+    /**
+     * Syncs the written bytes as required by the {@link WriteOptions.Durability}, closes the
+     * stream and, in atomic sessions, renames the temporary file over the destination file.
+     *
+     * @throws IOException If syncing, closing or renaming fails. Call {@link #abort()} then.
+     */
+    void commit() throws IOException {
+
+        stream.flush();
+        sync();
+        stream.close();
+
+        if (temporaryFile != null && !temporaryFile.renameTo(destinationFile)) {
+            throw new IOException("Cannot rename " + temporaryFile.getPath() + " to "
+                    + destinationFile.getPath());
+        }
+
+        committed = true;
+
+        // The new name, or the new file, is an entry of the folder
+        if (options.getDurability() == WriteOptions.Durability.FULL
+                && (temporaryFile != null || !existedBefore)) {
+            IOUtil.syncFolder(destinationFile.getParentFile());
+        }
+    }
+
+
+    /**
+     * Closes the stream and deletes the temporary file, if any.
+     */
+    void abort() {
+        IOUtil.closeQuietly(stream);
+        if (temporaryFile != null) {
+            temporaryFile.delete();
+        }
+    }
+
+
+    /**
+     * Tells whether the destination file existed before this session and still holds its
+     * previous content because the session was not committed and either it was atomic or the
+     * stream was never opened.
+     */
+    boolean isPreviousVersionKept() {
+        return existedBefore && !committed && (options.isAtomic() || stream == null);
+    }
+
+
+    private File createTemporaryFile() throws FileNotFoundException {
+
+        File folder = destinationFile.getParentFile();
+        File temporary;
+
+        try {
+            temporary = File.createTempFile("." + destinationFile.getName() + ".",
+                    TEMPORARY_EXTENSION, folder);
+        } catch (IOException e) {
+            FileNotFoundException notFound = new FileNotFoundException(
+                    "Cannot create a temporary file in " + folder);
+            notFound.initCause(e);
+            throw notFound;
+        }
+
+        return temporary;
+    }
+
+
+    private void sync() throws IOException {
+        sync(stream.getChannel(), options.getDurability());
+    }
+
+
+    /**
+     * Syncs the content written to {@code channel} as required by {@code durability}.
+     *
+     * @param channel    Channel to the file that was written.
+     * @param durability The durability to guarantee.
+     * @throws IOException If syncing fails.
+     */
+    static void sync(@NonNull FileChannel channel, @NonNull WriteOptions.Durability durability)
+            throws IOException {
+        switch (durability) {
+            case DATA:
+                channel.force(false);
+                break;
+            case FULL:
+                channel.force(true);
+                break;
+            case GROUP_COMMIT:
+                GroupCommitter.sync(channel);
+                break;
+            default:
+                break;
+        }
+    }
+}